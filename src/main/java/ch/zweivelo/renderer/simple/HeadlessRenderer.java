@@ -0,0 +1,262 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorCache;
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.Aov;
+import ch.zweivelo.renderer.simple.images.AovBuffer;
+import ch.zweivelo.renderer.simple.images.Denoiser;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ImageWriter;
+import ch.zweivelo.renderer.simple.images.PfmWriter;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.preview.PreviewServer;
+import ch.zweivelo.renderer.simple.renderers.BatchRenderer;
+import ch.zweivelo.renderer.simple.renderers.PosterRenderer;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.renderers.TileListener;
+import ch.zweivelo.renderer.simple.renderers.View;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Plain command line entry point for short batch renders. Unlike {@link SimpleRenderer} no application context is
+ * started, camera, scene and render engine are wired by hand. Options:<br>
+ * --width=&lt;pixels&gt; (default 640)<br>
+ * --height=&lt;pixels&gt; (default 480)<br>
+ * --accelerator=&lt;{@link AcceleratorType}&gt; (default BOUNDING_VOLUME_HIERARCHY)<br>
+ * --accelerator-cache=&lt;directory&gt; (default none), keeps the built accelerator in this directory for the next
+ * run<br>
+ * --tone-mapping=&lt;{@link ToneMapping}&gt; (default CLAMP)<br>
+ * --path-tracing=&lt;true|false&gt; (default false), traces the box with a {@link PathTracer} instead of showing the
+ * colors of the shapes<br>
+ * --samples=&lt;count&gt; (default 1), samples per pixel<br>
+ * --denoise=&lt;true|false&gt; (default false), filters the render with the {@link Denoiser}, e.g. a path traced
+ * render with few samples, not supported with the pixel file or several views<br>
+ * --aovs=&lt;comma separated {@link Aov}s&gt; (default none), written as PFM files next to the output<br>
+ * --pixel-file=&lt;file&gt; (default none), renders out of core through this file, the output must be a PNG and
+ * output variables are not supported<br>
+ * --views=&lt;count&gt; (default 1), renders the box from this many angles between -30 and 30 degrees in one
+ * batch, written next to the output with the view index appended to the name, output variables and the pixel file
+ * are not supported<br>
+ * --preview=&lt;port&gt; (default none), streams the tiles of the render to a {@link PreviewServer} on this port
+ * of the loopback address until the image is written, port 0 picks a free port, not supported with the pixel file
+ * or several views<br>
+ * --output=&lt;file&gt; (default cornell-box.png)
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class HeadlessRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(HeadlessRenderer.class);
+
+    /** Background of path traced renders. */
+    private static final Color SKY = new Color(.8d, .9d, 1d);
+
+    private int width = 640;
+    private int height = 480;
+    private AcceleratorType acceleratorType = AcceleratorType.BOUNDING_VOLUME_HIERARCHY;
+    private ToneMapping toneMapping = ToneMapping.CLAMP;
+    private Path output = Paths.get("cornell-box.png");
+    private Set<Aov> aovs = EnumSet.noneOf(Aov.class);
+    private Path pixelFile;
+    private Path acceleratorCache;
+    private int views = 1;
+    private Integer previewPort;
+    private boolean pathTracing;
+    private int samples = 1;
+    private boolean denoise;
+
+    public static void main(String... arguments) throws IOException, InterruptedException {
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        renderer.parse(arguments);
+        renderer.run();
+    }
+
+    void parse(final String... arguments) {
+        for (String argument : arguments) {
+            int separator = argument.indexOf('=');
+            if (!argument.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --<option>=<value> but got " + argument);
+            }
+            String value = argument.substring(separator + 1);
+            switch (argument.substring(2, separator)) {
+                case "width":
+                    width = Integer.parseInt(value);
+                    break;
+                case "height":
+                    height = Integer.parseInt(value);
+                    break;
+                case "accelerator":
+                    acceleratorType = AcceleratorType.valueOf(value);
+                    break;
+                case "accelerator-cache":
+                    acceleratorCache = Paths.get(value);
+                    break;
+                case "tone-mapping":
+                    toneMapping = ToneMapping.valueOf(value);
+                    break;
+                case "aovs":
+                    aovs = EnumSet.noneOf(Aov.class);
+                    for (String aov : value.split(",")) {
+                        aovs.add(Aov.valueOf(aov.trim()));
+                    }
+                    break;
+                case "pixel-file":
+                    pixelFile = Paths.get(value);
+                    break;
+                case "views":
+                    views = Integer.parseInt(value);
+                    break;
+                case "preview":
+                    previewPort = Integer.parseInt(value);
+                    break;
+                case "path-tracing":
+                    pathTracing = Boolean.parseBoolean(value);
+                    break;
+                case "samples":
+                    samples = Integer.parseInt(value);
+                    break;
+                case "denoise":
+                    denoise = Boolean.parseBoolean(value);
+                    break;
+                case "output":
+                    output = Paths.get(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unknown option " + argument);
+            }
+        }
+    }
+
+    void run() throws IOException, InterruptedException {
+        if (views > 1 && (!aovs.isEmpty() || pixelFile != null)) {
+            throw new IllegalArgumentException("Several views support neither output variables nor a pixel file");
+        }
+        if (previewPort != null && (views > 1 || pixelFile != null)) {
+            throw new IllegalArgumentException("The preview only supports single views rendered in memory");
+        }
+        if (denoise && (views > 1 || pixelFile != null)) {
+            throw new IllegalArgumentException("Only single views rendered in memory can be denoised");
+        }
+
+        Scene scene = CornellBox.createScene(acceleratorType,
+                acceleratorCache == null ? null : new AcceleratorCache(acceleratorCache));
+        Camera camera = CornellBox.createCamera((double) width / height);
+        RenderEngine renderEngine = new RenderEngine(
+                pathTracing ? new PathTracer(SKY) : new ColorIntegrator(), RenderEngine.DEFAULT_TILE_SIZE, samples);
+
+        /* trace a single ray up front to report the time until the renderer is actually able to work */
+        scene.findClosestCollision(camera.createRayFor(new Vector2D(.5d, .5d)));
+        LOGGER.info("First ray traced {} ms after JVM start", ManagementFactory.getRuntimeMXBean().getUptime());
+
+        if (views > 1) {
+            String fileName = output.getFileName().toString();
+            int extension = fileName.contains(".") ? fileName.lastIndexOf('.') : fileName.length();
+            List<View> batch = new ArrayList<>();
+            for (int i = 0; i < views; i++) {
+                batch.add(new View(CornellBox.createCamera((double) width / height, -30d + 60d * i / (views - 1)),
+                        width, height));
+            }
+            new BatchRenderer(renderEngine, new ToneMapper(toneMapping)).render(scene, batch,
+                    view -> output.resolveSibling(
+                            fileName.substring(0, extension) + "-" + view + fileName.substring(extension)));
+            LOGGER.info("{} views written next to {}, {} ms after JVM start", views, output,
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+            return;
+        }
+
+        if (pixelFile != null) {
+            new PosterRenderer(renderEngine, new ToneMapper(toneMapping))
+                    .render(scene, camera, width, height, pixelFile, output);
+            LOGGER.info("Image written to {}, {} ms after JVM start", output,
+                    ManagementFactory.getRuntimeMXBean().getUptime());
+            return;
+        }
+
+        if (previewPort == null) {
+            render(scene, camera, renderEngine, null);
+        } else {
+            try (PreviewServer previewServer = new PreviewServer(
+                    new InetSocketAddress(InetAddress.getLoopbackAddress(), previewPort),
+                    new ToneMapper(toneMapping))) {
+                render(scene, camera, renderEngine, previewServer);
+            }
+        }
+        LOGGER.info("Image written to {}, {} ms after JVM start", output,
+                ManagementFactory.getRuntimeMXBean().getUptime());
+    }
+
+    /**
+     * @param previewServer Receives the tiles of the render and is told once the image is written, null for none
+     */
+    private void render(final Scene scene, final Camera camera, final RenderEngine renderEngine,
+                        final PreviewServer previewServer) throws IOException {
+        long start = System.nanoTime();
+        FrameBuffer frameBuffer = new FrameBuffer(width, height);
+        AovBuffer aovBuffer = new AovBuffer(width, height, aovs);
+        if (previewServer == null) {
+            renderEngine.render(scene, camera, frameBuffer, aovBuffer);
+        } else {
+            previewServer.start(frameBuffer);
+            renderEngine.render(scene, camera, frameBuffer, aovBuffer, previewServer);
+        }
+        LOGGER.info("Rendered {}x{} pixels in {} ms", width, height, (System.nanoTime() - start) / 1000000L);
+
+        if (denoise) {
+            start = System.nanoTime();
+            renderEngine.denoise(scene, camera, frameBuffer, new Denoiser(),
+                    previewServer == null ? TileListener.NONE : previewServer);
+            LOGGER.info("Denoised in {} ms", (System.nanoTime() - start) / 1000000L);
+        }
+
+        ImageWriter.write(frameBuffer, output, new ToneMapper(toneMapping));
+        String fileName = output.getFileName().toString();
+        String baseName = fileName.contains(".") ? fileName.substring(0, fileName.lastIndexOf('.')) : fileName;
+        for (Aov aov : aovs) {
+            PfmWriter.write(aovBuffer, aov,
+                    output.resolveSibling(baseName + "-" + aov.name().toLowerCase(Locale.ROOT) + ".pfm"));
+        }
+        if (previewServer != null) {
+            previewServer.finish();
+        }
+    }
+
+}
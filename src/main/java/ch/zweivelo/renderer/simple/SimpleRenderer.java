@@ -16,13 +16,18 @@
 
 package ch.zweivelo.renderer.simple;
 
+import ch.zweivelo.renderer.simple.spring.RenderJob;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
 
 /**
- * Spring boot application for starting up the renderer.
+ * Spring boot application for starting up the renderer. Renders the configured {@link RenderJob} and exits, or with
+ * <code>preview.enabled</code> keeps streaming the image to preview clients until it is stopped.
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -33,14 +38,22 @@ public class SimpleRenderer {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SimpleRenderer.class);
 
-    public static void main(String... arguments) {
+    public static void main(String... arguments) throws IOException {
 
-        SpringApplication.run(SimpleRenderer.class, arguments);
+        ConfigurableApplicationContext context = SpringApplication.run(SimpleRenderer.class, arguments);
 
         LOGGER.info("Starting SimpleRenderer");
 
+        RenderJob renderJob = context.getBean(RenderJob.class);
+        renderJob.render();
 
-        LOGGER.info("SimpleRenderer finished");
+        if (renderJob.isPreviewed()) {
+            /* the context is closed by the shutdown hook, the preview server keeps the application running */
+            LOGGER.info("SimpleRenderer finished, the preview is served until the application is stopped");
+        } else {
+            LOGGER.info("SimpleRenderer finished");
+            context.close();
+        }
     }
 
 }
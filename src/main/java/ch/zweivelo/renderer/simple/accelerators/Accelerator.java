@@ -0,0 +1,50 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Spatial structure answering closest hit queries for a fixed set of shapes.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public interface Accelerator {
+
+    /**
+     * @param ray The ray to trace
+     * @return The collision with the smallest valid distance along the ray, if any
+     */
+    Optional<CollisionInformation> findClosestCollision(Ray ray);
+
+    /**
+     * Create an accelerator for moved shapes of an unchanged topology, i.e. the same number of shapes in the same
+     * order. The current accelerator stays untouched and may still be queried while the refit runs.
+     *
+     * @param shapes The moved shapes
+     * @return An accelerator containing the given shapes
+     */
+    Accelerator refit(List<Shape> shapes);
+
+}
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Keeps built bounding volume hierarchies and uniform grids in files, so repeated renders of a large static scene
+ * skip the build. A structure only depends on the bounds of the shapes and their order, the cache key is therefore
+ * a SHA-256 hash of the accelerator type and all shape bounds; any change of the geometry leads to a new key and a
+ * new build. The files hold a header of magic number, format version and key followed by the flat arrays of the
+ * structure, each prefixed by its length. They are mapped with {@link FileChannel#map} and the arrays copied out in
+ * bulk. Caching is best effort: an unreadable or unwritable cache file only costs the build.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AcceleratorCache {
+
+    public static final int MAGIC = 0x53524143;
+    public static final int VERSION = 1;
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcceleratorCache.class);
+
+    private static final int KEY_BYTES = 32;
+    private static final int HEADER_BYTES = 8 + KEY_BYTES;
+
+    /** Number of shapes hashed from one buffer. */
+    private static final int HASH_CHUNK = 1024;
+
+    private final Path directory;
+
+    /**
+     * @param directory The directory holding the cache files, created on the first write
+     */
+    public AcceleratorCache(final Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Read the accelerator of the shapes from the cache or build and store it.
+     */
+    public Accelerator build(final AcceleratorType type, final List<Shape> shapes) {
+        if (type != AcceleratorType.BOUNDING_VOLUME_HIERARCHY && type != AcceleratorType.UNIFORM_GRID) {
+            return type.build(shapes);
+        }
+
+        long start = System.nanoTime();
+        Shape[] shapeArray = shapes.toArray(new Shape[shapes.size()]);
+        byte[] key = createKey(type, shapeArray);
+        Path file = getFile(type, key);
+
+        if (Files.isRegularFile(file)) {
+            try {
+                Accelerator accelerator = read(type, shapeArray, key, file);
+                LOGGER.info("Read {} of {} shapes from {} in {} ms", type, shapeArray.length, file,
+                        (System.nanoTime() - start) / 1000000L);
+                return accelerator;
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Ignoring unreadable cache file " + file, e);
+            }
+        }
+
+        Accelerator accelerator = type.build(shapes);
+        LOGGER.info("Built {} of {} shapes in {} ms", type, shapeArray.length, (System.nanoTime() - start) / 1000000L);
+        try {
+            write(accelerator, key, file);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not write cache file " + file, e);
+        }
+        return accelerator;
+    }
+
+    /**
+     * @return The cache file of the given shapes, it does not need to exist
+     */
+    public Path getFile(final AcceleratorType type, final List<Shape> shapes) {
+        return getFile(type, createKey(type, shapes.toArray(new Shape[shapes.size()])));
+    }
+
+    private Path getFile(final AcceleratorType type, final byte[] key) {
+        StringBuilder name = new StringBuilder(type.name().toLowerCase(Locale.ROOT).replace('_', '-')).append('-');
+        for (byte b : key) {
+            name.append(String.format("%02x", b));
+        }
+        return directory.resolve(name.append(".accel").toString());
+    }
+
+    private static Accelerator read(final AcceleratorType type, final Shape[] shapes, final byte[] key,
+                                    final Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            byte[] storedKey = new byte[KEY_BYTES];
+            if (buffer.remaining() < HEADER_BYTES || buffer.getInt() != MAGIC || buffer.getInt() != VERSION
+                    || !Arrays.equals(key, readKey(buffer, storedKey))) {
+                throw new IOException(file + " is no cache file of version " + VERSION + " for these shapes");
+            }
+            Accelerator accelerator = type == AcceleratorType.BOUNDING_VOLUME_HIERARCHY
+                    ? new BoundingVolumeHierarchy(shapes, buffer)
+                    : new UniformGrid(shapes, buffer);
+            if (buffer.hasRemaining()) {
+                throw new IOException(file + " has " + buffer.remaining() + " unexpected trailing bytes");
+            }
+            return accelerator;
+        }
+    }
+
+    private static byte[] readKey(final ByteBuffer buffer, final byte[] key) {
+        buffer.get(key);
+        return key;
+    }
+
+    /**
+     * Write to a temporary file first and move it into place, concurrent renders never see a partial file.
+     */
+    private void write(final Accelerator accelerator, final byte[] key, final Path file) throws IOException {
+        long size = HEADER_BYTES + (accelerator instanceof BoundingVolumeHierarchy
+                ? ((BoundingVolumeHierarchy) accelerator).getSerializedSize()
+                : ((UniformGrid) accelerator).getSerializedSize());
+        if (size > Integer.MAX_VALUE) {
+            LOGGER.info("Not caching {} bytes, more than a single mapping holds", size);
+            return;
+        }
+
+        Files.createDirectories(directory);
+        Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+        try {
+            try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0L, size);
+                buffer.putInt(MAGIC).putInt(VERSION).put(key);
+                if (accelerator instanceof BoundingVolumeHierarchy) {
+                    ((BoundingVolumeHierarchy) accelerator).writeTo(buffer);
+                } else {
+                    ((UniformGrid) accelerator).writeTo(buffer);
+                }
+                buffer.force();
+            }
+            Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    /**
+     * Hash the format version, the accelerator type and the bounds of all shapes in their order.
+     */
+    private static byte[] createKey(final AcceleratorType type, final Shape[] shapes) {
+        BoundingBox[] bounds = new BoundingBox[shapes.length];
+        Arrays.parallelSetAll(bounds, index -> shapes[index].getBounds());
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Every JVM provides SHA-256", e);
+        }
+        digest.update(String.format("%d:%s:%d", VERSION, type.name(), shapes.length)
+                .getBytes(StandardCharsets.US_ASCII));
+
+        ByteBuffer buffer = ByteBuffer.allocate(HASH_CHUNK * (1 + 6 * Double.BYTES));
+        for (BoundingBox box : bounds) {
+            if (box.isBounded()) {
+                buffer.put((byte) 1)
+                        .putDouble(box.getMinX()).putDouble(box.getMinY()).putDouble(box.getMinZ())
+                        .putDouble(box.getMaxX()).putDouble(box.getMaxY()).putDouble(box.getMaxZ());
+            } else {
+                buffer.put((byte) 0);
+            }
+            if (buffer.remaining() < 1 + 6 * Double.BYTES) {
+                buffer.flip();
+                digest.update(buffer);
+                buffer.clear();
+            }
+        }
+        buffer.flip();
+        digest.update(buffer);
+        return digest.digest();
+    }
+
+    static long getSize(final int[] values) {
+        return Integer.BYTES + (long) values.length * Integer.BYTES;
+    }
+
+    static long getSize(final double[] values) {
+        return Integer.BYTES + (long) values.length * Double.BYTES;
+    }
+
+    static void putInts(final ByteBuffer buffer, final int[] values) {
+        buffer.putInt(values.length);
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    static void putDoubles(final ByteBuffer buffer, final double[] values) {
+        buffer.putInt(values.length);
+        buffer.asDoubleBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Double.BYTES);
+    }
+
+    static int[] getInts(final ByteBuffer buffer) {
+        int[] values = new int[buffer.getInt()];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+        return values;
+    }
+
+    static double[] getDoubles(final ByteBuffer buffer) {
+        double[] values = new double[buffer.getInt()];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + values.length * Double.BYTES);
+        return values;
+    }
+
+}
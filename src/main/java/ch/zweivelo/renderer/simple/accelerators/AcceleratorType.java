@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.shapes.Shape;
+
+import java.util.List;
+
+/**
+ * The available accelerators.<br>
+ * SHAPE_LIST: brute force, tests every shape<br>
+ * TYPED_SHAPE_LIST: brute force over the shapes grouped by type, keeps the intersection calls monomorphic<br>
+ * UNIFORM_GRID: uniform grid with linear parallel build, suited for scenes changing every frame<br>
+ * BOUNDING_VOLUME_HIERARCHY: hierarchy of bounding boxes, refitted instead of rebuilt for animated shapes
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public enum AcceleratorType {
+
+    SHAPE_LIST(true) {
+        @Override
+        public Accelerator build(final List<Shape> shapes) {
+            return new ShapeList(shapes);
+        }
+    },
+
+    TYPED_SHAPE_LIST(true) {
+        @Override
+        public Accelerator build(final List<Shape> shapes) {
+            return new TypedShapeList(shapes);
+        }
+    },
+
+    UNIFORM_GRID(false) {
+        @Override
+        public Accelerator build(final List<Shape> shapes) {
+            return new UniformGrid(shapes);
+        }
+    },
+
+    BOUNDING_VOLUME_HIERARCHY(false) {
+        @Override
+        public Accelerator build(final List<Shape> shapes) {
+            return new BoundingVolumeHierarchy(shapes);
+        }
+    };
+
+    private final boolean bruteForce;
+
+    AcceleratorType(final boolean bruteForce) {
+        this.bruteForce = bruteForce;
+    }
+
+    /**
+     * @return True if every ray is tested against every shape, the cost of a ray grows linearly with the shapes
+     */
+    public boolean isBruteForce() {
+        return bruteForce;
+    }
+
+    /**
+     * @param shapes The shapes to accelerate
+     * @return A new accelerator containing the given shapes
+     */
+    public abstract Accelerator build(List<Shape> shapes);
+
+}
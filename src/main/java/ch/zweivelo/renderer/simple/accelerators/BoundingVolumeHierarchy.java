@@ -0,0 +1,384 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Bounding volume hierarchy split at the centroid median of the longest axis. The nodes are stored depth first in
+ * flat arrays: the first child of an interior node directly follows its parent, the second child is referenced by
+ * index. Since every child is stored after its parent, a single reverse pass over the nodes refits the bounds of
+ * moved shapes without touching the topology. Unbounded shapes (planes) are kept aside and tested for every ray.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class BoundingVolumeHierarchy implements Accelerator {
+
+    private static final int MAX_SHAPES_PER_LEAF = 4;
+
+    private static final int MAX_DEPTH = 64;
+
+    /** Traversal stack per thread, queries of one thread never nest. */
+    private static final ThreadLocal<int[]> STACKS = ThreadLocal.withInitial(() -> new int[MAX_DEPTH]);
+
+    private final Shape[] shapes;
+    private final int[] unboundedShapes;
+
+    /** Indices of the bounded shapes, ordered such that every leaf references a contiguous range. */
+    private final int[] shapeOrder;
+
+    /** Six values per node: min x, y, z followed by max x, y, z. */
+    private final double[] nodeBounds;
+
+    /** Leaf: first position in {@link #shapeOrder}. Interior node: index of the second child. */
+    private final int[] nodeOffsets;
+
+    /** Leaf: number of shapes. Interior node: -(split axis + 1). */
+    private final int[] nodeCounts;
+
+    public BoundingVolumeHierarchy(final List<Shape> shapes) {
+        this.shapes = shapes.toArray(new Shape[shapes.size()]);
+
+        BoundingBox[] bounds = new BoundingBox[this.shapes.length];
+        Arrays.parallelSetAll(bounds, index -> this.shapes[index].getBounds());
+
+        unboundedShapes = IntStream.range(0, bounds.length).filter(index -> !bounds[index].isBounded()).toArray();
+        shapeOrder = IntStream.range(0, bounds.length).filter(index -> bounds[index].isBounded()).toArray();
+
+        double[] centroids = new double[bounds.length * 3];
+        for (int index : shapeOrder) {
+            BoundingBox box = bounds[index];
+            centroids[index * 3] = (box.getMinX() + box.getMaxX()) * .5d;
+            centroids[index * 3 + 1] = (box.getMinY() + box.getMaxY()) * .5d;
+            centroids[index * 3 + 2] = (box.getMinZ() + box.getMaxZ()) * .5d;
+        }
+
+        Builder builder = new Builder(bounds, centroids, shapeOrder);
+        if (shapeOrder.length > 0) {
+            builder.build(0, shapeOrder.length);
+        }
+
+        nodeBounds = Arrays.copyOf(builder.nodeBounds, builder.nodeCount * 6);
+        nodeOffsets = Arrays.copyOf(builder.nodeOffsets, builder.nodeCount);
+        nodeCounts = Arrays.copyOf(builder.nodeCounts, builder.nodeCount);
+    }
+
+    private BoundingVolumeHierarchy(final Shape[] shapes, final BoundingVolumeHierarchy topology,
+                                    final double[] nodeBounds) {
+        this.shapes = shapes;
+        this.unboundedShapes = topology.unboundedShapes;
+        this.shapeOrder = topology.shapeOrder;
+        this.nodeBounds = nodeBounds;
+        this.nodeOffsets = topology.nodeOffsets;
+        this.nodeCounts = topology.nodeCounts;
+    }
+
+    /**
+     * Read a hierarchy written by {@link #writeTo(ByteBuffer)} for the same shapes.
+     */
+    BoundingVolumeHierarchy(final Shape[] shapes, final ByteBuffer buffer) {
+        this.shapes = shapes;
+        this.unboundedShapes = AcceleratorCache.getInts(buffer);
+        this.shapeOrder = AcceleratorCache.getInts(buffer);
+        this.nodeBounds = AcceleratorCache.getDoubles(buffer);
+        this.nodeOffsets = AcceleratorCache.getInts(buffer);
+        this.nodeCounts = AcceleratorCache.getInts(buffer);
+    }
+
+    /**
+     * @return The number of bytes written by {@link #writeTo(ByteBuffer)}
+     */
+    long getSerializedSize() {
+        return AcceleratorCache.getSize(unboundedShapes) + AcceleratorCache.getSize(shapeOrder)
+                + AcceleratorCache.getSize(nodeBounds) + AcceleratorCache.getSize(nodeOffsets)
+                + AcceleratorCache.getSize(nodeCounts);
+    }
+
+    /**
+     * Write the hierarchy without its shapes.
+     */
+    void writeTo(final ByteBuffer buffer) {
+        AcceleratorCache.putInts(buffer, unboundedShapes);
+        AcceleratorCache.putInts(buffer, shapeOrder);
+        AcceleratorCache.putDoubles(buffer, nodeBounds);
+        AcceleratorCache.putInts(buffer, nodeOffsets);
+        AcceleratorCache.putInts(buffer, nodeCounts);
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        ClosestHit hit = new ClosestHit(shapes, ray);
+
+        for (int index : unboundedShapes) {
+            hit.test(index);
+        }
+
+        if (nodeCounts.length > 0) {
+            traverse(ray, hit);
+        }
+
+        return hit.toCollisionInformation();
+    }
+
+    /**
+     * Reuse the topology of this hierarchy and recompute the node bounds bottom up. If the number of shapes or the
+     * set of unbounded shapes changed, a new hierarchy is built instead.
+     */
+    @Override
+    public Accelerator refit(final List<Shape> shapes) {
+        if (shapes.size() != this.shapes.length) {
+            return new BoundingVolumeHierarchy(shapes);
+        }
+
+        Shape[] moved = shapes.toArray(new Shape[shapes.size()]);
+        BoundingBox[] bounds = new BoundingBox[moved.length];
+        Arrays.parallelSetAll(bounds, index -> moved[index].getBounds());
+
+        for (int index : unboundedShapes) {
+            if (bounds[index].isBounded()) {
+                return new BoundingVolumeHierarchy(shapes);
+            }
+        }
+        for (int index : shapeOrder) {
+            if (!bounds[index].isBounded()) {
+                return new BoundingVolumeHierarchy(shapes);
+            }
+        }
+
+        double[] refitted = new double[nodeBounds.length];
+        for (int node = nodeCounts.length - 1; node >= 0; node--) {
+            int offset = node * 6;
+            if (nodeCounts[node] > 0) {
+                empty(refitted, offset);
+                for (int i = nodeOffsets[node]; i < nodeOffsets[node] + nodeCounts[node]; i++) {
+                    include(refitted, offset, bounds[shapeOrder[i]]);
+                }
+            } else {
+                int first = (node + 1) * 6;
+                int second = nodeOffsets[node] * 6;
+                for (int axis = 0; axis < 3; axis++) {
+                    refitted[offset + axis] = min(refitted[first + axis], refitted[second + axis]);
+                    refitted[offset + axis + 3] = max(refitted[first + axis + 3], refitted[second + axis + 3]);
+                }
+            }
+        }
+
+        return new BoundingVolumeHierarchy(moved, this, refitted);
+    }
+
+    public int getNodeCount() {
+        return nodeCounts.length;
+    }
+
+    private void traverse(final Ray ray, final ClosestHit hit) {
+        Vector3D rayOrigin = ray.getOrigin();
+        Vector3D rayDirection = ray.getDirection();
+        double ox = rayOrigin.getX();
+        double oy = rayOrigin.getY();
+        double oz = rayOrigin.getZ();
+        double ix = 1d / rayDirection.getX();
+        double iy = 1d / rayDirection.getY();
+        double iz = 1d / rayDirection.getZ();
+        double tStart = ray.getInterval().getStart();
+        double tEnd = ray.getInterval().getEnd();
+
+        int[] stack = STACKS.get();
+        int stackSize = 0;
+        int node = 0;
+
+        while (true) {
+            int offset = node * 6;
+            double tx0 = (nodeBounds[offset] - ox) * ix;
+            double tx1 = (nodeBounds[offset + 3] - ox) * ix;
+            double ty0 = (nodeBounds[offset + 1] - oy) * iy;
+            double ty1 = (nodeBounds[offset + 4] - oy) * iy;
+            double tz0 = (nodeBounds[offset + 2] - oz) * iz;
+            double tz1 = (nodeBounds[offset + 5] - oz) * iz;
+            double tNear = max(max(tStart, min(tx0, tx1)), max(min(ty0, ty1), min(tz0, tz1)));
+            double tFar = min(min(min(tEnd, hit.distance), max(tx0, tx1)), min(max(ty0, ty1), max(tz0, tz1)));
+
+            if (!(tNear > tFar)) {
+                int count = nodeCounts[node];
+                if (count > 0) {
+                    for (int i = nodeOffsets[node]; i < nodeOffsets[node] + count; i++) {
+                        hit.test(shapeOrder[i]);
+                    }
+                } else {
+                    /* visit the child on the side the ray comes from first */
+                    int axis = -count - 1;
+                    double direction = axis == 0 ? ix : (axis == 1 ? iy : iz);
+                    if (direction < 0d) {
+                        stack[stackSize++] = node + 1;
+                        node = nodeOffsets[node];
+                    } else {
+                        stack[stackSize++] = nodeOffsets[node];
+                        node = node + 1;
+                    }
+                    continue;
+                }
+            }
+
+            if (stackSize == 0) {
+                return;
+            }
+            node = stack[--stackSize];
+        }
+    }
+
+    private static void empty(final double[] target, final int offset) {
+        for (int axis = 0; axis < 3; axis++) {
+            target[offset + axis] = Double.POSITIVE_INFINITY;
+            target[offset + axis + 3] = Double.NEGATIVE_INFINITY;
+        }
+    }
+
+    private static void include(final double[] target, final int offset, final BoundingBox box) {
+        target[offset] = min(target[offset], box.getMinX());
+        target[offset + 1] = min(target[offset + 1], box.getMinY());
+        target[offset + 2] = min(target[offset + 2], box.getMinZ());
+        target[offset + 3] = max(target[offset + 3], box.getMaxX());
+        target[offset + 4] = max(target[offset + 4], box.getMaxY());
+        target[offset + 5] = max(target[offset + 5], box.getMaxZ());
+    }
+
+    /**
+     * Top down builder working on growing node arrays.
+     */
+    private static final class Builder {
+
+        private final BoundingBox[] bounds;
+        private final double[] centroids;
+        private final int[] order;
+
+        private double[] nodeBounds;
+        private int[] nodeOffsets;
+        private int[] nodeCounts;
+        private int nodeCount;
+
+        Builder(final BoundingBox[] bounds, final double[] centroids, final int[] order) {
+            this.bounds = bounds;
+            this.centroids = centroids;
+            this.order = order;
+            int capacity = max(1, 2 * (order.length / MAX_SHAPES_PER_LEAF) + 1);
+            nodeBounds = new double[capacity * 6];
+            nodeOffsets = new int[capacity];
+            nodeCounts = new int[capacity];
+        }
+
+        int build(final int from, final int to) {
+            int node = allocate();
+            int offset = node * 6;
+
+            empty(nodeBounds, offset);
+            double[] centroidExtent = new double[6];
+            empty(centroidExtent, 0);
+            for (int i = from; i < to; i++) {
+                int index = order[i];
+                include(nodeBounds, offset, bounds[index]);
+                for (int axis = 0; axis < 3; axis++) {
+                    centroidExtent[axis] = min(centroidExtent[axis], centroids[index * 3 + axis]);
+                    centroidExtent[axis + 3] = max(centroidExtent[axis + 3], centroids[index * 3 + axis]);
+                }
+            }
+
+            if (to - from <= MAX_SHAPES_PER_LEAF) {
+                nodeOffsets[node] = from;
+                nodeCounts[node] = to - from;
+                return node;
+            }
+
+            int axis = 0;
+            for (int candidate = 1; candidate < 3; candidate++) {
+                if (centroidExtent[candidate + 3] - centroidExtent[candidate]
+                        > centroidExtent[axis + 3] - centroidExtent[axis]) {
+                    axis = candidate;
+                }
+            }
+
+            int middle = (from + to) >>> 1;
+            select(from, to - 1, middle, axis);
+
+            build(from, middle);
+            int second = build(middle, to);
+
+            /* assigned after the recursion, the node arrays may have been reallocated in between */
+            nodeCounts[node] = -axis - 1;
+            nodeOffsets[node] = second;
+            return node;
+        }
+
+        /**
+         * Quickselect: partially order the range such that position k holds the shape with the k-th smallest
+         * centroid along the axis.
+         */
+        private void select(int left, int right, final int k, final int axis) {
+            while (left < right) {
+                double pivot = centroids[order[(left + right) >>> 1] * 3 + axis];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (centroids[order[i] * 3 + axis] < pivot) {
+                        i++;
+                    }
+                    while (centroids[order[j] * 3 + axis] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i] = order[j];
+                        order[j] = swap;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private int allocate() {
+            if (nodeCount == nodeCounts.length) {
+                int capacity = nodeCount * 2;
+                nodeBounds = Arrays.copyOf(nodeBounds, capacity * 6);
+                nodeOffsets = Arrays.copyOf(nodeOffsets, capacity);
+                nodeCounts = Arrays.copyOf(nodeCounts, capacity);
+            }
+            return nodeCount++;
+        }
+    }
+
+}
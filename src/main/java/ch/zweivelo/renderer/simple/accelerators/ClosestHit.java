@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+/**
+ * Closest hit found so far during a single accelerator query.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+final class ClosestHit {
+
+    private final Shape[] shapes;
+    private final Ray ray;
+
+    double distance = Double.POSITIVE_INFINITY;
+    int shape = -1;
+
+    ClosestHit(final Shape[] shapes, final Ray ray) {
+        this.shapes = shapes;
+        this.ray = ray;
+    }
+
+    /**
+     * Intersect the shape with the given index and keep it if it is closer than the current hit. Ties are resolved
+     * by the shape index to keep the result independent of the traversal order.
+     */
+    void test(final int index) {
+        accept(shapes[index].intersectionDistance(ray), index);
+    }
+
+    /**
+     * Keep the intersection distance computed by the caller for the shape with the given index if it is closer than
+     * the current hit, NaN for no intersection.
+     */
+    void accept(final double t, final int index) {
+        if (Double.isNaN(t) || !ray.isValidT(t)) {
+            return;
+        }
+        if (t < distance || (t == distance && index < shape)) {
+            distance = t;
+            shape = index;
+        }
+    }
+
+    Optional<CollisionInformation> toCollisionInformation() {
+        if (shape < 0) {
+            return Optional.empty();
+        }
+
+        Shape closest = shapes[shape];
+        Vector3D point = ray.calculatePoint(distance);
+        return Optional.of(new CollisionInformation(
+                distance,
+                closest,
+                point,
+                closest.getColor(point, ray.calculateFootprint(distance))));
+    }
+
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Brute force accelerator testing every shape for every ray. Used for small scenes and as reference.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ShapeList implements Accelerator {
+
+    private final Shape[] shapes;
+
+    public ShapeList(final List<Shape> shapes) {
+        this.shapes = shapes.toArray(new Shape[shapes.size()]);
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        ClosestHit hit = new ClosestHit(shapes, ray);
+
+        for (int index = 0; index < shapes.length; index++) {
+            hit.test(index);
+        }
+
+        return hit.toCollisionInformation();
+    }
+
+    @Override
+    public Accelerator refit(final List<Shape> shapes) {
+        return new ShapeList(shapes);
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.math.Solver;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+/**
+ * Brute force accelerator storing the shapes grouped by their concrete class. Spheres are kept as a flat array of
+ * centers and squared radii and intersected with the arithmetic of {@link Sphere#intersectionDistance}, the terms
+ * depending only on the ray are computed once per ray instead of once per sphere. Planes are kept in an array of
+ * their own type, so their call site only ever sees one class and the JIT can inline the intersection. All other
+ * shapes, including subclasses of the known types, are intersected through the interface as in {@link ShapeList}.
+ * The result is identical to the one of {@link ShapeList}.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TypedShapeList implements Accelerator {
+
+    private final Shape[] shapes;
+
+    /** Center x, y, z and squared radius of every sphere. */
+    private final double[] spheres;
+    private final int[] sphereIndices;
+    private final Plane[] planes;
+    private final int[] planeIndices;
+    private final int[] otherIndices;
+
+    public TypedShapeList(final List<Shape> shapes) {
+        this.shapes = shapes.toArray(new Shape[shapes.size()]);
+
+        sphereIndices = indicesOf(Sphere.class);
+        spheres = new double[4 * sphereIndices.length];
+        for (int i = 0; i < sphereIndices.length; i++) {
+            Sphere sphere = (Sphere) this.shapes[sphereIndices[i]];
+            spheres[4 * i] = sphere.getCenter().getX();
+            spheres[4 * i + 1] = sphere.getCenter().getY();
+            spheres[4 * i + 2] = sphere.getCenter().getZ();
+            spheres[4 * i + 3] = sphere.getRadius() * sphere.getRadius();
+        }
+        planeIndices = indicesOf(Plane.class);
+        planes = IntStream.of(planeIndices).mapToObj(index -> (Plane) this.shapes[index]).toArray(Plane[]::new);
+        otherIndices = IntStream.range(0, this.shapes.length)
+                .filter(index -> this.shapes[index].getClass() != Sphere.class
+                        && this.shapes[index].getClass() != Plane.class)
+                .toArray();
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        ClosestHit hit = new ClosestHit(shapes, ray);
+
+        Vector3D origin = ray.getOrigin();
+        Vector3D direction = ray.getDirection();
+        double ox = origin.getX();
+        double oy = origin.getY();
+        double oz = origin.getZ();
+        double dx = direction.getX();
+        double dy = direction.getY();
+        double dz = direction.getZ();
+        double c2 = direction.dotProduct(direction);
+        double start = ray.getInterval().getStart();
+        double end = ray.getInterval().getEnd();
+        for (int i = 0; i < sphereIndices.length; i++) {
+            double x = ox - spheres[4 * i];
+            double y = oy - spheres[4 * i + 1];
+            double z = oz - spheres[4 * i + 2];
+            hit.accept(Solver.nearestQuadraticRoot(x * x + y * y + z * z - spheres[4 * i + 3],
+                    2 * (dx * x + dy * y + dz * z), c2, start, end), sphereIndices[i]);
+        }
+        for (int i = 0; i < planes.length; i++) {
+            hit.accept(planes[i].intersectionDistance(ray), planeIndices[i]);
+        }
+        for (int index : otherIndices) {
+            hit.test(index);
+        }
+
+        return hit.toCollisionInformation();
+    }
+
+    @Override
+    public Accelerator refit(final List<Shape> shapes) {
+        return new TypedShapeList(shapes);
+    }
+
+    /**
+     * @return The indices of the shapes of exactly the given class, subclasses are treated as other shapes
+     */
+    private int[] indicesOf(final Class<? extends Shape> type) {
+        return IntStream.range(0, shapes.length).filter(index -> shapes[index].getClass() == type).toArray();
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.stream.IntStream;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.apache.commons.math3.util.FastMath.cbrt;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Uniform grid accelerator intended for dynamic scenes. The grid is built in linear time by counting the shapes
+ * per cell, a prefix sum over the counts and a scatter pass; all three passes run in parallel. Rays traverse the
+ * cells front to back using the 3D-DDA of Amanatides and Woo. Unbounded shapes (planes) are kept aside and tested
+ * for every ray.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class UniformGrid implements Accelerator {
+
+    /** Targeted number of cells per bounded shape. */
+    private static final double CELLS_PER_SHAPE = 2d;
+
+    private static final int MAX_RESOLUTION = 512;
+
+    /** Number of shapes processed by a single task during the parallel build. */
+    private static final int CHUNK_SIZE = 4096;
+
+    /** Traversal state per thread, queries of one thread never nest. */
+    private static final ThreadLocal<Traversal> TRAVERSALS = ThreadLocal.withInitial(Traversal::new);
+
+    private final Shape[] shapes;
+    private final int[] unboundedShapes;
+
+    private final double[] origin = new double[3];
+    private final double[] cellSize = new double[3];
+    private final double[] inverseCellSize = new double[3];
+    private final int[] resolution = new int[3];
+
+    /** Start offset of each cell within {@link #cellShapes}, one additional entry marks the end. */
+    private final int[] cellStart;
+    private final int[] cellShapes;
+
+    public UniformGrid(final List<Shape> shapes) {
+        this.shapes = shapes.toArray(new Shape[shapes.size()]);
+
+        BoundingBox[] bounds = new BoundingBox[this.shapes.length];
+        Arrays.parallelSetAll(bounds, index -> this.shapes[index].getBounds());
+
+        unboundedShapes = IntStream.range(0, bounds.length).filter(index -> !bounds[index].isBounded()).toArray();
+        int[] boundedShapes = IntStream.range(0, bounds.length).filter(index -> bounds[index].isBounded()).toArray();
+
+        if (boundedShapes.length == 0) {
+            cellStart = new int[1];
+            cellShapes = new int[0];
+            return;
+        }
+
+        double[] extent = Arrays.stream(boundedShapes).parallel()
+                .collect(UniformGrid::emptyExtent, (e, index) -> include(e, bounds[index]), UniformGrid::merge);
+
+        double[] size = new double[3];
+        double volume = 1d;
+        for (int axis = 0; axis < 3; axis++) {
+            size[axis] = max(extent[axis + 3] - extent[axis], EPSILON);
+            volume *= size[axis];
+        }
+
+        double cellsPerUnit = cbrt(CELLS_PER_SHAPE * boundedShapes.length / volume);
+        for (int axis = 0; axis < 3; axis++) {
+            resolution[axis] = (int) max(1, min(MAX_RESOLUTION, size[axis] * cellsPerUnit));
+            origin[axis] = extent[axis];
+            cellSize[axis] = size[axis] / resolution[axis];
+            inverseCellSize[axis] = 1d / cellSize[axis];
+        }
+
+        int cellCount = resolution[0] * resolution[1] * resolution[2];
+
+        /* pass 1: count the shapes overlapping each cell */
+        AtomicIntegerArray counts = new AtomicIntegerArray(cellCount);
+        forEachChunk(boundedShapes.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                BoundingBox box = bounds[boundedShapes[i]];
+                for (int z = cellOf(box.getMinZ(), 2), z1 = cellOf(box.getMaxZ(), 2); z <= z1; z++) {
+                    for (int y = cellOf(box.getMinY(), 1), y1 = cellOf(box.getMaxY(), 1); y <= y1; y++) {
+                        int row = (z * resolution[1] + y) * resolution[0];
+                        for (int x = cellOf(box.getMinX(), 0), x1 = cellOf(box.getMaxX(), 0); x <= x1; x++) {
+                            counts.incrementAndGet(row + x);
+                        }
+                    }
+                }
+            }
+        });
+
+        /* pass 2: exclusive prefix sum gives the start of every cell */
+        cellStart = new int[cellCount + 1];
+        Arrays.parallelSetAll(cellStart, cell -> cell == 0 ? 0 : counts.get(cell - 1));
+        Arrays.parallelPrefix(cellStart, Integer::sum);
+
+        /* pass 3: scatter the shape indices into their cells */
+        AtomicIntegerArray cursors = new AtomicIntegerArray(Arrays.copyOf(cellStart, cellCount));
+        cellShapes = new int[cellStart[cellCount]];
+        forEachChunk(boundedShapes.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                int index = boundedShapes[i];
+                BoundingBox box = bounds[index];
+                for (int z = cellOf(box.getMinZ(), 2), z1 = cellOf(box.getMaxZ(), 2); z <= z1; z++) {
+                    for (int y = cellOf(box.getMinY(), 1), y1 = cellOf(box.getMaxY(), 1); y <= y1; y++) {
+                        int row = (z * resolution[1] + y) * resolution[0];
+                        for (int x = cellOf(box.getMinX(), 0), x1 = cellOf(box.getMaxX(), 0); x <= x1; x++) {
+                            cellShapes[cursors.getAndIncrement(row + x)] = index;
+                        }
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * Read a grid written by {@link #writeTo(ByteBuffer)} for the same shapes.
+     */
+    UniformGrid(final Shape[] shapes, final ByteBuffer buffer) {
+        this.shapes = shapes;
+        this.unboundedShapes = AcceleratorCache.getInts(buffer);
+        System.arraycopy(AcceleratorCache.getDoubles(buffer), 0, origin, 0, 3);
+        System.arraycopy(AcceleratorCache.getDoubles(buffer), 0, cellSize, 0, 3);
+        System.arraycopy(AcceleratorCache.getDoubles(buffer), 0, inverseCellSize, 0, 3);
+        System.arraycopy(AcceleratorCache.getInts(buffer), 0, resolution, 0, 3);
+        this.cellStart = AcceleratorCache.getInts(buffer);
+        this.cellShapes = AcceleratorCache.getInts(buffer);
+    }
+
+    /**
+     * @return The number of bytes written by {@link #writeTo(ByteBuffer)}
+     */
+    long getSerializedSize() {
+        return AcceleratorCache.getSize(unboundedShapes) + AcceleratorCache.getSize(origin)
+                + AcceleratorCache.getSize(cellSize) + AcceleratorCache.getSize(inverseCellSize)
+                + AcceleratorCache.getSize(resolution) + AcceleratorCache.getSize(cellStart)
+                + AcceleratorCache.getSize(cellShapes);
+    }
+
+    /**
+     * Write the grid without its shapes.
+     */
+    void writeTo(final ByteBuffer buffer) {
+        AcceleratorCache.putInts(buffer, unboundedShapes);
+        AcceleratorCache.putDoubles(buffer, origin);
+        AcceleratorCache.putDoubles(buffer, cellSize);
+        AcceleratorCache.putDoubles(buffer, inverseCellSize);
+        AcceleratorCache.putInts(buffer, resolution);
+        AcceleratorCache.putInts(buffer, cellStart);
+        AcceleratorCache.putInts(buffer, cellShapes);
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        ClosestHit hit = new ClosestHit(shapes, ray);
+
+        for (int index : unboundedShapes) {
+            hit.test(index);
+        }
+
+        if (cellShapes.length > 0) {
+            traverse(ray, hit);
+        }
+
+        return hit.toCollisionInformation();
+    }
+
+    /**
+     * Rebuilding the grid is already linear in the number of shapes, there is no cheaper update.
+     */
+    @Override
+    public Accelerator refit(final List<Shape> shapes) {
+        return new UniformGrid(shapes);
+    }
+
+    public int getCellCount() {
+        return cellStart.length - 1;
+    }
+
+    private void traverse(final Ray ray, final ClosestHit hit) {
+        Vector3D rayOrigin = ray.getOrigin();
+        Vector3D rayDirection = ray.getDirection();
+        Traversal traversal = TRAVERSALS.get();
+        double[] o = traversal.origin;
+        double[] d = traversal.direction;
+        o[0] = rayOrigin.getX();
+        o[1] = rayOrigin.getY();
+        o[2] = rayOrigin.getZ();
+        d[0] = rayDirection.getX();
+        d[1] = rayDirection.getY();
+        d[2] = rayDirection.getZ();
+
+        /* clip the ray against the grid bounds */
+        double tEnter = ray.getInterval().getStart();
+        double tExit = min(ray.getInterval().getEnd(), hit.distance);
+        for (int axis = 0; axis < 3; axis++) {
+            double lower = origin[axis];
+            double upper = origin[axis] + cellSize[axis] * resolution[axis];
+            if (d[axis] == 0d) {
+                if (o[axis] < lower || o[axis] > upper) {
+                    return;
+                }
+            } else {
+                double near = (lower - o[axis]) / d[axis];
+                double far = (upper - o[axis]) / d[axis];
+                tEnter = max(tEnter, min(near, far));
+                tExit = min(tExit, max(near, far));
+            }
+        }
+        if (tEnter > tExit) {
+            return;
+        }
+
+        /* set up the 3D-DDA */
+        int[] cell = traversal.cell;
+        int[] step = traversal.step;
+        double[] tNext = traversal.tNext;
+        double[] tDelta = traversal.tDelta;
+        for (int axis = 0; axis < 3; axis++) {
+            double position = o[axis] + tEnter * d[axis];
+            cell[axis] = cellOf(position, axis);
+            if (d[axis] > 0d) {
+                step[axis] = 1;
+                tNext[axis] = (origin[axis] + (cell[axis] + 1) * cellSize[axis] - o[axis]) / d[axis];
+                tDelta[axis] = cellSize[axis] / d[axis];
+            } else if (d[axis] < 0d) {
+                step[axis] = -1;
+                tNext[axis] = (origin[axis] + cell[axis] * cellSize[axis] - o[axis]) / d[axis];
+                tDelta[axis] = -cellSize[axis] / d[axis];
+            } else {
+                step[axis] = 0;
+                tNext[axis] = Double.POSITIVE_INFINITY;
+                tDelta[axis] = Double.POSITIVE_INFINITY;
+            }
+        }
+
+        while (true) {
+            int index = (cell[2] * resolution[1] + cell[1]) * resolution[0] + cell[0];
+            for (int i = cellStart[index]; i < cellStart[index + 1]; i++) {
+                hit.test(cellShapes[i]);
+            }
+
+            int axis = tNext[0] < tNext[1]
+                    ? (tNext[0] < tNext[2] ? 0 : 2)
+                    : (tNext[1] < tNext[2] ? 1 : 2);
+            double tCellExit = tNext[axis];
+
+            /* a hit inside the current cell can not be occluded by shapes in cells further along the ray */
+            if (hit.distance <= tCellExit || tCellExit > tExit) {
+                return;
+            }
+
+            cell[axis] += step[axis];
+            if (cell[axis] < 0 || cell[axis] >= resolution[axis]) {
+                return;
+            }
+            tNext[axis] += tDelta[axis];
+        }
+    }
+
+    /**
+     * Split the index range [0, count) into chunks processed in parallel, each by a plain loop.
+     */
+    private static void forEachChunk(final int count, final ChunkConsumer consumer) {
+        int chunks = (count + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel()
+                .forEach(chunk -> consumer.accept(chunk * CHUNK_SIZE, min(count, (chunk + 1) * CHUNK_SIZE)));
+    }
+
+    private int cellOf(final double value, final int axis) {
+        int cell = (int) ((value - origin[axis]) * inverseCellSize[axis]);
+        return cell < 0 ? 0 : (cell < resolution[axis] ? cell : resolution[axis] - 1);
+    }
+
+    private static double[] emptyExtent() {
+        return new double[]{
+                Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY
+        };
+    }
+
+    private static void include(final double[] extent, final BoundingBox box) {
+        extent[0] = min(extent[0], box.getMinX());
+        extent[1] = min(extent[1], box.getMinY());
+        extent[2] = min(extent[2], box.getMinZ());
+        extent[3] = max(extent[3], box.getMaxX());
+        extent[4] = max(extent[4], box.getMaxY());
+        extent[5] = max(extent[5], box.getMaxZ());
+    }
+
+    private static void merge(final double[] extent, final double[] other) {
+        for (int axis = 0; axis < 3; axis++) {
+            extent[axis] = min(extent[axis], other[axis]);
+            extent[axis + 3] = max(extent[axis + 3], other[axis + 3]);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkConsumer {
+        void accept(int from, int to);
+    }
+
+    /**
+     * The ray and the 3D-DDA state of a traversal, every field is overwritten before it is read.
+     */
+    private static final class Traversal {
+        final double[] origin = new double[3];
+        final double[] direction = new double[3];
+        final int[] cell = new int[3];
+        final int[] step = new int[3];
+        final double[] tNext = new double[3];
+        final double[] tDelta = new double[3];
+    }
+
+}
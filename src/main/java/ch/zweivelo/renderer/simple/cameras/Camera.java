@@ -17,8 +17,11 @@
 package ch.zweivelo.renderer.simple.cameras;
 
 import ch.zweivelo.renderer.simple.math.Ray;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
 
+import java.util.Optional;
+
 /**
  * Camera interface
  *
@@ -30,4 +33,23 @@ public interface Camera {
 
     Ray createRayFor(Vector2D uvPoint);
 
+    /**
+     * @param imageWidth The width of the rendered image in pixels
+     * @return The width of a pixel footprint per unit of distance from the camera, 0 if unknown
+     */
+    default double getPixelSpread(final int imageWidth) {
+        return 0d;
+    }
+
+    /**
+     * The inverse of {@link #createRayFor(Vector2D)} for cameras whose rays share their origin.
+     *
+     * @param point A point in the scene
+     * @return The uv coordinates of the ray through the point, empty if the point lies behind the camera or the
+     * camera does not support projections
+     */
+    default Optional<Vector2D> project(final Vector3D point) {
+        return Optional.empty();
+    }
+
 }
@@ -17,10 +17,19 @@
 package ch.zweivelo.renderer.simple.cameras;
 
 import ch.zweivelo.renderer.simple.math.Ray;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
 
+import java.util.Optional;
+
+import static org.apache.commons.math3.util.FastMath.sqrt;
+import static org.apache.commons.math3.util.FastMath.tan;
+import static org.apache.commons.math3.util.FastMath.toRadians;
+import static org.apache.commons.math3.util.MathArrays.linearCombination;
+
 /**
- * Mathematical model of a perfect pinhole camera.
+ * Mathematical model of a perfect pinhole camera. The uv coordinates span the image plane from the top left (0, 0)
+ * to the bottom right (1, 1) corner.
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -28,10 +37,62 @@ import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
  */
 public class PinholeCamera implements Camera {
 
+    private final Vector3D position;
+    private final Vector3D forward;
+    private final Vector3D right;
+    private final Vector3D up;
+
+    /**
+     * @param position    The position of the pinhole
+     * @param lookAt      The point the camera is aimed at
+     * @param up          The approximate up direction
+     * @param fieldOfView The horizontal field of view in degrees
+     * @param aspectRatio The image width divided by the image height
+     */
+    public PinholeCamera(final Vector3D position, final Vector3D lookAt, final Vector3D up,
+                         final double fieldOfView, final double aspectRatio) {
+        this.position = position;
+        this.forward = lookAt.subtract(position).normalize();
+
+        double width = 2d * tan(toRadians(fieldOfView) / 2d);
+        Vector3D rightDirection = forward.crossProduct(up).normalize();
+        this.right = rightDirection.scalarMultiply(width);
+        this.up = rightDirection.crossProduct(forward).scalarMultiply(width / aspectRatio);
+    }
+
     @Override
     public Ray createRayFor(final Vector2D uvPoint) {
-        Vector2D transformedUV = uvPoint.subtract(new Vector2D(.5d, .5d));
-        return null;
+        /* the same arithmetic as the linear combination and normalization of vectors, without the temporaries */
+        double u = uvPoint.getX() - .5d;
+        double v = -(uvPoint.getY() - .5d);
+        double x = linearCombination(1d, forward.getX(), u, right.getX(), v, up.getX());
+        double y = linearCombination(1d, forward.getY(), u, right.getY(), v, up.getY());
+        double z = linearCombination(1d, forward.getZ(), u, right.getZ(), v, up.getZ());
+        double inverseNorm = 1d / sqrt(x * x + y * y + z * z);
+        return new Ray(position, new Vector3D(inverseNorm * x, inverseNorm * y, inverseNorm * z));
+    }
+
+    @Override
+    public double getPixelSpread(final int imageWidth) {
+        return right.getNorm() / imageWidth;
+    }
+
+    /**
+     * Right and up are orthogonal to the forward direction, so the ray through a point is found by projecting its
+     * offset from the pinhole onto the three axes.
+     */
+    @Override
+    public Optional<Vector2D> project(final Vector3D point) {
+        double x = point.getX() - position.getX();
+        double y = point.getY() - position.getY();
+        double z = point.getZ() - position.getZ();
+        double depth = forward.getX() * x + forward.getY() * y + forward.getZ() * z;
+        if (depth <= 0d) {
+            return Optional.empty();
+        }
+        double u = (right.getX() * x + right.getY() * y + right.getZ() * z) / (depth * right.getNormSq());
+        double v = (up.getX() * x + up.getY() * y + up.getZ() * z) / (depth * up.getNormSq());
+        return Optional.of(new Vector2D(u + .5d, .5d - v));
     }
 
 }
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+/**
+ * Arbitrary output variables recorded besides the color of a pixel.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public enum Aov {
+
+    /** Distance from the camera to the first hit, 0 where the camera ray misses. */
+    DEPTH(1),
+
+    /** Unit normal of the first hit facing the camera. */
+    NORMAL(3),
+
+    /** One based index of the first hit shape in the scene, 0 where the camera ray misses. */
+    SHAPE_ID(1),
+
+    /** Number of collision queries hitting a shape over all samples of the pixel, including shadow rays. */
+    HIT_COUNT(1);
+
+    private final int channels;
+
+    Aov(final int channels) {
+        this.channels = channels;
+    }
+
+    public int getChannels() {
+        return channels;
+    }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Row major planes of the enabled {@link Aov}s of an image. Planes of disabled outputs are not allocated and their
+ * getters return null. The depth and normal are those of the first sample of a pixel.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AovBuffer {
+
+    private final int width;
+    private final int height;
+    private final Set<Aov> aovs;
+
+    private final float[] depth;
+    private final float[] normalX;
+    private final float[] normalY;
+    private final float[] normalZ;
+    private final int[] shapeIds;
+    private final int[] hitCounts;
+
+    public AovBuffer(final int width, final int height, final Set<Aov> aovs) {
+        this.width = width;
+        this.height = height;
+        this.aovs = Collections.unmodifiableSet(aovs.isEmpty() ? EnumSet.noneOf(Aov.class) : EnumSet.copyOf(aovs));
+
+        boolean normal = aovs.contains(Aov.NORMAL);
+        this.depth = aovs.contains(Aov.DEPTH) ? new float[width * height] : null;
+        this.normalX = normal ? new float[width * height] : null;
+        this.normalY = normal ? new float[width * height] : null;
+        this.normalZ = normal ? new float[width * height] : null;
+        this.shapeIds = aovs.contains(Aov.SHAPE_ID) ? new int[width * height] : null;
+        this.hitCounts = aovs.contains(Aov.HIT_COUNT) ? new int[width * height] : null;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public Set<Aov> getAovs() {
+        return aovs;
+    }
+
+    public boolean isEnabled(final Aov aov) {
+        return aovs.contains(aov);
+    }
+
+    public float[] getDepth() {
+        return depth;
+    }
+
+    public float[] getNormalX() {
+        return normalX;
+    }
+
+    public float[] getNormalY() {
+        return normalY;
+    }
+
+    public float[] getNormalZ() {
+        return normalZ;
+    }
+
+    public int[] getShapeIds() {
+        return shapeIds;
+    }
+
+    public int[] getHitCounts() {
+        return hitCounts;
+    }
+
+    /**
+     * @param aov     An enabled output
+     * @param channel The channel of the output, e.g. 1 for the y component of the normal
+     * @param index   The row major pixel index
+     * @return The value as float, ids and counts are exact up to 2^24
+     */
+    public float getValue(final Aov aov, final int channel, final int index) {
+        switch (aov) {
+            case DEPTH:
+                return depth[index];
+            case NORMAL:
+                return channel == 0 ? normalX[index] : channel == 1 ? normalY[index] : normalZ[index];
+            case SHAPE_ID:
+                return shapeIds[index];
+            case HIT_COUNT:
+                return hitCounts[index];
+            default:
+                throw new IllegalArgumentException("Unknown output " + aov);
+        }
+    }
+
+}
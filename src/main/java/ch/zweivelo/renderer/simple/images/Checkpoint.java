@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Reads and writes the complete accumulation state of a frame buffer: the running means of all pixels and their
+ * sample counts. The samplers derive every sample from its pixel and sample index, so the sample counts are the
+ * whole sampler state and a frame buffer read back continues exactly where the written one stopped. The file starts
+ * with a header of magic number, version, width and height, followed by the red, green and blue planes and the
+ * sample counts, all in row major order.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class Checkpoint {
+
+    public static final int MAGIC = 0x53524350;
+    public static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 16;
+    private static final int CHUNK_BYTES = 1 << 16;
+
+    private Checkpoint() {
+    }
+
+    /**
+     * Write the frame buffer to a temporary file next to the path and move it into place once it is complete, an
+     * existing checkpoint is only ever replaced by a complete one.
+     */
+    public static void write(final FrameBuffer frameBuffer, final Path path) throws IOException {
+        Path temporary = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            buffer.putInt(MAGIC).putInt(VERSION).putInt(frameBuffer.getWidth()).putInt(frameBuffer.getHeight());
+            writeFully(channel, buffer);
+            for (float[] plane : new float[][]{frameBuffer.getRed(), frameBuffer.getGreen(), frameBuffer.getBlue()}) {
+                for (int offset = 0; offset < plane.length; offset += CHUNK_BYTES / Float.BYTES) {
+                    int count = min(plane.length - offset, CHUNK_BYTES / Float.BYTES);
+                    buffer.asFloatBuffer().put(plane, offset, count);
+                    buffer.position(count * Float.BYTES);
+                    writeFully(channel, buffer);
+                }
+            }
+            int[] samples = frameBuffer.getSampleCounts();
+            for (int offset = 0; offset < samples.length; offset += CHUNK_BYTES / Integer.BYTES) {
+                int count = min(samples.length - offset, CHUNK_BYTES / Integer.BYTES);
+                buffer.asIntBuffer().put(samples, offset, count);
+                buffer.position(count * Integer.BYTES);
+                writeFully(channel, buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * @return A new frame buffer holding the pixels and sample counts of the checkpoint
+     */
+    public static FrameBuffer read(final Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(CHUNK_BYTES);
+            readFully(channel, buffer, HEADER_BYTES);
+            if (buffer.getInt() != MAGIC || buffer.getInt() != VERSION) {
+                throw new IOException(String.format("%s is no checkpoint of version %d", path, VERSION));
+            }
+            int width = buffer.getInt();
+            int height = buffer.getInt();
+            if (width <= 0 || height <= 0
+                    || channel.size() != HEADER_BYTES + (long) width * height * (3 * Float.BYTES + Integer.BYTES)) {
+                throw new IOException(String.format("Checkpoint %s does not hold %dx%d pixels", path, width, height));
+            }
+
+            FrameBuffer frameBuffer = new FrameBuffer(width, height);
+            for (float[] plane : new float[][]{frameBuffer.getRed(), frameBuffer.getGreen(), frameBuffer.getBlue()}) {
+                for (int offset = 0; offset < plane.length; offset += CHUNK_BYTES / Float.BYTES) {
+                    int count = min(plane.length - offset, CHUNK_BYTES / Float.BYTES);
+                    readFully(channel, buffer, count * Float.BYTES);
+                    buffer.asFloatBuffer().get(plane, offset, count);
+                }
+            }
+            int[] samples = frameBuffer.getSampleCounts();
+            for (int offset = 0; offset < samples.length; offset += CHUNK_BYTES / Integer.BYTES) {
+                int count = min(samples.length - offset, CHUNK_BYTES / Integer.BYTES);
+                readFully(channel, buffer, count * Integer.BYTES);
+                buffer.asIntBuffer().get(samples, offset, count);
+            }
+            return frameBuffer;
+        }
+    }
+
+    /**
+     * Write the buffer from its start up to its position and clear it.
+     */
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * Read the given number of bytes into the start of the buffer and prepare it for getting them.
+     */
+    private static void readFully(final FileChannel channel, final ByteBuffer buffer, final int bytes)
+            throws IOException {
+        buffer.clear().limit(bytes);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Unexpected end of checkpoint");
+            }
+        }
+        buffer.flip();
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.apache.commons.math3.util.FastMath.exp;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Edge avoiding à-trous wavelet filter. Every pass convolves the image with a 5x5 B3 spline kernel whose taps are
+ * spread apart by a step doubling from pass to pass, so a few passes cover a large footprint at the cost of 25 taps
+ * each. The taps are weighted down where the color, normal, depth or albedo of the neighbor differs from the center
+ * pixel, which keeps geometric and texture edges sharp. The color tolerance halves with every pass since the noise
+ * decreases.
+ * <p>
+ * The passes work on the float planes directly and hand bands of rows to a {@link BandScheduler}, usually the tile
+ * scheduler of the render engine, each pass reading the output of the previous one.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class Denoiser {
+
+    public static final int DEFAULT_PASSES = 5;
+    public static final double DEFAULT_COLOR_SIGMA = .6d;
+    public static final double DEFAULT_NORMAL_SIGMA = .3d;
+    public static final double DEFAULT_DEPTH_SIGMA = .1d;
+    public static final double DEFAULT_ALBEDO_SIGMA = .1d;
+
+    private static final float[] KERNEL = {1f / 16f, 1f / 4f, 3f / 8f, 1f / 4f, 1f / 16f};
+
+    private static final int BAND_HEIGHT = 16;
+
+    private final int passes;
+    private final float colorSigma;
+    private final float normalFactor;
+    private final float depthFactor;
+    private final float albedoFactor;
+
+    /**
+     * @param passes      The number of filter passes, the footprint grows to 2^(passes + 2) pixels
+     * @param colorSigma  The tolerated color difference in the first pass
+     * @param normalSigma The tolerated length of the difference of the normals
+     * @param depthSigma  The tolerated depth difference relative to the depth of the center pixel
+     * @param albedoSigma The tolerated albedo difference
+     */
+    public Denoiser(final int passes, final double colorSigma, final double normalSigma, final double depthSigma,
+                    final double albedoSigma) {
+        this.passes = passes;
+        this.colorSigma = (float) colorSigma;
+        this.normalFactor = (float) (-1d / (normalSigma * normalSigma));
+        this.depthFactor = (float) (-1d / (depthSigma * depthSigma));
+        this.albedoFactor = (float) (-1d / (albedoSigma * albedoSigma));
+    }
+
+    public Denoiser() {
+        this(DEFAULT_PASSES, DEFAULT_COLOR_SIGMA, DEFAULT_NORMAL_SIGMA, DEFAULT_DEPTH_SIGMA, DEFAULT_ALBEDO_SIGMA);
+    }
+
+    /**
+     * Filter the frame buffer in place on the calling thread.
+     *
+     * @param frameBuffer The noisy image
+     * @param guides      The feature planes of the same size
+     */
+    public void denoise(final FrameBuffer frameBuffer, final GuideBuffer guides) {
+        denoise(frameBuffer, guides, (bands, filter) -> bands.forEach(filter));
+    }
+
+    /**
+     * Filter the frame buffer in place, see {@link
+     * ch.zweivelo.renderer.simple.renderers.RenderEngine#denoise(ch.zweivelo.renderer.simple.scenes.Scene,
+     * ch.zweivelo.renderer.simple.cameras.Camera, FrameBuffer, Denoiser)}.
+     *
+     * @param frameBuffer The noisy image
+     * @param guides      The feature planes of the same size
+     * @param scheduler   Runs the bands of every pass
+     */
+    public void denoise(final FrameBuffer frameBuffer, final GuideBuffer guides, final BandScheduler scheduler) {
+        int width = frameBuffer.getWidth();
+        int height = frameBuffer.getHeight();
+        if (guides.getWidth() != width || guides.getHeight() != height) {
+            throw new IllegalArgumentException(String.format("Guide buffer of %dx%d pixels does not match %dx%d",
+                    guides.getWidth(), guides.getHeight(), width, height));
+        }
+
+        float[][] source = {frameBuffer.getRed(), frameBuffer.getGreen(), frameBuffer.getBlue()};
+        float[][] target = {new float[width * height], new float[width * height], new float[width * height]};
+        List<Integer> bands = IntStream.range(0, (height + BAND_HEIGHT - 1) / BAND_HEIGHT).boxed()
+                .collect(Collectors.toList());
+
+        float sigma = colorSigma;
+        for (int pass = 0; pass < passes; pass++) {
+            int step = 1 << pass;
+            float colorFactor = -1f / (sigma * sigma);
+            float[][] input = source;
+            float[][] output = target;
+            scheduler.execute(bands, band ->
+                    filterBand(input, output, guides, band * BAND_HEIGHT, min(height, (band + 1) * BAND_HEIGHT),
+                            step, colorFactor));
+            target = source;
+            source = output;
+            sigma /= 2f;
+        }
+
+        if (source[0] != frameBuffer.getRed()) {
+            System.arraycopy(source[0], 0, frameBuffer.getRed(), 0, width * height);
+            System.arraycopy(source[1], 0, frameBuffer.getGreen(), 0, width * height);
+            System.arraycopy(source[2], 0, frameBuffer.getBlue(), 0, width * height);
+        }
+    }
+
+    private void filterBand(final float[][] input, final float[][] output, final GuideBuffer guides, final int fromY,
+                            final int toY, final int step, final float colorFactor) {
+        int width = guides.getWidth();
+        int height = guides.getHeight();
+        float[] red = input[0];
+        float[] green = input[1];
+        float[] blue = input[2];
+        float[] normalX = guides.getNormalX();
+        float[] normalY = guides.getNormalY();
+        float[] normalZ = guides.getNormalZ();
+        float[] depth = guides.getDepth();
+        float[] albedoRed = guides.getAlbedoRed();
+        float[] albedoGreen = guides.getAlbedoGreen();
+        float[] albedoBlue = guides.getAlbedoBlue();
+
+        for (int y = fromY; y < toY; y++) {
+            for (int x = 0; x < width; x++) {
+                int center = y * width + x;
+                float relativeDepthFactor = depthFactor / max(1e-6f, depth[center] * depth[center]);
+
+                float sumRed = 0f;
+                float sumGreen = 0f;
+                float sumBlue = 0f;
+                float sumWeight = 0f;
+
+                for (int j = 0; j < KERNEL.length; j++) {
+                    int ny = y + (j - 2) * step;
+                    if (ny < 0 || ny >= height) {
+                        continue;
+                    }
+                    for (int i = 0; i < KERNEL.length; i++) {
+                        int nx = x + (i - 2) * step;
+                        if (nx < 0 || nx >= width) {
+                            continue;
+                        }
+                        int neighbor = ny * width + nx;
+
+                        float dr = red[neighbor] - red[center];
+                        float dg = green[neighbor] - green[center];
+                        float db = blue[neighbor] - blue[center];
+                        float dnx = normalX[neighbor] - normalX[center];
+                        float dny = normalY[neighbor] - normalY[center];
+                        float dnz = normalZ[neighbor] - normalZ[center];
+                        float dd = depth[neighbor] - depth[center];
+                        float dar = albedoRed[neighbor] - albedoRed[center];
+                        float dag = albedoGreen[neighbor] - albedoGreen[center];
+                        float dab = albedoBlue[neighbor] - albedoBlue[center];
+
+                        float exponent = colorFactor * (dr * dr + dg * dg + db * db)
+                                + normalFactor * (dnx * dnx + dny * dny + dnz * dnz)
+                                + relativeDepthFactor * dd * dd
+                                + albedoFactor * (dar * dar + dag * dag + dab * dab);
+                        float weight = KERNEL[i] * KERNEL[j] * (float) exp(exponent);
+
+                        sumRed += weight * red[neighbor];
+                        sumGreen += weight * green[neighbor];
+                        sumBlue += weight * blue[neighbor];
+                        sumWeight += weight;
+                    }
+                }
+
+                /* the center tap always has weight 9/64, the sum never vanishes */
+                output[0][center] = sumRed / sumWeight;
+                output[1][center] = sumGreen / sumWeight;
+                output[2][center] = sumBlue / sumWeight;
+            }
+        }
+    }
+
+    /**
+     * Runs the bands of a pass and returns once all of them are filtered, e.g. {@code tileScheduler::execute}.
+     */
+    @FunctionalInterface
+    public interface BandScheduler {
+        void execute(List<Integer> bands, Consumer<Integer> filter);
+    }
+
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.math.Color;
+
+import java.util.Arrays;
+
+/**
+ * Linear high dynamic range image stored as one row major float plane per color component. Pixels either hold a
+ * single color or the running mean of all samples added so far.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class FrameBuffer {
+
+    private final int width;
+    private final int height;
+
+    private final float[] red;
+    private final float[] green;
+    private final float[] blue;
+    private final int[] samples;
+
+    public FrameBuffer(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.red = new float[width * height];
+        this.green = new float[width * height];
+        this.blue = new float[width * height];
+        this.samples = new int[width * height];
+    }
+
+    /**
+     * Copy all pixels and sample counts of another frame buffer.
+     */
+    public FrameBuffer(final FrameBuffer frameBuffer) {
+        this.width = frameBuffer.width;
+        this.height = frameBuffer.height;
+        this.red = frameBuffer.red.clone();
+        this.green = frameBuffer.green.clone();
+        this.blue = frameBuffer.blue.clone();
+        this.samples = frameBuffer.samples.clone();
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setColor(final int x, final int y, final Color color) {
+        setColor(x, y, color, 1);
+    }
+
+    /**
+     * Set the mean of samples accumulated elsewhere.
+     */
+    public void setColor(final int x, final int y, final Color color, final int sampleCount) {
+        int index = y * width + x;
+        red[index] = (float) color.getR();
+        green[index] = (float) color.getG();
+        blue[index] = (float) color.getB();
+        samples[index] = sampleCount;
+    }
+
+    /**
+     * Add a sample to the running mean of the pixel.
+     */
+    public void addSample(final int x, final int y, final Color color) {
+        int index = y * width + x;
+        int count = ++samples[index];
+        red[index] += ((float) color.getR() - red[index]) / count;
+        green[index] += ((float) color.getG() - green[index]) / count;
+        blue[index] += ((float) color.getB() - blue[index]) / count;
+    }
+
+    /**
+     * Reset all pixels to black without any samples.
+     */
+    public void clear() {
+        Arrays.fill(red, 0f);
+        Arrays.fill(green, 0f);
+        Arrays.fill(blue, 0f);
+        Arrays.fill(samples, 0);
+    }
+
+    public int getSampleCount(final int x, final int y) {
+        return samples[y * width + x];
+    }
+
+    public Color getColor(final int x, final int y) {
+        int index = y * width + x;
+        return new Color(red[index], green[index], blue[index]);
+    }
+
+    /**
+     * @return The red plane itself, not a copy
+     */
+    public float[] getRed() {
+        return red;
+    }
+
+    /**
+     * @return The green plane itself, not a copy
+     */
+    public float[] getGreen() {
+        return green;
+    }
+
+    /**
+     * @return The blue plane itself, not a copy
+     */
+    public float[] getBlue() {
+        return blue;
+    }
+
+    /**
+     * @return The sample counts itself, not a copy
+     */
+    public int[] getSampleCounts() {
+        return samples;
+    }
+
+}
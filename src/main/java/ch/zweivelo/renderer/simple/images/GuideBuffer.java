@@ -0,0 +1,108 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Noise free feature planes of the first hit per pixel, used to guide the {@link Denoiser}. Pixels whose primary ray
+ * misses the scene keep a zero normal, depth and albedo.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class GuideBuffer {
+
+    private final int width;
+    private final int height;
+
+    private final float[] normalX;
+    private final float[] normalY;
+    private final float[] normalZ;
+    private final float[] depth;
+    private final float[] albedoRed;
+    private final float[] albedoGreen;
+    private final float[] albedoBlue;
+
+    public GuideBuffer(final int width, final int height) {
+        this.width = width;
+        this.height = height;
+        this.normalX = new float[width * height];
+        this.normalY = new float[width * height];
+        this.normalZ = new float[width * height];
+        this.depth = new float[width * height];
+        this.albedoRed = new float[width * height];
+        this.albedoGreen = new float[width * height];
+        this.albedoBlue = new float[width * height];
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    /**
+     * @param normal The unit surface normal facing the camera
+     * @param depth  The distance from the camera
+     * @param albedo The surface color
+     */
+    public void set(final int x, final int y, final Vector3D normal, final double depth, final Color albedo) {
+        int index = y * width + x;
+        normalX[index] = (float) normal.getX();
+        normalY[index] = (float) normal.getY();
+        normalZ[index] = (float) normal.getZ();
+        this.depth[index] = (float) depth;
+        albedoRed[index] = (float) albedo.getR();
+        albedoGreen[index] = (float) albedo.getG();
+        albedoBlue[index] = (float) albedo.getB();
+    }
+
+    public float[] getNormalX() {
+        return normalX;
+    }
+
+    public float[] getNormalY() {
+        return normalY;
+    }
+
+    public float[] getNormalZ() {
+        return normalZ;
+    }
+
+    public float[] getDepth() {
+        return depth;
+    }
+
+    public float[] getAlbedoRed() {
+        return albedoRed;
+    }
+
+    public float[] getAlbedoGreen() {
+        return albedoGreen;
+    }
+
+    public float[] getAlbedoBlue() {
+        return albedoBlue;
+    }
+
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.images;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.DirectColorModel;
+import java.awt.image.Raster;
+import java.awt.image.WritableRaster;
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Encode frame buffers into image files supported by {@link ImageIO}.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class ImageWriter {
+
+    private static final ToneMapper DEFAULT_TONE_MAPPER = new ToneMapper(ToneMapping.CLAMP);
+
+    /**
+     * Write the frame buffer clamped to [0, 1], the format is derived from the file extension.
+     *
+     * @param frameBuffer The image to write
+     * @param file        The target file, e.g. frame.png
+     * @throws IOException If the file can not be written or the format is unknown
+     */
+    public static void write(final FrameBuffer frameBuffer, final Path file) throws IOException {
+        write(frameBuffer, file, DEFAULT_TONE_MAPPER);
+    }
+
+    /**
+     * Write the frame buffer, the format is derived from the file extension.
+     *
+     * @param frameBuffer The image to write
+     * @param file        The target file, e.g. frame.png
+     * @param toneMapper  The conversion into 8 bit sRGB
+     * @throws IOException If the file can not be written or the format is unknown
+     */
+    public static void write(final FrameBuffer frameBuffer, final Path file, final ToneMapper toneMapper)
+            throws IOException {
+        int width = frameBuffer.getWidth();
+        int height = frameBuffer.getHeight();
+        int[] pixels = toneMapper.toRgb(frameBuffer);
+
+        /* wrap the pixels instead of copying them into the image */
+        DirectColorModel colorModel = new DirectColorModel(24, 0xff0000, 0xff00, 0xff);
+        WritableRaster raster = Raster.createPackedRaster(
+                new DataBufferInt(pixels, pixels.length),
+                width,
+                height,
+                width,
+                colorModel.getMasks(),
+                null);
+        BufferedImage image = new BufferedImage(colorModel, raster, false, null);
+
+        String fileName = file.getFileName().toString();
+        String format = fileName.substring(fileName.lastIndexOf('.') + 1);
+        if (!ImageIO.write(image, format, file.toFile())) {
+            throw new IOException("No image writer available for " + fileName);
+        }
+    }
+
+}
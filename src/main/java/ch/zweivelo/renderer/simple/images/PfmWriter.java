@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Write linear images and output variables as portable float maps. A PFM file holds either one channel ("Pf") or
+ * three ("PF") as little endian floats, the rows are stored from the bottom to the top.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class PfmWriter {
+
+    /** Lines written at once, keeps the buffer small for large images. */
+    private static final int ROWS_PER_WRITE = 16;
+
+    private PfmWriter() {
+    }
+
+    /**
+     * Write the colors of the frame buffer without any tone mapping.
+     */
+    public static void write(final FrameBuffer frameBuffer, final Path file) throws IOException {
+        float[][] planes = {frameBuffer.getRed(), frameBuffer.getGreen(), frameBuffer.getBlue()};
+        write(file, frameBuffer.getWidth(), frameBuffer.getHeight(), 3,
+                (channel, index) -> planes[channel][index]);
+    }
+
+    /**
+     * Write one output variable, normals as three channels, all others as one.
+     *
+     * @param aov An output enabled in the buffer
+     */
+    public static void write(final AovBuffer aovs, final Aov aov, final Path file) throws IOException {
+        if (!aovs.isEnabled(aov)) {
+            throw new IllegalArgumentException(aov + " is not recorded");
+        }
+        write(file, aovs.getWidth(), aovs.getHeight(), aov.getChannels(),
+                (channel, index) -> aovs.getValue(aov, channel, index));
+    }
+
+    private static void write(final Path file, final int width, final int height, final int channels,
+                              final Plane plane) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            String header = String.format("%s\n%d %d\n-1.0\n", channels == 3 ? "PF" : "Pf", width, height);
+            writeFully(channel, ByteBuffer.wrap(header.getBytes(StandardCharsets.US_ASCII)));
+
+            ByteBuffer buffer = ByteBuffer.allocate(4 * channels * width * ROWS_PER_WRITE)
+                    .order(ByteOrder.LITTLE_ENDIAN);
+            for (int y = height - 1; y >= 0; y--) {
+                for (int x = 0; x < width; x++) {
+                    for (int c = 0; c < channels; c++) {
+                        buffer.putFloat(plane.get(c, y * width + x));
+                    }
+                }
+                if (!buffer.hasRemaining() || y == 0) {
+                    buffer.flip();
+                    writeFully(channel, buffer);
+                    buffer.clear();
+                }
+            }
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Plane {
+
+        float get(int channel, int index);
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+
+/**
+ * Streaming encoder for 8 bit RGB PNG files. Rows are compressed as they are written, so images of any size are
+ * encoded with constant memory. The rows are stored unfiltered.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PngWriter implements Closeable {
+
+    private static final byte[] SIGNATURE = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'};
+
+    /** Maximum size of the data of one IDAT chunk. */
+    private static final int CHUNK_SIZE = 1 << 16;
+
+    private final DataOutputStream file;
+    private final Deflater deflater;
+    private final DeflaterOutputStream data;
+    private final int width;
+    private final int height;
+    private final byte[] row;
+
+    private int rowsWritten;
+
+    public PngWriter(final Path path, final int width, final int height) throws IOException {
+        this.file = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        this.width = width;
+        this.height = height;
+        this.row = new byte[1 + 3 * width];
+
+        file.write(SIGNATURE);
+        byte[] header = new byte[13];
+        writeInt(header, 0, width);
+        writeInt(header, 4, height);
+        header[8] = 8;
+        header[9] = 2;
+        writeChunk("IHDR", header, header.length);
+
+        deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+        data = new DeflaterOutputStream(new ChunkStream(), deflater, CHUNK_SIZE);
+    }
+
+    /**
+     * @param pixels The pixels packed as 0xRRGGBB in row major order
+     * @param from   The index of the first pixel of the first row
+     * @param rows   The number of rows to write
+     */
+    public void writeRows(final int[] pixels, final int from, final int rows) throws IOException {
+        if (rowsWritten + rows > height) {
+            throw new IllegalStateException(String.format("Image has only %d rows", height));
+        }
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < width; x++) {
+                int pixel = pixels[from + y * width + x];
+                row[1 + 3 * x] = (byte) (pixel >> 16);
+                row[2 + 3 * x] = (byte) (pixel >> 8);
+                row[3 + 3 * x] = (byte) pixel;
+            }
+            data.write(row);
+        }
+        rowsWritten += rows;
+    }
+
+    /**
+     * Finish the image, all rows must have been written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (rowsWritten != height) {
+                throw new IOException(String.format("Only %d of %d rows written", rowsWritten, height));
+            }
+            data.close();
+            writeChunk("IEND", new byte[0], 0);
+        } finally {
+            deflater.end();
+            file.close();
+        }
+    }
+
+    private void writeChunk(final String type, final byte[] bytes, final int length) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(bytes, 0, length);
+
+        file.writeInt(length);
+        file.write(typeBytes);
+        file.write(bytes, 0, length);
+        file.writeInt((int) crc.getValue());
+    }
+
+    private static void writeInt(final byte[] bytes, final int offset, final int value) {
+        bytes[offset] = (byte) (value >>> 24);
+        bytes[offset + 1] = (byte) (value >>> 16);
+        bytes[offset + 2] = (byte) (value >>> 8);
+        bytes[offset + 3] = (byte) value;
+    }
+
+    /**
+     * Collects the compressed data into IDAT chunks.
+     */
+    private final class ChunkStream extends OutputStream {
+
+        private final byte[] buffer = new byte[CHUNK_SIZE];
+        private int size;
+
+        @Override
+        public void write(final int b) throws IOException {
+            buffer[size++] = (byte) b;
+            if (size == buffer.length) {
+                flush();
+            }
+        }
+
+        @Override
+        public void write(final byte[] bytes, final int offset, final int length) throws IOException {
+            int written = 0;
+            while (written < length) {
+                int count = Math.min(length - written, buffer.length - size);
+                System.arraycopy(bytes, offset + written, buffer, size, count);
+                size += count;
+                written += count;
+                if (size == buffer.length) {
+                    flush();
+                }
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (size > 0) {
+                writeChunk("IDAT", buffer, size);
+                size = 0;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Linear image too large for the heap, stored in a file as square tiles of interleaved RGB floats. The tiles follow
+ * each other in row major order and are padded to full size, so the tiles of one row of tiles form a contiguous band
+ * of the file. Tiles are written with positional writes from a buffer per thread, so writing millions of tiles
+ * creates no mappings; tiles may be written concurrently. Bands are read through a mapping of just their region.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TiledImageFile implements Closeable {
+
+    private static final int BYTES_PER_PIXEL = 12;
+
+    private final FileChannel channel;
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int columns;
+    private final int rows;
+    private final ThreadLocal<ByteBuffer> tileBuffers;
+
+    /**
+     * Create or overwrite the file.
+     */
+    public TiledImageFile(final Path path, final int width, final int height, final int tileSize)
+            throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.columns = (width + tileSize - 1) / tileSize;
+        this.rows = (height + tileSize - 1) / tileSize;
+        this.tileBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(tileSize * tileSize * BYTES_PER_PIXEL));
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * @return The number of rows of tiles
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * @return The height in pixels of the given row of tiles
+     */
+    public int getRowHeight(final int row) {
+        return min(tileSize, height - row * tileSize);
+    }
+
+    /**
+     * @param column The column of the tile
+     * @param row    The row of the tile
+     * @param tile   The pixels of the tile, smaller than the tile size at the right and bottom border
+     */
+    public void writeTile(final int column, final int row, final FrameBuffer tile) throws IOException {
+        ByteBuffer buffer = tileBuffers.get();
+        buffer.clear();
+        FloatBuffer pixels = buffer.asFloatBuffer();
+        for (int y = 0; y < tile.getHeight(); y++) {
+            pixels.position(3 * y * tileSize);
+            for (int x = 0; x < tile.getWidth(); x++) {
+                int index = y * tile.getWidth() + x;
+                pixels.put(tile.getRed()[index]).put(tile.getGreen()[index]).put(tile.getBlue()[index]);
+            }
+        }
+
+        /* the whole padded tile is written, the padding of border tiles is never read */
+        long position = getTileOffset(column, row);
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * @param row  The row of tiles to read
+     * @param band Receives the pixels, as wide as the image and as high as the row
+     */
+    public void readRow(final int row, final FrameBuffer band) throws IOException {
+        int rowHeight = getRowHeight(row);
+        FloatBuffer pixels = channel.map(FileChannel.MapMode.READ_ONLY, getTileOffset(0, row),
+                (long) columns * tileSize * tileSize * BYTES_PER_PIXEL).asFloatBuffer();
+        for (int column = 0; column < columns; column++) {
+            int tileWidth = min(tileSize, width - column * tileSize);
+            for (int y = 0; y < rowHeight; y++) {
+                pixels.position(3 * (column * tileSize * tileSize + y * tileSize));
+                for (int x = 0; x < tileWidth; x++) {
+                    int index = y * width + column * tileSize + x;
+                    band.getRed()[index] = pixels.get();
+                    band.getGreen()[index] = pixels.get();
+                    band.getBlue()[index] = pixels.get();
+                }
+            }
+        }
+    }
+
+    private long getTileOffset(final int column, final int row) {
+        return ((long) row * columns + column) * tileSize * tileSize * BYTES_PER_PIXEL;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
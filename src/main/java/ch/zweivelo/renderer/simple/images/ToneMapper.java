@@ -0,0 +1,122 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.images;
+
+import java.util.stream.IntStream;
+
+import static org.apache.commons.math3.util.FastMath.pow;
+
+/**
+ * Output stage converting a linear frame buffer into 8 bit sRGB pixels. Each row is tone mapped and then quantized
+ * through a precomputed table of the sRGB transfer function; rows are processed in parallel. The tone mapped values
+ * of a row are kept in arrays per thread, so converting the rows of tiles allocates nothing.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ToneMapper {
+
+    /** Resolution of the transfer function table, fine enough to resolve the steep part close to black. */
+    private static final int TABLE_SIZE = 1 << 14;
+
+    private static final byte[] SRGB_TABLE = new byte[TABLE_SIZE + 1];
+
+    static {
+        for (int i = 0; i <= TABLE_SIZE; i++) {
+            double linear = (double) i / TABLE_SIZE;
+            double encoded = linear <= .0031308d ? 12.92d * linear : 1.055d * pow(linear, 1d / 2.4d) - .055d;
+            SRGB_TABLE[i] = (byte) (encoded * 255d + .5d);
+        }
+    }
+
+    /** Tone mapped red, green and blue of the run converted by a thread, grown to the longest run it converted. */
+    private static final ThreadLocal<float[][]> PLANES = ThreadLocal.withInitial(() -> new float[3][0]);
+
+    private final ToneMapping toneMapping;
+    private final float exposure;
+
+    public ToneMapper(final ToneMapping toneMapping, final double exposure) {
+        this.toneMapping = toneMapping;
+        this.exposure = (float) exposure;
+    }
+
+    public ToneMapper(final ToneMapping toneMapping) {
+        this(toneMapping, 1d);
+    }
+
+    public ToneMapping getToneMapping() {
+        return toneMapping;
+    }
+
+    /**
+     * @param frameBuffer The linear image
+     * @return The pixels packed as 0xRRGGBB in row major order
+     */
+    public int[] toRgb(final FrameBuffer frameBuffer) {
+        int width = frameBuffer.getWidth();
+        int[] pixels = new int[width * frameBuffer.getHeight()];
+        IntStream.range(0, frameBuffer.getHeight()).parallel()
+                .forEach(y -> toRgb(frameBuffer, y * width, width, pixels));
+        return pixels;
+    }
+
+    /**
+     * Convert a single run of pixels, e.g. one row.
+     *
+     * @param frameBuffer The linear image
+     * @param from        Index of the first pixel
+     * @param length      Number of pixels
+     * @param pixels      Receives the pixels packed as 0xRRGGBB at the same indices
+     */
+    public void toRgb(final FrameBuffer frameBuffer, final int from, final int length, final int[] pixels) {
+        toRgb(frameBuffer, from, length, pixels, from);
+    }
+
+    /**
+     * Convert a single run of pixels into an array of a different layout, e.g. one row of a tile.
+     *
+     * @param frameBuffer The linear image
+     * @param from        Index of the first pixel
+     * @param length      Number of pixels
+     * @param pixels      Receives the pixels packed as 0xRRGGBB
+     * @param offset      Index in pixels receiving the first pixel
+     */
+    public void toRgb(final FrameBuffer frameBuffer, final int from, final int length, final int[] pixels,
+                      final int offset) {
+        float[][] planes = PLANES.get();
+        if (planes[0].length < length) {
+            planes[0] = new float[length];
+            planes[1] = new float[length];
+            planes[2] = new float[length];
+        }
+        float[] red = planes[0];
+        float[] green = planes[1];
+        float[] blue = planes[2];
+
+        toneMapping.map(frameBuffer.getRed(), from, exposure, red, length);
+        toneMapping.map(frameBuffer.getGreen(), from, exposure, green, length);
+        toneMapping.map(frameBuffer.getBlue(), from, exposure, blue, length);
+
+        for (int i = 0; i < length; i++) {
+            pixels[offset + i] = (SRGB_TABLE[(int) (red[i] * TABLE_SIZE + .5f)] & 0xff) << 16
+                    | (SRGB_TABLE[(int) (green[i] * TABLE_SIZE + .5f)] & 0xff) << 8
+                    | SRGB_TABLE[(int) (blue[i] * TABLE_SIZE + .5f)] & 0xff;
+        }
+    }
+
+}
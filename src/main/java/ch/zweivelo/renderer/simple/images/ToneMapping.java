@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.images;
+
+/**
+ * Tone mapping operators compressing linear high dynamic range values into [0, 1], applied per color component.<br>
+ * CLAMP: x clamped to [0, 1]<br>
+ * REINHARD: x / (1 + x)<br>
+ * ACES: Narkowicz' fit of the ACES filmic curve, x(2.51x + 0.03) / (x(2.43x + 0.59) + 0.14)
+ * <p>
+ * Every operator processes a whole range of values in one loop to keep the per pixel work free of dispatch.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public enum ToneMapping {
+
+    CLAMP {
+        @Override
+        public void map(final float[] source, final int from, final float exposure, final float[] target,
+                        final int length) {
+            for (int i = 0; i < length; i++) {
+                float x = source[from + i] * exposure;
+                target[i] = x > 0f ? (x < 1f ? x : 1f) : 0f;
+            }
+        }
+    },
+
+    REINHARD {
+        @Override
+        public void map(final float[] source, final int from, final float exposure, final float[] target,
+                        final int length) {
+            for (int i = 0; i < length; i++) {
+                float x = source[from + i] * exposure;
+                target[i] = x > 0f ? 1f - 1f / (1f + x) : 0f;
+            }
+        }
+    },
+
+    ACES {
+        @Override
+        public void map(final float[] source, final int from, final float exposure, final float[] target,
+                        final int length) {
+            for (int i = 0; i < length; i++) {
+                float x = source[from + i] * exposure;
+                float y = x > 0f ? x * (2.51f * x + .03f) / (x * (2.43f * x + .59f) + .14f) : 0f;
+                target[i] = y < 1f ? y : 1f;
+            }
+        }
+    };
+
+    /**
+     * @param source   Linear values
+     * @param from     Index of the first value to map
+     * @param exposure Factor applied to the values before mapping
+     * @param target   Receives the mapped values in [0, 1], starting at index 0
+     * @param length   Number of values to map
+     */
+    public abstract void map(float[] source, int from, float exposure, float[] target, int length);
+
+}
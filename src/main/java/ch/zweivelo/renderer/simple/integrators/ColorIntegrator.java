@@ -0,0 +1,41 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+
+import java.util.Optional;
+
+/**
+ * Returns the color of the closest shape, black if nothing is hit.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ColorIntegrator implements Integrator {
+
+    @Override
+    public Color trace(final Scene scene, final Ray ray) {
+        Optional<CollisionInformation> collision = scene.findClosestCollision(ray);
+        return collision.isPresent() ? collision.get().getColor() : Color.BLACK;
+    }
+
+}
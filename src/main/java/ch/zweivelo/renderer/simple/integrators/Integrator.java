@@ -0,0 +1,46 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+
+/**
+ * Computes the color seen along a camera ray.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+@FunctionalInterface
+public interface Integrator {
+
+    Color trace(Scene scene, Ray ray);
+
+    /**
+     * Trace one sample of a pixel. Integrators using random numbers derive them from the pixel and the sample index,
+     * so the result does not depend on the thread or the order in which the samples are traced.
+     *
+     * @param pixel  The row major index of the pixel
+     * @param sample The index of the sample within the pixel
+     */
+    default Color trace(final Scene scene, final Ray ray, final long pixel, final int sample) {
+        return trace(scene, ray);
+    }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import static org.apache.commons.math3.util.FastMath.pow;
+import static org.apache.commons.math3.util.FastMath.sqrt;
+
+/**
+ * Reflection and refraction formulas shared by the integrators. All directions are normalized, normals face the
+ * incoming ray, i.e. the cosine of the incident angle is positive.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+abstract class Optics {
+
+    /** Distance the origin of a secondary ray is moved off the surface to avoid hitting it again. */
+    static final double SURFACE_OFFSET = 1e-6d;
+
+    static Vector3D reflect(final Vector3D direction, final Vector3D normal, final double cosIncident) {
+        return direction.add(2d * cosIncident, normal);
+    }
+
+    /**
+     * @return The squared sine of the angle of the transmitted ray, total internal reflection if it is at least 1
+     */
+    static double sinSquaredTransmitted(final double refractiveIndexRatio, final double cosIncident) {
+        return refractiveIndexRatio * refractiveIndexRatio * (1d - cosIncident * cosIncident);
+    }
+
+    static Vector3D refract(final Vector3D direction, final Vector3D normal, final double refractiveIndexRatio,
+                            final double cosIncident, final double cosTransmitted) {
+        return direction.scalarMultiply(refractiveIndexRatio)
+                .add(refractiveIndexRatio * cosIncident - cosTransmitted, normal);
+    }
+
+    /**
+     * Schlick's approximation of the Fresnel reflectance.
+     *
+     * @param refractiveIndexRatio The refractive index of the incident side divided by the one of the transmitted side
+     * @param cosIncident          The cosine of the incident angle
+     * @param cosTransmitted       The cosine of the transmitted angle
+     */
+    static double schlick(final double refractiveIndexRatio, final double cosIncident, final double cosTransmitted) {
+        double r0 = (refractiveIndexRatio - 1d) / (refractiveIndexRatio + 1d);
+        r0 *= r0;
+        /* use the angle on the optically thinner side */
+        double cos = refractiveIndexRatio > 1d ? cosTransmitted : cosIncident;
+        return r0 + (1d - r0) * pow(1d - cos, 5);
+    }
+
+    static double cosTransmitted(final double sinSquaredTransmitted) {
+        return sqrt(1d - sinSquaredTransmitted);
+    }
+
+}
@@ -0,0 +1,247 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.lights.LightSample;
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.DoubleRange;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.samplers.Sampler;
+import ch.zweivelo.renderer.simple.samplers.SamplerType;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static ch.zweivelo.renderer.simple.math.MathUtils.INV_PI;
+import static ch.zweivelo.renderer.simple.math.MathUtils.TWO_PI;
+import static org.apache.commons.math3.util.FastMath.copySign;
+import static org.apache.commons.math3.util.FastMath.cos;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+import static org.apache.commons.math3.util.FastMath.sin;
+import static org.apache.commons.math3.util.FastMath.sqrt;
+
+/**
+ * Monte Carlo path tracer. Every hit continues the path with a single ray: a cosine distributed diffuse bounce, a
+ * mirror reflection or a refraction, chosen with the probabilities given by the material. Paths end when they leave
+ * the scene, where they collect the background color, at the maximum depth or by Russian roulette after the
+ * roulette depth. At diffuse hits one light, picked from the light tree of the scene in proportion to its estimated
+ * contribution, is sampled directly and tested with a shadow ray. Emissive shapes in the light tree therefore only add
+ * their light when hit by camera rays or after mirror and glass bounces, other emissive shapes wherever they are hit.
+ * <p>
+ * All random numbers are dimensions of the sample points of a {@link Sampler}, {@value #DIMENSIONS_PER_BOUNCE} per
+ * bounce. The sampler depends only on pixel, sample and dimension, so an image is reproducible bit for bit
+ * regardless of the number of threads and the order of the tiles.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PathTracer implements Integrator {
+
+    public static final int DEFAULT_MAX_DEPTH = 8;
+    public static final int DEFAULT_ROULETTE_DEPTH = 3;
+
+    public static final int DIMENSIONS_PER_BOUNCE = 8;
+
+    /* dimensions of the random numbers drawn per bounce, two groups of four */
+    private static final int DIRECTION_U = 0;
+    private static final int DIRECTION_V = 1;
+    private static final int EVENT = 2;
+    private static final int FRESNEL = 3;
+    private static final int ROULETTE = 4;
+    private static final int LIGHT_SELECT = 5;
+    private static final int LIGHT_U = 6;
+    private static final int LIGHT_V = 7;
+
+    /** Relative amount by which shadow rays stop short of the light, so they do not hit the emitting shape. */
+    private static final double SHADOW_RAY_SHORTENING = 1e-4d;
+
+    private final Color background;
+    private final int maxDepth;
+    private final int rouletteDepth;
+    private final Sampler sampler;
+
+    /**
+     * @param background    The color collected by paths leaving the scene
+     * @param maxDepth      The maximum number of bounces
+     * @param rouletteDepth The number of bounces after which paths are terminated by Russian roulette
+     * @param sampler       The sampler providing the random numbers
+     */
+    public PathTracer(final Color background, final int maxDepth, final int rouletteDepth, final Sampler sampler) {
+        this.background = background;
+        this.maxDepth = maxDepth;
+        this.rouletteDepth = rouletteDepth;
+        this.sampler = sampler;
+    }
+
+    public PathTracer(final Color background) {
+        this(background, DEFAULT_MAX_DEPTH, DEFAULT_ROULETTE_DEPTH, SamplerType.SOBOL.create(0L));
+    }
+
+    @Override
+    public Color trace(final Scene scene, final Ray ray) {
+        return trace(scene, ray, 0L, 0);
+    }
+
+    @Override
+    public Color trace(final Scene scene, final Ray cameraRay, final long pixel, final int sample) {
+        double red = 0d;
+        double green = 0d;
+        double blue = 0d;
+        double throughputRed = 1d;
+        double throughputGreen = 1d;
+        double throughputBlue = 1d;
+
+        Ray ray = cameraRay;
+        boolean diffuseBounce = false;
+        for (int bounce = 0; bounce <= maxDepth; bounce++) {
+            Optional<CollisionInformation> collision = scene.findClosestCollision(ray);
+            if (!collision.isPresent()) {
+                red += throughputRed * background.getR();
+                green += throughputGreen * background.getG();
+                blue += throughputBlue * background.getB();
+                break;
+            }
+
+            CollisionInformation information = collision.get();
+            Material material = information.getShape().getMaterial();
+            Color color = information.getColor();
+
+            if (material.isEmissive() && !(diffuseBounce && scene.isSampledLight(information.getShape()))) {
+                red += throughputRed * material.getEmittance() * color.getR();
+                green += throughputGreen * material.getEmittance() * color.getG();
+                blue += throughputBlue * material.getEmittance() * color.getB();
+            }
+
+            int dimension = Sampler.FIRST_INTEGRATOR_DIMENSION + bounce * DIMENSIONS_PER_BOUNCE;
+
+            if (bounce >= rouletteDepth) {
+                double survival = min(1d, max(throughputRed, max(throughputGreen, throughputBlue)));
+                if (sampler.get(pixel, sample, dimension + ROULETTE) >= survival) {
+                    break;
+                }
+                throughputRed /= survival;
+                throughputGreen /= survival;
+                throughputBlue /= survival;
+            }
+
+            Vector3D normal = information.getShape().getNormal(information.getPoint());
+            if (normal.equals(Vector3D.ZERO)) {
+                /* nothing to scatter around, the path ends on a shape without normals */
+                break;
+            }
+            Vector3D direction = ray.getDirection().normalize();
+            double cosIncident = -direction.dotProduct(normal);
+            boolean leaving = cosIncident < 0d;
+            if (leaving) {
+                normal = normal.negate();
+                cosIncident = -cosIncident;
+            }
+
+            Vector3D point = information.getPoint();
+            double event = sampler.get(pixel, sample, dimension + EVENT);
+
+            if (event < material.getDiffuse()) {
+                throughputRed *= color.getR();
+                throughputGreen *= color.getG();
+                throughputBlue *= color.getB();
+
+                if (!scene.getLightTree().isEmpty()) {
+                    Optional<LightSample> lightSample = scene.getLightTree().sample(point,
+                            sampler.get(pixel, sample, dimension + LIGHT_SELECT),
+                            sampler.get(pixel, sample, dimension + LIGHT_U),
+                            sampler.get(pixel, sample, dimension + LIGHT_V));
+                    if (lightSample.isPresent()) {
+                        double cos = lightSample.get().getDirection().dotProduct(normal);
+                        if (cos > 0d && !isOccluded(scene, point.add(Optics.SURFACE_OFFSET, normal),
+                                lightSample.get())) {
+                            Color radiance = lightSample.get().getRadiance();
+                            red += throughputRed * INV_PI * cos * radiance.getR();
+                            green += throughputGreen * INV_PI * cos * radiance.getG();
+                            blue += throughputBlue * INV_PI * cos * radiance.getB();
+                        }
+                    }
+                }
+
+                diffuseBounce = true;
+                Vector3D bounceDirection = sampleCosineHemisphere(normal,
+                        sampler.get(pixel, sample, dimension + DIRECTION_U),
+                        sampler.get(pixel, sample, dimension + DIRECTION_V));
+                ray = new Ray(point.add(Optics.SURFACE_OFFSET, normal), bounceDirection);
+            } else if (event < material.getDiffuse() + material.getReflectivity()) {
+                diffuseBounce = false;
+                ray = new Ray(point.add(Optics.SURFACE_OFFSET, normal),
+                        Optics.reflect(direction, normal, cosIncident));
+            } else if (material.getTransparency() > 0d) {
+                diffuseBounce = false;
+                double refractiveIndexRatio = leaving
+                        ? material.getRefractiveIndex()
+                        : 1d / material.getRefractiveIndex();
+                double sinSquaredTransmitted = Optics.sinSquaredTransmitted(refractiveIndexRatio, cosIncident);
+                double fresnel = 1d;
+                double cosTransmitted = 0d;
+                if (sinSquaredTransmitted < 1d) {
+                    cosTransmitted = Optics.cosTransmitted(sinSquaredTransmitted);
+                    fresnel = Optics.schlick(refractiveIndexRatio, cosIncident, cosTransmitted);
+                }
+                if (sampler.get(pixel, sample, dimension + FRESNEL) < fresnel) {
+                    ray = new Ray(point.add(Optics.SURFACE_OFFSET, normal),
+                            Optics.reflect(direction, normal, cosIncident));
+                } else {
+                    ray = new Ray(point.subtract(Optics.SURFACE_OFFSET, normal),
+                            Optics.refract(direction, normal, refractiveIndexRatio, cosIncident, cosTransmitted));
+                }
+            } else {
+                /* absorbed, the shares of the material add up to less than one */
+                break;
+            }
+        }
+
+        return new Color(red, green, blue);
+    }
+
+    private static boolean isOccluded(final Scene scene, final Vector3D origin, final LightSample lightSample) {
+        double distance = lightSample.getDistance() * (1d - SHADOW_RAY_SHORTENING);
+        return distance > EPSILON && scene.findClosestCollision(new Ray(origin, lightSample.getDirection(),
+                new DoubleRange(EPSILON, distance))).isPresent();
+    }
+
+    /**
+     * Map two uniform numbers to a cosine distributed direction around the normal. The tangent frame is built
+     * without branches following Duff et al., "Building an Orthonormal Basis, Revisited".
+     */
+    static Vector3D sampleCosineHemisphere(final Vector3D normal, final double u, final double v) {
+        double sign = copySign(1d, normal.getZ());
+        double a = -1d / (sign + normal.getZ());
+        double b = normal.getX() * normal.getY() * a;
+        Vector3D tangent = new Vector3D(1d + sign * normal.getX() * normal.getX() * a, sign * b,
+                -sign * normal.getX());
+        Vector3D bitangent = new Vector3D(b, sign + normal.getY() * normal.getY() * a, -normal.getY());
+
+        double radius = sqrt(u);
+        double phi = TWO_PI * v;
+        double height = sqrt(max(0d, 1d - u));
+        return new Vector3D(radius * cos(phi), tangent, radius * sin(phi), bitangent, height, normal);
+    }
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.CounterRandom;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Whitted style integrator following mirror reflections and refractions. The secondary rays are kept on an explicit
+ * per thread stack instead of recursing, together with their throughput, i.e. the share of the pixel color they
+ * contribute. A ray is dropped when
+ * <ul>
+ * <li>its depth exceeds the maximum depth,</li>
+ * <li>its throughput falls below the minimum contribution or</li>
+ * <li>it loses the Russian roulette played after the roulette depth.</li>
+ * </ul>
+ * Glass surfaces spawn both a reflected and a refracted ray only up to the split depth, deeper hits continue with one
+ * of them chosen randomly. The number of rays per path therefore grows linearly with the depth. The random choices
+ * are counter based random numbers keyed by the pixel and the sample, drawn in the fixed order of the stack, so a
+ * pixel sample always yields the same color.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class WhittedIntegrator implements Integrator {
+
+    public static final int DEFAULT_MAX_DEPTH = 8;
+    public static final double DEFAULT_MIN_CONTRIBUTION = 1e-3d;
+    public static final int DEFAULT_ROULETTE_DEPTH = 3;
+    public static final int DEFAULT_SPLIT_DEPTH = 2;
+
+    private final int maxDepth;
+    private final double minContribution;
+    private final int rouletteDepth;
+    private final int splitDepth;
+
+    private final ThreadLocal<RayStack> stacks;
+
+    public WhittedIntegrator(final int maxDepth, final double minContribution, final int rouletteDepth,
+                             final int splitDepth) {
+        this.maxDepth = maxDepth;
+        this.minContribution = minContribution;
+        this.rouletteDepth = rouletteDepth;
+        this.splitDepth = splitDepth;
+        /* every ray pushes at most two children one level deeper and one of them is popped right away */
+        this.stacks = ThreadLocal.withInitial(() -> new RayStack(maxDepth + 2));
+    }
+
+    public WhittedIntegrator() {
+        this(DEFAULT_MAX_DEPTH, DEFAULT_MIN_CONTRIBUTION, DEFAULT_ROULETTE_DEPTH, DEFAULT_SPLIT_DEPTH);
+    }
+
+    @Override
+    public Color trace(final Scene scene, final Ray cameraRay) {
+        return trace(scene, cameraRay, 0L, 0);
+    }
+
+    @Override
+    public Color trace(final Scene scene, final Ray cameraRay, final long pixel, final int sample) {
+        RayStack stack = stacks.get();
+        stack.size = 0;
+        stack.randomKey = CounterRandom.key(0L, pixel, sample, 0);
+        stack.draws = 0;
+        stack.push(cameraRay, 1d, 1d, 1d, 0);
+
+        double red = 0d;
+        double green = 0d;
+        double blue = 0d;
+
+        while (stack.size > 0) {
+            int entry = --stack.size;
+            Ray ray = stack.rays[entry];
+            stack.rays[entry] = null;
+            int depth = stack.depths[entry];
+            double throughputRed = stack.throughputs[3 * entry];
+            double throughputGreen = stack.throughputs[3 * entry + 1];
+            double throughputBlue = stack.throughputs[3 * entry + 2];
+
+            Optional<CollisionInformation> collision = scene.findClosestCollision(ray);
+            if (!collision.isPresent()) {
+                continue;
+            }
+
+            CollisionInformation information = collision.get();
+            Material material = information.getShape().getMaterial();
+            Color color = information.getColor();
+
+            double diffuse = material.getDiffuse();
+            double shown = diffuse + material.getEmittance();
+            red += throughputRed * shown * color.getR();
+            green += throughputGreen * shown * color.getG();
+            blue += throughputBlue * shown * color.getB();
+
+            if (diffuse >= 1d || depth >= maxDepth) {
+                continue;
+            }
+
+            Vector3D normal = information.getShape().getNormal(information.getPoint());
+            if (normal.equals(Vector3D.ZERO)) {
+                /* neither reflected nor refracted from a shape without normals */
+                continue;
+            }
+            Vector3D direction = ray.getDirection().normalize();
+            double cosIncident = -direction.dotProduct(normal);
+            double refractiveIndexRatio = 1d / material.getRefractiveIndex();
+            if (cosIncident < 0d) {
+                /* leaving the shape */
+                normal = normal.negate();
+                cosIncident = -cosIncident;
+                refractiveIndexRatio = material.getRefractiveIndex();
+            }
+
+            double reflected = material.getReflectivity();
+            double refracted = 0d;
+            Vector3D refractedDirection = null;
+
+            if (material.getTransparency() > 0d) {
+                double sinSquaredTransmitted = Optics.sinSquaredTransmitted(refractiveIndexRatio, cosIncident);
+                if (sinSquaredTransmitted >= 1d) {
+                    /* total internal reflection */
+                    reflected += material.getTransparency();
+                } else {
+                    double cosTransmitted = Optics.cosTransmitted(sinSquaredTransmitted);
+                    double fresnel = Optics.schlick(refractiveIndexRatio, cosIncident, cosTransmitted);
+                    reflected += material.getTransparency() * fresnel;
+                    refracted = material.getTransparency() * (1d - fresnel);
+                    refractedDirection = Optics.refract(direction, normal, refractiveIndexRatio, cosIncident,
+                            cosTransmitted);
+                }
+            }
+
+            if (refracted > 0d && reflected > 0d && depth >= splitDepth) {
+                /* continue with only one of both rays, chosen proportional to its share */
+                double reflectProbability = reflected / (reflected + refracted);
+                if (stack.nextRandom() < reflectProbability) {
+                    reflected /= reflectProbability;
+                    refracted = 0d;
+                } else {
+                    refracted /= 1d - reflectProbability;
+                    reflected = 0d;
+                }
+            }
+
+            Vector3D point = information.getPoint();
+            if (reflected > 0d) {
+                Vector3D reflectedDirection = Optics.reflect(direction, normal, cosIncident);
+                push(stack, new Ray(point.add(Optics.SURFACE_OFFSET, normal), reflectedDirection), reflected,
+                        throughputRed, throughputGreen, throughputBlue, depth + 1);
+            }
+            if (refracted > 0d) {
+                push(stack, new Ray(point.subtract(Optics.SURFACE_OFFSET, normal), refractedDirection), refracted,
+                        throughputRed, throughputGreen, throughputBlue, depth + 1);
+            }
+        }
+
+        return new Color(red, green, blue);
+    }
+
+    /**
+     * Push a secondary ray unless its contribution is too small or it loses the Russian roulette.
+     */
+    private void push(final RayStack stack, final Ray ray, final double weight, final double throughputRed,
+                      final double throughputGreen, final double throughputBlue, final int depth) {
+        double red = throughputRed * weight;
+        double green = throughputGreen * weight;
+        double blue = throughputBlue * weight;
+
+        double contribution = max(red, max(green, blue));
+        if (contribution < minContribution) {
+            return;
+        }
+
+        if (depth >= rouletteDepth) {
+            double survival = min(1d, contribution);
+            if (stack.nextRandom() >= survival) {
+                return;
+            }
+            red /= survival;
+            green /= survival;
+            blue /= survival;
+        }
+
+        stack.push(ray, red, green, blue, depth);
+    }
+
+    /**
+     * Preallocated stack of pending rays, one per thread, together with the random numbers of the traced sample.
+     */
+    private static final class RayStack {
+
+        private final Ray[] rays;
+        private final double[] throughputs;
+        private final int[] depths;
+
+        private int size;
+        private long randomKey;
+        private int draws;
+
+        private RayStack(final int capacity) {
+            rays = new Ray[capacity];
+            throughputs = new double[3 * capacity];
+            depths = new int[capacity];
+        }
+
+        private void push(final Ray ray, final double red, final double green, final double blue, final int depth) {
+            rays[size] = ray;
+            throughputs[3 * size] = red;
+            throughputs[3 * size + 1] = green;
+            throughputs[3 * size + 2] = blue;
+            depths[size] = depth;
+            size++;
+        }
+
+        private double nextRandom() {
+            return CounterRandom.uniform(randomKey, draws++);
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+/**
+ * A light source which can be sampled from a shading point.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public interface Light {
+
+    /**
+     * @return The bounds of the emitting geometry
+     */
+    BoundingBox getBounds();
+
+    /**
+     * @return The emitted power as luminance, used to estimate the contribution of the light
+     */
+    double getPower();
+
+    /**
+     * Sample a direction towards the light.
+     *
+     * @param point The shading point
+     * @param u     A uniform number in [0, 1)
+     * @param v     A uniform number in [0, 1)
+     * @return The sample or empty if the light does not illuminate the point
+     */
+    Optional<LightSample> sample(Vector3D point, double u, double v);
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * A sampled direction towards a light with the incident radiance divided by the probability density of the sample.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class LightSample {
+
+    private final Vector3D direction;
+    private final double distance;
+    private final Color radiance;
+
+    /**
+     * @param direction The normalized direction from the shading point towards the light
+     * @param distance  The distance to the sampled point of the light, shapes closer than that occlude it
+     * @param radiance  The incident radiance divided by the probability density
+     */
+    public LightSample(final Vector3D direction, final double distance, final Color radiance) {
+        this.direction = direction;
+        this.distance = distance;
+        this.radiance = radiance;
+    }
+
+    public Vector3D getDirection() {
+        return direction;
+    }
+
+    public double getDistance() {
+        return distance;
+    }
+
+    public Color getRadiance() {
+        return radiance;
+    }
+
+    /**
+     * @return A sample with the radiance divided by the probability of choosing the light
+     */
+    public LightSample divide(final double probability) {
+        return new LightSample(direction, distance, radiance.scale(1d / probability));
+    }
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.List;
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Bounding volume hierarchy over the lights of a scene, used to pick a light in proportion to its estimated
+ * contribution to a shading point. Every node stores the bounds and the total power of its lights. Sampling descends
+ * from the root and chooses each child with a probability proportional to its power divided by its squared distance
+ * to the point, so picking a light costs time logarithmic in the number of lights.
+ * <p>
+ * The nodes are stored depth first in flat arrays like the ones of the shape hierarchy, with one light per leaf.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class LightTree {
+
+    private static final double ONE_MINUS_EPSILON = Math.nextDown(1d);
+
+    private final Light[] lights;
+
+    /** Six values per node: min x, y, z followed by max x, y, z. */
+    private final double[] nodeBounds;
+
+    private final double[] nodePowers;
+
+    /** Leaf: -(light index + 1). Interior node: index of the second child, the first one follows the node. */
+    private final int[] nodeChildren;
+
+    private final int depth;
+
+    public LightTree(final List<Light> lights) {
+        this.lights = lights.toArray(new Light[lights.size()]);
+
+        int nodeCount = max(0, 2 * this.lights.length - 1);
+        nodeBounds = new double[nodeCount * 6];
+        nodePowers = new double[nodeCount];
+        nodeChildren = new int[nodeCount];
+
+        double[] centroids = new double[this.lights.length * 3];
+        int[] order = new int[this.lights.length];
+        for (int index = 0; index < this.lights.length; index++) {
+            BoundingBox box = this.lights[index].getBounds();
+            centroids[index * 3] = (box.getMinX() + box.getMaxX()) * .5d;
+            centroids[index * 3 + 1] = (box.getMinY() + box.getMaxY()) * .5d;
+            centroids[index * 3 + 2] = (box.getMinZ() + box.getMaxZ()) * .5d;
+            order[index] = index;
+        }
+
+        depth = this.lights.length > 0 ? new Builder(centroids, order).build(0, this.lights.length, 0) : 0;
+    }
+
+    public boolean isEmpty() {
+        return lights.length == 0;
+    }
+
+    public int getLightCount() {
+        return lights.length;
+    }
+
+    /**
+     * @return The number of nodes on the longest path from the root to a leaf
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    /**
+     * Pick a light for the point and sample it.
+     *
+     * @param point  The shading point
+     * @param select A uniform number in [0, 1) used to pick the light
+     * @param u      A uniform number in [0, 1) passed to the light
+     * @param v      A uniform number in [0, 1) passed to the light
+     * @return The sample with the radiance divided by the probability of picking the light
+     */
+    public Optional<LightSample> sample(final Vector3D point, final double select, final double u, final double v) {
+        if (lights.length == 0) {
+            return Optional.empty();
+        }
+
+        double remaining = select;
+        double probability = 1d;
+        int node = 0;
+        while (nodeChildren[node] >= 0) {
+            int first = node + 1;
+            int second = nodeChildren[node];
+            double firstImportance = importance(first, point);
+            double secondImportance = importance(second, point);
+            double total = firstImportance + secondImportance;
+            double firstProbability = total > 0d ? firstImportance / total : .5d;
+
+            if (remaining < firstProbability) {
+                remaining = remaining / firstProbability;
+                probability *= firstProbability;
+                node = first;
+            } else {
+                remaining = (remaining - firstProbability) / (1d - firstProbability);
+                probability *= 1d - firstProbability;
+                node = second;
+            }
+            remaining = min(remaining, ONE_MINUS_EPSILON);
+        }
+
+        double lightProbability = probability;
+        return lights[-nodeChildren[node] - 1].sample(point, u, v).map(sample -> sample.divide(lightProbability));
+    }
+
+    /**
+     * @return The probability of picking each light for the point, in the order of the lights given to the
+     * constructor
+     */
+    public double[] getProbabilities(final Vector3D point) {
+        double[] probabilities = new double[lights.length];
+        if (lights.length > 0) {
+            collectProbabilities(0, 1d, point, probabilities);
+        }
+        return probabilities;
+    }
+
+    private void collectProbabilities(final int node, final double probability, final Vector3D point,
+                                      final double[] probabilities) {
+        if (nodeChildren[node] < 0) {
+            probabilities[-nodeChildren[node] - 1] = probability;
+            return;
+        }
+        int first = node + 1;
+        int second = nodeChildren[node];
+        double firstImportance = importance(first, point);
+        double total = firstImportance + importance(second, point);
+        double firstProbability = total > 0d ? firstImportance / total : .5d;
+        collectProbabilities(first, probability * firstProbability, point, probabilities);
+        collectProbabilities(second, probability * (1d - firstProbability), point, probabilities);
+    }
+
+    /**
+     * Power divided by the squared distance between the point and the center of the node, which is clamped to the
+     * squared half diagonal of the node so points close to or inside a node do not overestimate it.
+     */
+    private double importance(final int node, final Vector3D point) {
+        int offset = node * 6;
+        double dx = (nodeBounds[offset] + nodeBounds[offset + 3]) * .5d - point.getX();
+        double dy = (nodeBounds[offset + 1] + nodeBounds[offset + 4]) * .5d - point.getY();
+        double dz = (nodeBounds[offset + 2] + nodeBounds[offset + 5]) * .5d - point.getZ();
+        double ex = nodeBounds[offset + 3] - nodeBounds[offset];
+        double ey = nodeBounds[offset + 4] - nodeBounds[offset + 1];
+        double ez = nodeBounds[offset + 5] - nodeBounds[offset + 2];
+        double distanceSquared = dx * dx + dy * dy + dz * dz;
+        double halfDiagonalSquared = (ex * ex + ey * ey + ez * ez) * .25d;
+        return nodePowers[node] / max(EPSILON, max(distanceSquared, halfDiagonalSquared));
+    }
+
+    /**
+     * Top down builder splitting at the centroid median of the longest axis.
+     */
+    private final class Builder {
+
+        private final double[] centroids;
+        private final int[] order;
+        private int nodeCount;
+
+        Builder(final double[] centroids, final int[] order) {
+            this.centroids = centroids;
+            this.order = order;
+        }
+
+        /**
+         * @return The depth of the built subtree
+         */
+        int build(final int from, final int to, final int level) {
+            int node = nodeCount++;
+            int offset = node * 6;
+
+            if (to - from == 1) {
+                Light light = lights[order[from]];
+                BoundingBox box = light.getBounds();
+                nodeBounds[offset] = box.getMinX();
+                nodeBounds[offset + 1] = box.getMinY();
+                nodeBounds[offset + 2] = box.getMinZ();
+                nodeBounds[offset + 3] = box.getMaxX();
+                nodeBounds[offset + 4] = box.getMaxY();
+                nodeBounds[offset + 5] = box.getMaxZ();
+                nodePowers[node] = light.getPower();
+                nodeChildren[node] = -order[from] - 1;
+                return level + 1;
+            }
+
+            double[] centroidExtent = {
+                    Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                    Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+            for (int i = from; i < to; i++) {
+                for (int axis = 0; axis < 3; axis++) {
+                    centroidExtent[axis] = min(centroidExtent[axis], centroids[order[i] * 3 + axis]);
+                    centroidExtent[axis + 3] = max(centroidExtent[axis + 3], centroids[order[i] * 3 + axis]);
+                }
+            }
+            int axis = 0;
+            for (int candidate = 1; candidate < 3; candidate++) {
+                if (centroidExtent[candidate + 3] - centroidExtent[candidate]
+                        > centroidExtent[axis + 3] - centroidExtent[axis]) {
+                    axis = candidate;
+                }
+            }
+
+            int middle = (from + to) >>> 1;
+            select(from, to - 1, middle, axis);
+
+            int firstDepth = build(from, middle, level + 1);
+            int second = nodeCount;
+            int secondDepth = build(middle, to, level + 1);
+
+            int first = node + 1;
+            for (int component = 0; component < 3; component++) {
+                nodeBounds[offset + component] = min(nodeBounds[first * 6 + component],
+                        nodeBounds[second * 6 + component]);
+                nodeBounds[offset + component + 3] = max(nodeBounds[first * 6 + component + 3],
+                        nodeBounds[second * 6 + component + 3]);
+            }
+            nodePowers[node] = nodePowers[first] + nodePowers[second];
+            nodeChildren[node] = second;
+            return max(firstDepth, secondDepth);
+        }
+
+        /**
+         * Quickselect: partially order the range such that position k holds the light with the k-th smallest
+         * centroid along the axis.
+         */
+        private void select(int left, int right, final int k, final int axis) {
+            while (left < right) {
+                double pivot = centroids[order[(left + right) >>> 1] * 3 + axis];
+                int i = left;
+                int j = right;
+                while (i <= j) {
+                    while (centroids[order[i] * 3 + axis] < pivot) {
+                        i++;
+                    }
+                    while (centroids[order[j] * 3 + axis] > pivot) {
+                        j--;
+                    }
+                    if (i <= j) {
+                        int swap = order[i];
+                        order[i] = order[j];
+                        order[j] = swap;
+                        i++;
+                        j--;
+                    }
+                }
+                if (k <= j) {
+                    right = j;
+                } else if (k >= i) {
+                    left = i;
+                } else {
+                    return;
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.Color;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.TWO_PI;
+import static org.apache.commons.math3.util.FastMath.sqrt;
+
+/**
+ * Light emitted from a single point equally in all directions.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PointLight implements Light {
+
+    private final Vector3D position;
+    private final Color intensity;
+    private final BoundingBox bounds;
+
+    /**
+     * @param position  The position of the light
+     * @param intensity The radiant intensity, i.e. the irradiance at distance 1
+     */
+    public PointLight(final Vector3D position, final Color intensity) {
+        this.position = position;
+        this.intensity = intensity;
+        this.bounds = new BoundingBox(position.getX(), position.getY(), position.getZ(),
+                position.getX(), position.getY(), position.getZ());
+    }
+
+    public Vector3D getPosition() {
+        return position;
+    }
+
+    @Override
+    public BoundingBox getBounds() {
+        return bounds;
+    }
+
+    @Override
+    public double getPower() {
+        return 2d * TWO_PI * intensity.getLuminance();
+    }
+
+    @Override
+    public Optional<LightSample> sample(final Vector3D point, final double u, final double v) {
+        Vector3D toLight = position.subtract(point);
+        double distanceSquared = toLight.getNormSq();
+        if (distanceSquared == 0d) {
+            return Optional.empty();
+        }
+        double distance = sqrt(distanceSquared);
+        return Optional.of(new LightSample(toLight.scalarMultiply(1d / distance), distance,
+                intensity.scale(1d / distanceSquared)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("PointLight{position=%s, intensity=%s}", position, intensity.getLuminance());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.TWO_PI;
+import static org.apache.commons.math3.util.FastMath.PI;
+import static org.apache.commons.math3.util.FastMath.cos;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.sin;
+import static org.apache.commons.math3.util.FastMath.sqrt;
+
+/**
+ * An emissive sphere. Directions are sampled uniformly within the cone the sphere subtends from the shading point.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class SphereLight implements Light {
+
+    private final Sphere sphere;
+    private final Color radiance;
+
+    public SphereLight(final Sphere sphere) {
+        this.sphere = sphere;
+        this.radiance = sphere.getColor().scale(sphere.getMaterial().getEmittance());
+    }
+
+    public Sphere getSphere() {
+        return sphere;
+    }
+
+    @Override
+    public BoundingBox getBounds() {
+        return sphere.getBounds();
+    }
+
+    @Override
+    public double getPower() {
+        /* area times pi times radiance */
+        return 4d * PI * PI * sphere.getRadius() * sphere.getRadius() * radiance.getLuminance();
+    }
+
+    @Override
+    public Optional<LightSample> sample(final Vector3D point, final double u, final double v) {
+        Vector3D toCenter = sphere.getCenter().subtract(point);
+        double distanceSquared = toCenter.getNormSq();
+        double radiusSquared = sphere.getRadius() * sphere.getRadius();
+        if (distanceSquared <= radiusSquared) {
+            return Optional.empty();
+        }
+
+        double distance = sqrt(distanceSquared);
+        Vector3D axis = toCenter.scalarMultiply(1d / distance);
+        double sinSquaredMax = radiusSquared / distanceSquared;
+        double cosMax = sqrt(max(0d, 1d - sinSquaredMax));
+        /* 1 - cos written without cancellation for small cones */
+        double oneMinusCosMax = sinSquaredMax / (1d + cosMax);
+
+        double oneMinusCos = u * oneMinusCosMax;
+        double cosTheta = 1d - oneMinusCos;
+        double sinTheta = sqrt(max(0d, oneMinusCos * (2d - oneMinusCos)));
+        double phi = TWO_PI * v;
+
+        Vector3D tangent = axis.orthogonal();
+        Vector3D bitangent = Vector3D.crossProduct(axis, tangent);
+        Vector3D direction = new Vector3D(sinTheta * cos(phi), tangent, sinTheta * sin(phi), bitangent,
+                cosTheta, axis);
+
+        /* distance to the near intersection of the direction with the sphere */
+        double projection = distance * cosTheta;
+        double hitDistance = projection - sqrt(max(0d, radiusSquared - (distanceSquared - projection * projection)));
+
+        return Optional.of(new LightSample(direction, hitDistance, radiance.scale(TWO_PI * oneMinusCosMax)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SphereLight{sphere=%s, radiance=%s}", sphere, radiance.getLuminance());
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.materials;
+
+/**
+ * Surface description used by the integrators. The light leaving a surface is split into a diffuse part showing
+ * the shape color, a mirror part and a transmitted part which is refracted according to the refractive index. The
+ * transmitted part is further split into reflection and refraction by the Fresnel term. Emissive surfaces
+ * additionally emit their color scaled by the emittance.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class Material {
+
+    public static final Material DIFFUSE = new Material(0d, 0d, 1d);
+
+    public static final double GLASS_REFRACTIVE_INDEX = 1.5d;
+
+    private final double reflectivity;
+    private final double transparency;
+    private final double refractiveIndex;
+    private final double emittance;
+
+    /**
+     * @param reflectivity    The mirrored share of the incoming light
+     * @param transparency    The transmitted share of the incoming light
+     * @param refractiveIndex The index of refraction of the inside of the shape
+     * @param emittance       The factor by which the shape color is emitted, 0 for surfaces which are no lights
+     */
+    public Material(final double reflectivity, final double transparency, final double refractiveIndex,
+                    final double emittance) {
+        if (reflectivity < 0d || transparency < 0d || reflectivity + transparency > 1d) {
+            throw new IllegalArgumentException(String.format(
+                    "Reflectivity %s and transparency %s must be positive and add up to at most 1",
+                    reflectivity,
+                    transparency));
+        }
+        this.reflectivity = reflectivity;
+        this.transparency = transparency;
+        this.refractiveIndex = refractiveIndex;
+        this.emittance = emittance;
+    }
+
+    public Material(final double reflectivity, final double transparency, final double refractiveIndex) {
+        this(reflectivity, transparency, refractiveIndex, 0d);
+    }
+
+    public static Material mirror(final double reflectivity) {
+        return new Material(reflectivity, 0d, 1d);
+    }
+
+    public static Material glass() {
+        return new Material(0d, 1d, GLASS_REFRACTIVE_INDEX);
+    }
+
+    public static Material emissive(final double emittance) {
+        return new Material(0d, 0d, 1d, emittance);
+    }
+
+    public double getReflectivity() {
+        return reflectivity;
+    }
+
+    public double getTransparency() {
+        return transparency;
+    }
+
+    public double getRefractiveIndex() {
+        return refractiveIndex;
+    }
+
+    public double getEmittance() {
+        return emittance;
+    }
+
+    public boolean isEmissive() {
+        return emittance > 0d;
+    }
+
+    /**
+     * @return The share of the incoming light showing the shape color
+     */
+    public double getDiffuse() {
+        return 1d - reflectivity - transparency;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Material{reflectivity=%s, transparency=%s, refractiveIndex=%s, emittance=%s}",
+                reflectivity,
+                transparency,
+                refractiveIndex,
+                emittance);
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.math;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import static java.lang.Double.NEGATIVE_INFINITY;
+import static java.lang.Double.POSITIVE_INFINITY;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Axis aligned bounding box given by its minimal and maximal corner. Unbounded shapes use {@link #INFINITE}.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class BoundingBox {
+
+    public static final BoundingBox INFINITE = new BoundingBox(
+            NEGATIVE_INFINITY, NEGATIVE_INFINITY, NEGATIVE_INFINITY,
+            POSITIVE_INFINITY, POSITIVE_INFINITY, POSITIVE_INFINITY);
+
+    private final double minX;
+    private final double minY;
+    private final double minZ;
+    private final double maxX;
+    private final double maxY;
+    private final double maxZ;
+
+    public BoundingBox(final double minX, final double minY, final double minZ,
+                       final double maxX, final double maxY, final double maxZ) {
+        this.minX = minX;
+        this.minY = minY;
+        this.minZ = minZ;
+        this.maxX = maxX;
+        this.maxY = maxY;
+        this.maxZ = maxZ;
+    }
+
+    public BoundingBox(final Vector3D min, final Vector3D max) {
+        this(min.getX(), min.getY(), min.getZ(), max.getX(), max.getY(), max.getZ());
+    }
+
+    public double getMinX() {
+        return minX;
+    }
+
+    public double getMinY() {
+        return minY;
+    }
+
+    public double getMinZ() {
+        return minZ;
+    }
+
+    public double getMaxX() {
+        return maxX;
+    }
+
+    public double getMaxY() {
+        return maxY;
+    }
+
+    public double getMaxZ() {
+        return maxZ;
+    }
+
+    public Vector3D getMin() {
+        return new Vector3D(minX, minY, minZ);
+    }
+
+    public Vector3D getMax() {
+        return new Vector3D(maxX, maxY, maxZ);
+    }
+
+    /**
+     * @return true if all six extents are finite numbers
+     */
+    public boolean isBounded() {
+        return Double.isFinite(minX) && Double.isFinite(minY) && Double.isFinite(minZ)
+                && Double.isFinite(maxX) && Double.isFinite(maxY) && Double.isFinite(maxZ);
+    }
+
+    public BoundingBox union(final BoundingBox other) {
+        return new BoundingBox(
+                min(minX, other.minX), min(minY, other.minY), min(minZ, other.minZ),
+                max(maxX, other.maxX), max(maxY, other.maxY), max(maxZ, other.maxZ));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BoundingBox{min=(%s, %s, %s), max=(%s, %s, %s)}", minX, minY, minZ, maxX, maxY, maxZ);
+    }
+}
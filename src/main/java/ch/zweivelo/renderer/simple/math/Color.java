@@ -29,6 +29,7 @@ import static org.apache.commons.math3.util.FastMath.min;
 public class Color {
 
     public static final Color BLACK = new Color(0d, 0d, 0d);
+    public static final Color WHITE = new Color(1d, 1d, 1d);
     public static final Color RED = new Color(1d, 0d, 0d);
     public static final Color GREEN = new Color(0d, 1d, 0d);
     public static final Color BLUE = new Color(0d, 0d, 1d);
@@ -55,15 +56,29 @@ public class Color {
         return b;
     }
 
+    /**
+     * @return The relative luminance using the Rec. 709 weights
+     */
+    public double getLuminance() {
+        return .2126d * r + .7152d * g + .0722d * b;
+    }
+
     public Color add(Color other) {
         return new Color(r + other.r, g + other.g, b + other.b);
     }
 
+    /**
+     * @return The component wise product, e.g. a color filtered by another one
+     */
+    public Color multiply(Color other) {
+        return new Color(r * other.r, g * other.g, b * other.b);
+    }
+
     public Color scale(double factor) {
         return new Color(r * factor, g * factor, b * factor);
     }
 
     public Color clamp() {
-        return new Color(min(0d, max(1d, r)), min(0d, max(1d, g)), min(0d, max(1d, b)));
+        return new Color(max(0d, min(1d, r)), max(0d, min(1d, g)), max(0d, min(1d, b)));
     }
 }
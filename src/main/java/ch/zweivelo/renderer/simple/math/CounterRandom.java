@@ -0,0 +1,64 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.math;
+
+/**
+ * Stateless counter based random numbers. Instead of advancing a shared generator, every random number is computed
+ * by hashing a key and a dimension with the SplitMix64 finalizer. The key identifies where the number is used, e.g.
+ * a pixel, a sample and a bounce, so results are reproducible regardless of the number of threads or the order of
+ * the work, and no state is shared between threads.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class CounterRandom {
+
+    /** Odd constant used by SplitMix64 to step between keys, derived from the golden ratio. */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private static final double DOUBLE_UNIT = 0x1.0p-53;
+
+    /**
+     * The SplitMix64 finalizer, a bijective 64 bit hash.
+     */
+    public static long mix(final long value) {
+        long z = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * @return The key of the random numbers of a bounce of a pixel sample
+     */
+    public static long key(final long seed, final long pixel, final int sample, final int bounce) {
+        long key = mix(seed + GOLDEN_GAMMA * (pixel + 1L));
+        key = mix(key + GOLDEN_GAMMA * (sample + 1L));
+        return mix(key + GOLDEN_GAMMA * (bounce + 1L));
+    }
+
+    /**
+     * @param key       The key computed with {@link #key(long, long, int, int)}
+     * @param dimension The index of the number drawn for the key
+     * @return A uniformly distributed number in [0, 1)
+     */
+    public static double uniform(final long key, final int dimension) {
+        return (mix(key + GOLDEN_GAMMA * (dimension + 1L)) >>> 11) * DOUBLE_UNIT;
+    }
+
+}
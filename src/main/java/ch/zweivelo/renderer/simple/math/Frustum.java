@@ -0,0 +1,88 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.math;
+
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+/**
+ * Infinite pyramid spanned by rays leaving a common apex, e.g. the corner rays of an image tile. It is bounded by one
+ * plane through the apex per pair of neighboring corner rays.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class Frustum {
+
+    /** Relative tolerance keeping boxes touching a side plane inside. */
+    private static final double TOLERANCE = 1e-9d;
+
+    private final Vector3D apex;
+    private final Vector3D[] normals;
+    private final double[] offsets;
+
+    /**
+     * @param apex    The common origin of the corner rays
+     * @param corners The directions of the corner rays in order around the frustum, clockwise or counterclockwise
+     */
+    public Frustum(final Vector3D apex, final Vector3D... corners) {
+        this.apex = apex;
+        this.normals = new Vector3D[corners.length];
+        this.offsets = new double[corners.length];
+
+        Vector3D center = Vector3D.ZERO;
+        for (Vector3D corner : corners) {
+            center = center.add(corner.normalize());
+        }
+        for (int i = 0; i < corners.length; i++) {
+            Vector3D normal = corners[i].crossProduct(corners[(i + 1) % corners.length]).normalize();
+            normals[i] = normal.dotProduct(center) < 0d ? normal.negate() : normal;
+            offsets[i] = normals[i].dotProduct(apex);
+        }
+    }
+
+    public Vector3D getApex() {
+        return apex;
+    }
+
+    /**
+     * Conservative overlap test, a box is only rejected if it lies completely outside of one side plane.
+     *
+     * @param box The bounds of a shape
+     * @return false if no point of the box lies within the frustum
+     */
+    public boolean intersects(final BoundingBox box) {
+        if (!box.isBounded()) {
+            return true;
+        }
+        for (int i = 0; i < normals.length; i++) {
+            Vector3D normal = normals[i];
+            /* the corner of the box furthest along the normal */
+            double x = normal.getX() >= 0d ? box.getMaxX() : box.getMinX();
+            double y = normal.getY() >= 0d ? box.getMaxY() : box.getMinY();
+            double z = normal.getZ() >= 0d ? box.getMaxZ() : box.getMinZ();
+            double distance = normal.getX() * x + normal.getY() * y + normal.getZ() * z - offsets[i];
+            double scale = Math.abs(x - apex.getX()) + Math.abs(y - apex.getY()) + Math.abs(z - apex.getZ());
+            if (distance < -TOLERANCE * scale) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+}
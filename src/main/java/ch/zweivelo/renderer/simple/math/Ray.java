@@ -28,21 +28,31 @@ import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
  */
 public class Ray {
 
+    /** The valid distances of rays created without an interval, shared as ranges are immutable. */
+    private static final DoubleRange DEFAULT_INTERVAL = new DoubleRange(MathUtils.EPSILON, MathUtils.EPSIPON_MAX);
+
     private final Vector3D origin;
 
     private final Vector3D direction;
 
     private final DoubleRange interval;
 
+    /** Growth of the ray footprint per unit of distance, 0 for infinitely thin rays. */
+    private final double spread;
 
-    public Ray(final Vector3D origin, final Vector3D direction, final DoubleRange interval) {
+    public Ray(final Vector3D origin, final Vector3D direction, final DoubleRange interval, final double spread) {
         this.origin = origin;
         this.direction = direction;
         this.interval = interval;
+        this.spread = spread;
+    }
+
+    public Ray(final Vector3D origin, final Vector3D direction, final DoubleRange interval) {
+        this(origin, direction, interval, 0d);
     }
 
     public Ray(final Vector3D origin, final Vector3D direction) {
-        this(origin, direction, new DoubleRange(MathUtils.EPSILON, MathUtils.EPSIPON_MAX));
+        this(origin, direction, DEFAULT_INTERVAL);
     }
 
     public Vector3D getOrigin() {
@@ -57,6 +67,24 @@ public class Ray {
         return interval;
     }
 
+    public double getSpread() {
+        return spread;
+    }
+
+    /**
+     * @return A copy of this ray whose footprint grows by the given width per unit of distance
+     */
+    public Ray withSpread(final double spread) {
+        return new Ray(origin, direction, interval, spread);
+    }
+
+    /**
+     * @return The width of the area covered by the ray at the given distance, used to filter textures
+     */
+    public double calculateFootprint(final double t) {
+        return t * spread;
+    }
+
     public boolean isValidT(double t) {
         return interval.inRange(t);
     }
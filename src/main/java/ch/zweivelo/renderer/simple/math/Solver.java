@@ -24,9 +24,13 @@ import java.util.stream.DoubleStream;
 
 import static ch.zweivelo.renderer.simple.math.MathUtils.isZero;
 import static org.apache.commons.math3.util.FastMath.PI;
+import static org.apache.commons.math3.util.FastMath.abs;
 import static org.apache.commons.math3.util.FastMath.acos;
 import static org.apache.commons.math3.util.FastMath.cbrt;
+import static org.apache.commons.math3.util.FastMath.copySign;
 import static org.apache.commons.math3.util.FastMath.cos;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
 import static org.apache.commons.math3.util.FastMath.sqrt;
 
 /**
@@ -34,7 +38,9 @@ import static org.apache.commons.math3.util.FastMath.sqrt;
  * LINEAR: c[1]x + c[0] = 0<br>
  * QUADRATIC: c[2]x<sup>2</sup> + c[1]x + c[0] = 0<br>
  * CUBIC: c[3]x<sup>3</sup> + c[2]x<sup>2</sup> + c[1]x + c[0] = 0<br>
- * QUADRIC: c[4]x<sup>4</sup> + c[3]x<sup>3</sup> + c[2]x<sup>2</sup> + c[1]x + c[0] = 0
+ * QUADRIC: c[4]x<sup>4</sup> + c[3]x<sup>3</sup> + c[2]x<sup>2</sup> + c[1]x + c[0] = 0<br>
+ * Besides all real solutions, each solver finds the smallest solution within a range, see
+ * {@link #solveNearest(DoubleRange, double...)}.
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -42,7 +48,7 @@ import static org.apache.commons.math3.util.FastMath.sqrt;
  */
 public enum Solver {
 
-    LINEAR {
+    LINEAR(1) {
         /**
          * Linear solver for the equation: c[0] + c[1]x = 0
          * @param c Coefficients: c[0], c[1]
@@ -63,7 +69,7 @@ public enum Solver {
         }
     },
 
-    QUADRATIC {
+    QUADRATIC(2) {
         /**
          * Quadratic solver for the equation: c[0] + c[1]x + c[2]x<sup>2</sup> = 0
          * @param c Coefficients: c[0], c[1], c[2]
@@ -100,7 +106,7 @@ public enum Solver {
         }
     },
 
-    CUBIC {
+    CUBIC(3) {
         /**
          * Cubic solver for the equation: c[0] + c[1]x + c[2]x<sup>2</sup> + c[3]x<sup>3</sup>= 0
          * @param c Coefficients: c[0], c[1], c[2], c[3]
@@ -182,7 +188,7 @@ public enum Solver {
         }
     },
 
-    QUARTIC {
+    QUARTIC(4) {
         /**
          * Quartic solver for the equation: c[0] + c[1]x + c[2]x<sup>2</sup> + c[3]x<sup>3</sup> + c[4]x<sup>4</sup>= 0
          * @param c Coefficients: c[0], c[1], c[2], c[3], c[4]
@@ -219,7 +225,7 @@ public enum Solver {
             if (isZero(r)) {
 
                 /* no absolute term: y(y^3 + py +q) = 0 */
-                solutions = CUBIC.solve(q, p, 0, q);
+                solutions = CUBIC.solve(q, p, 0, 1);
                 solutions = DoubleStream.concat(solutions, DoubleStream.of(0d));
 
             } else {
@@ -270,10 +276,240 @@ public enum Solver {
         }
     };
 
+    /** Relative size of the polynomial below which an extremum is taken as a double root. */
+    private static final double DOUBLE_ROOT_TOLERANCE = 1e-12d;
+
+    private static final int MAX_POLISH_ITERATIONS = 100;
+
+    private final int degree;
+
+    Solver(final int degree) {
+        this.degree = degree;
+    }
+
     /**
      * @param c Coefficients
      * @return A stream of real solutions
      */
     public abstract DoubleStream solve(double... c);
 
+    /**
+     * Find only the smallest real solution within the range, e.g. the nearest intersection along a ray. Equations
+     * are rejected without solving them if the Cauchy bound of their roots misses the range, or if the range is
+     * positive and the coefficients do not change their sign (Descartes' rule of signs). Quadratic equations are
+     * solved with a formulation free of cancellation. Cubic and quartic equations are split into monotonic pieces
+     * at the roots of their derivative within the range, the first piece whose ends differ in sign is polished by
+     * safeguarded Newton iterations. Pieces beyond it are never examined.
+     *
+     * @param range The accepted solutions, including both ends
+     * @param c     Coefficients, at most as many as {@link #solve(double...)} accepts
+     * @return The smallest solution within the range or NaN if there is none
+     */
+    public double solveNearest(final DoubleRange range, final double... c) {
+        if (c.length < 2 || c.length > degree + 1) {
+            throw new InsufficientDataException();
+        }
+        return nearestRoot(c, range.getStart(), range.getEnd());
+    }
+
+    /**
+     * Allocation free variant of {@link #solveNearest(DoubleRange, double...)} for QUADRATIC, used by the shapes.
+     *
+     * @return The smallest solution of c2x<sup>2</sup> + c1x + c0 = 0 within [start, end] or NaN if there is none
+     */
+    public static double nearestQuadraticRoot(final double c0, final double c1, final double c2, final double start,
+                                              final double end) {
+        if (isZero(c2)) {
+            return nearestLinearRoot(c0, c1, start, end);
+        }
+        if (start >= 0d && c0 * c2 > 0d && c1 * c2 >= 0d) {
+            /* no sign change, no positive root */
+            return Double.NaN;
+        }
+
+        double discriminant = c1 * c1 - 4d * c2 * c0;
+        if (discriminant < 0d) {
+            return Double.NaN;
+        }
+
+        /* q has the sign of c1, so the sum never cancels; the second root follows from Vieta's formula */
+        double q = -.5d * (c1 + copySign(sqrt(discriminant), c1));
+        double x1 = q / c2;
+        double x2 = q != 0d ? c0 / q : x1;
+        double near = min(x1, x2);
+        double far = max(x1, x2);
+
+        if (start <= near && near <= end) {
+            return near;
+        }
+        return start <= far && far <= end ? far : Double.NaN;
+    }
+
+    private static double nearestLinearRoot(final double c0, final double c1, final double start, final double end) {
+        if (c1 == 0d) {
+            return Double.NaN;
+        }
+        double root = -c0 / c1;
+        return start <= root && root <= end ? root : Double.NaN;
+    }
+
+    private static double nearestRoot(final double[] c, final double start, final double end) {
+        int n = c.length - 1;
+        while (n > 0 && isZero(c[n])) {
+            n--;
+        }
+
+        switch (n) {
+            case 0:
+                return Double.NaN;
+            case 1:
+                return nearestLinearRoot(c[0], c[1], start, end);
+            case 2:
+                return nearestQuadraticRoot(c[0], c[1], c[2], start, end);
+            default:
+                break;
+        }
+
+        if (start >= 0d && !hasSignChange(c, n)) {
+            /* no positive root by the rule of signs, a root at 0 is not counted by it */
+            return c[0] == 0d && start <= 0d && 0d <= end ? 0d : Double.NaN;
+        }
+
+        /* all roots lie within the Cauchy bound */
+        double bound = 0d;
+        for (int i = 0; i < n; i++) {
+            bound = max(bound, abs(c[i] / c[n]));
+        }
+        bound += 1d;
+        double lower = max(start, -bound);
+        double upper = min(end, bound);
+        if (lower > upper) {
+            return Double.NaN;
+        }
+
+        double[] roots = new double[1];
+        return findRoots(c, n, lower, upper, roots, true) > 0 ? roots[0] : Double.NaN;
+    }
+
+    private static boolean hasSignChange(final double[] c, final int n) {
+        double sign = Math.signum(c[n]);
+        for (int i = n - 1; i >= 0; i--) {
+            if (c[i] * sign < 0d) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Find the roots of a polynomial within [lower, upper] in increasing order.
+     *
+     * @param c         Coefficients
+     * @param n         The degree, c[n] is not zero
+     * @param roots     Receives the roots
+     * @param firstOnly true to stop after the first root
+     * @return The number of roots found
+     */
+    private static int findRoots(final double[] c, final int n, final double lower, final double upper,
+                                 final double[] roots, final boolean firstOnly) {
+        if (n == 1) {
+            double root = nearestLinearRoot(c[0], c[1], lower, upper);
+            if (Double.isNaN(root)) {
+                return 0;
+            }
+            roots[0] = root;
+            return 1;
+        }
+
+        /* the polynomial is monotonic between the extrema, i.e. the roots of the derivative */
+        double[] derivative = new double[n];
+        for (int i = 1; i <= n; i++) {
+            derivative[i - 1] = i * c[i];
+        }
+        double[] extrema = new double[n - 1];
+        int extremaCount = findRoots(derivative, n - 1, lower, upper, extrema, false);
+
+        int count = 0;
+        double left = lower;
+        double leftValue = evaluate(c, n, lower);
+        if (leftValue == 0d) {
+            roots[count++] = lower;
+            if (firstOnly) {
+                return count;
+            }
+        }
+
+        for (int i = 0; i <= extremaCount; i++) {
+            double right = i < extremaCount ? extrema[i] : upper;
+            double rightValue = evaluate(c, n, right);
+            boolean touches = i < extremaCount && abs(rightValue) <= DOUBLE_ROOT_TOLERANCE * magnitude(c, n, right);
+
+            if (leftValue != 0d && (rightValue == 0d || touches || (leftValue < 0d) != (rightValue < 0d))) {
+                roots[count++] = rightValue == 0d || touches ? right : polish(c, n, left, right, leftValue);
+                if (firstOnly) {
+                    return count;
+                }
+            }
+            left = right;
+            leftValue = touches ? 0d : rightValue;
+        }
+        return count;
+    }
+
+    /**
+     * Newton iterations kept within a bracket of the root, falling back to bisection where Newton leaves it.
+     */
+    private static double polish(final double[] c, final int n, final double lower, final double upper,
+                                 final double lowerValue) {
+        double low = lower;
+        double high = upper;
+        double x = .5d * (low + high);
+        for (int iteration = 0; iteration < MAX_POLISH_ITERATIONS; iteration++) {
+            double value = c[n];
+            double slope = 0d;
+            for (int i = n - 1; i >= 0; i--) {
+                slope = slope * x + value;
+                value = value * x + c[i];
+            }
+            if (value == 0d) {
+                return x;
+            }
+            if ((value < 0d) == (lowerValue < 0d)) {
+                low = x;
+            } else {
+                high = x;
+            }
+
+            double next = x - value / slope;
+            if (!(next > low && next < high)) {
+                next = .5d * (low + high);
+            }
+            if (abs(next - x) <= Math.ulp(x) || high - low <= Math.ulp(x)) {
+                return next;
+            }
+            x = next;
+        }
+        return x;
+    }
+
+    private static double evaluate(final double[] c, final int n, final double x) {
+        double value = c[n];
+        for (int i = n - 1; i >= 0; i--) {
+            value = value * x + c[i];
+        }
+        return value;
+    }
+
+    /**
+     * @return The sum of the absolute terms of the polynomial at x, the scale of its rounding errors
+     */
+    private static double magnitude(final double[] c, final int n, final double x) {
+        double value = abs(c[n]);
+        double absX = abs(x);
+        for (int i = n - 1; i >= 0; i--) {
+            value = value * absX + abs(c[i]);
+        }
+        return value;
+    }
+
 }
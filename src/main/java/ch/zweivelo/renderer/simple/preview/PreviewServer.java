@@ -0,0 +1,322 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.preview;
+
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.renderers.Tile;
+import ch.zweivelo.renderer.simple.renderers.TileListener;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedWriter;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArraySet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.Deflater;
+
+/**
+ * Streams the tiles of a render in progress as server-sent events. A GET request to {@value #PATH} answers with an
+ * event stream of
+ * <ul>
+ * <li>a <code>frame</code> event with the width and height of the image whenever a render starts, or right away
+ * when connecting during a render,</li>
+ * <li>a <code>tile</code> event with position, size and pixels of every rendered or refined tile, the pixels being
+ * the tone mapped 8 bit RGB values of the tile row by row, deflated and Base64 encoded, and</li>
+ * <li>a <code>done</code> event once the render is finished.</li>
+ * </ul>
+ * Render threads only record which tiles changed. Every client has its own set of changed tiles which its
+ * connection thread drains and encodes from the frame buffer as it is at that moment, so a slow client receives
+ * fewer and newer updates of a tile instead of blocking the render threads. Closing the server gives the clients a
+ * moment to receive their last updates, e.g. the <code>done</code> event of a render finished just before.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PreviewServer implements TileListener, Closeable {
+
+    public static final String PATH = "/tiles";
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreviewServer.class);
+
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000L;
+
+    private final HttpServer server;
+    private final ExecutorService connections;
+    private final ToneMapper toneMapper;
+
+    private final Set<Client> clients = new CopyOnWriteArraySet<>();
+    /** The tiles rendered so far in the current render, sent to clients connecting during the render. */
+    private final Map<Long, Tile> renderedTiles = new ConcurrentHashMap<>();
+
+    private FrameBuffer frameBuffer;
+    private boolean finished;
+
+    /**
+     * Start the server, it answers requests until closed.
+     *
+     * @param address The address to listen on, port 0 picks a free port
+     */
+    public PreviewServer(final InetSocketAddress address, final ToneMapper toneMapper) throws IOException {
+        this.toneMapper = toneMapper;
+        this.connections = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "preview-connection");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, 0);
+        server.setExecutor(connections);
+        server.createContext(PATH, this::stream);
+        server.start();
+        LOGGER.info("Streaming tiles on http://{}:{}{}", address.getHostString(), getPort(), PATH);
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Announce a new render into the frame buffer, the clients drop all tiles of the previous render.
+     */
+    public synchronized void start(final FrameBuffer frameBuffer) {
+        this.frameBuffer = frameBuffer;
+        this.finished = false;
+        renderedTiles.clear();
+        clients.forEach(client -> client.start(frameBuffer));
+    }
+
+    @Override
+    public void tileRendered(final Tile tile) {
+        renderedTiles.put(key(tile), tile);
+        for (Client client : clients) {
+            client.update(tile);
+        }
+    }
+
+    /**
+     * Announce the end of the current render.
+     */
+    public synchronized void finish() {
+        finished = true;
+        clients.forEach(Client::finish);
+    }
+
+    /**
+     * @return The number of tile updates recorded but not yet sent, summed over all clients
+     */
+    int getPendingUpdates() {
+        return clients.stream().mapToInt(Client::getPendingUpdates).sum();
+    }
+
+    @Override
+    public void close() {
+        clients.forEach(Client::close);
+        connections.shutdown();
+        try {
+            connections.awaitTermination(CLOSE_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        server.stop(0);
+        connections.shutdownNow();
+    }
+
+    private void stream(final HttpExchange exchange) throws IOException {
+        if (!"GET".equals(exchange.getRequestMethod())) {
+            exchange.sendResponseHeaders(405, -1L);
+            exchange.close();
+            return;
+        }
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=utf-8");
+        exchange.getResponseHeaders().set("Cache-Control", "no-cache");
+        exchange.sendResponseHeaders(200, 0L);
+
+        Client client = new Client();
+        synchronized (this) {
+            clients.add(client);
+            if (frameBuffer != null) {
+                client.start(frameBuffer);
+                renderedTiles.values().forEach(client::update);
+                if (finished) {
+                    client.finish();
+                }
+            }
+        }
+
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(exchange.getResponseBody(),
+                StandardCharsets.UTF_8))) {
+            Update update;
+            while ((update = client.take()) != null) {
+                if (update.started) {
+                    writeEvent(writer, "frame", String.format("{\"width\":%d,\"height\":%d}",
+                            update.frameBuffer.getWidth(), update.frameBuffer.getHeight()));
+                }
+                for (Tile tile : update.tiles) {
+                    writeEvent(writer, "tile", encode(update.frameBuffer, tile));
+                }
+                if (update.finished) {
+                    writeEvent(writer, "done", "{}");
+                }
+                writer.flush();
+            }
+        } catch (IOException e) {
+            LOGGER.debug("Preview client disconnected", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            clients.remove(client);
+            exchange.close();
+        }
+    }
+
+    private static void writeEvent(final Writer writer, final String event, final String data) throws IOException {
+        writer.write("event: ");
+        writer.write(event);
+        writer.write("\ndata: ");
+        writer.write(data);
+        writer.write("\n\n");
+    }
+
+    private String encode(final FrameBuffer frameBuffer, final Tile tile) {
+        int[] pixels = new int[tile.getWidth() * tile.getHeight()];
+        for (int y = 0; y < tile.getHeight(); y++) {
+            toneMapper.toRgb(frameBuffer, (tile.getY() + y) * frameBuffer.getWidth() + tile.getX(), tile.getWidth(),
+                    pixels, y * tile.getWidth());
+        }
+        byte[] rgb = new byte[3 * pixels.length];
+        for (int i = 0; i < pixels.length; i++) {
+            rgb[3 * i] = (byte) (pixels[i] >> 16);
+            rgb[3 * i + 1] = (byte) (pixels[i] >> 8);
+            rgb[3 * i + 2] = (byte) pixels[i];
+        }
+
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        deflater.setInput(rgb);
+        deflater.finish();
+        ByteArrayOutputStream deflated = new ByteArrayOutputStream(rgb.length / 4);
+        byte[] buffer = new byte[4096];
+        while (!deflater.finished()) {
+            deflated.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+
+        return String.format("{\"x\":%d,\"y\":%d,\"width\":%d,\"height\":%d,\"pixels\":\"%s\"}", tile.getX(),
+                tile.getY(), tile.getWidth(), tile.getHeight(),
+                Base64.getEncoder().encodeToString(deflated.toByteArray()));
+    }
+
+    private static long key(final Tile tile) {
+        return (long) tile.getY() << 32 | tile.getX();
+    }
+
+    /**
+     * The updates a client has not received yet. Repeated updates of a tile collapse into one.
+     */
+    private static final class Client {
+
+        private final Map<Long, Tile> pendingTiles = new LinkedHashMap<>();
+
+        private FrameBuffer frameBuffer;
+        private boolean started;
+        private boolean finished;
+        private boolean closed;
+
+        private synchronized void start(final FrameBuffer frameBuffer) {
+            this.frameBuffer = frameBuffer;
+            this.started = true;
+            this.finished = false;
+            pendingTiles.clear();
+            notifyAll();
+        }
+
+        private synchronized void update(final Tile tile) {
+            if (frameBuffer != null) {
+                pendingTiles.put(key(tile), tile);
+                notifyAll();
+            }
+        }
+
+        private synchronized void finish() {
+            finished = true;
+            notifyAll();
+        }
+
+        private synchronized void close() {
+            closed = true;
+            notifyAll();
+        }
+
+        private synchronized int getPendingUpdates() {
+            return pendingTiles.size();
+        }
+
+        /**
+         * Wait for and remove all pending updates.
+         *
+         * @return The updates or null once the server is closed and all updates are taken
+         */
+        private synchronized Update take() throws InterruptedException {
+            while (!closed && !started && pendingTiles.isEmpty() && !finished) {
+                wait();
+            }
+            if (!started && pendingTiles.isEmpty() && !finished) {
+                return null;
+            }
+            Update update = new Update(frameBuffer, started, new ArrayList<>(pendingTiles.values()), finished);
+            started = false;
+            finished = false;
+            pendingTiles.clear();
+            return update;
+        }
+    }
+
+    private static final class Update {
+
+        private final FrameBuffer frameBuffer;
+        private final boolean started;
+        private final List<Tile> tiles;
+        private final boolean finished;
+
+        private Update(final FrameBuffer frameBuffer, final boolean started, final List<Tile> tiles,
+                       final boolean finished) {
+            this.frameBuffer = frameBuffer;
+            this.started = started;
+            this.tiles = tiles;
+            this.finished = finished;
+        }
+    }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.images.AovBuffer;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.CollisionListener;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Fills the output variables of one pixel after the other from the collision queries of the integrator. The first
+ * query after {@link #startPixel(int)} is the camera ray of the first sample. Used by a single thread per tile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+final class AovRecorder implements CollisionListener {
+
+    private final AovBuffer aovs;
+    private final Map<Shape, Integer> shapeIds;
+
+    private int index;
+    private boolean primary;
+
+    /**
+     * @param shapeIds The one based ids of the scene shapes, compared by identity
+     */
+    AovRecorder(final AovBuffer aovs, final Map<Shape, Integer> shapeIds) {
+        this.aovs = aovs;
+        this.shapeIds = shapeIds;
+    }
+
+    void startPixel(final int index) {
+        this.index = index;
+        this.primary = true;
+    }
+
+    @Override
+    public void collided(final Ray ray, final Optional<CollisionInformation> collision) {
+        if (!collision.isPresent()) {
+            primary = false;
+            return;
+        }
+        CollisionInformation information = collision.get();
+
+        if (aovs.getHitCounts() != null) {
+            aovs.getHitCounts()[index]++;
+        }
+        if (!primary) {
+            return;
+        }
+        primary = false;
+
+        if (aovs.getDepth() != null) {
+            aovs.getDepth()[index] = (float) information.getPoint().distance(ray.getOrigin());
+        }
+        if (aovs.getNormalX() != null) {
+            Vector3D normal = information.getShape().getNormal(information.getPoint());
+            if (normal.dotProduct(ray.getDirection()) > 0d) {
+                normal = normal.negate();
+            }
+            aovs.getNormalX()[index] = (float) normal.getX();
+            aovs.getNormalY()[index] = (float) normal.getY();
+            aovs.getNormalZ()[index] = (float) normal.getZ();
+        }
+        if (aovs.getShapeIds() != null) {
+            aovs.getShapeIds()[index] = shapeIds.getOrDefault(information.getShape(), 0);
+        }
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ImageWriter;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntFunction;
+
+/**
+ * Renders one scene from many views, e.g. the frames of a turntable or a set of product angles. The scene and its
+ * accelerator are built once and shared, and the tiles of all views are rendered from one pool of work, see {@link
+ * RenderEngine#render(Scene, List, java.util.function.ObjIntConsumer)}. Every view is written by an output thread as
+ * soon as its last tile is rendered, while the tiles of the other views keep all cores busy. A written view is
+ * released, and rendering waits while too many views are waiting to be written, so a batch of many views only holds
+ * the views in progress and a few waiting to be written, also when writing is slower than rendering.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class BatchRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchRenderer.class);
+
+    /** Number of rendered views waiting for the output thread at most. */
+    private static final int MAX_PENDING_WRITES = 2;
+
+    private final RenderEngine renderEngine;
+    private final ToneMapper toneMapper;
+
+    public BatchRenderer(final RenderEngine renderEngine) {
+        this(renderEngine, new ToneMapper(ToneMapping.CLAMP));
+    }
+
+    /**
+     * @param toneMapper The conversion of the written views into 8 bit sRGB
+     */
+    public BatchRenderer(final RenderEngine renderEngine, final ToneMapper toneMapper) {
+        this.renderEngine = renderEngine;
+        this.toneMapper = toneMapper;
+    }
+
+    /**
+     * Render and write all views. Rendering waits while {@value #MAX_PENDING_WRITES} views are waiting to be
+     * written, and stops with the first view that can not be written.
+     *
+     * @param files The output file of the view with the given index
+     * @throws IOException          If an image can not be written
+     * @throws InterruptedException If the calling thread is interrupted while waiting for the output thread
+     */
+    public void render(final Scene scene, final List<View> views, final IntFunction<Path> files)
+            throws IOException, InterruptedException {
+        ExecutorService output = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "batch-output");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        Semaphore pendingWrites = new Semaphore(MAX_PENDING_WRITES);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long start = System.nanoTime();
+        long renderTime;
+
+        try {
+            renderEngine.render(scene, views, (frameBuffer, view) -> {
+                acquire(pendingWrites, 1);
+                rethrow(failure.get());
+                Path file = files.apply(view);
+                output.execute(() -> {
+                    try {
+                        ImageWriter.write(frameBuffer, file, toneMapper);
+                    } catch (Throwable e) {
+                        failure.compareAndSet(null, e);
+                    } finally {
+                        pendingWrites.release();
+                    }
+                });
+            });
+            renderTime = System.nanoTime() - start;
+
+            pendingWrites.acquire(MAX_PENDING_WRITES);
+            rethrow(failure.get());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            output.shutdownNow();
+        }
+
+        double totalSeconds = (System.nanoTime() - start) / 1e9d;
+        LOGGER.info("Rendered {} views in {} s ({} s per view, {}% of the time spent rendering)",
+                views.size(),
+                String.format("%.2f", totalSeconds),
+                String.format("%.3f", totalSeconds / views.size()),
+                String.format("%.1f", renderTime / 1e7d / totalSeconds));
+    }
+
+    /**
+     * Wait for permits from a thread of the tile scheduler, which can not throw checked exceptions.
+     */
+    private static void acquire(final Semaphore semaphore, final int permits) {
+        try {
+            semaphore.acquire(permits);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the output thread", e);
+        }
+    }
+
+    /**
+     * Rethrow the failure of a write unchecked, an IOException wrapped in an UncheckedIOException.
+     */
+    private static void rethrow(final Throwable failure) {
+        if (failure == null) {
+            return;
+        }
+        if (failure instanceof IOException) {
+            throw new UncheckedIOException((IOException) failure);
+        }
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+        throw new IllegalStateException(failure);
+    }
+
+}
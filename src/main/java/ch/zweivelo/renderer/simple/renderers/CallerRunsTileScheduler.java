@@ -0,0 +1,42 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Processes all tiles one after the other on the calling thread, e.g. to debug a render step by step.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+class CallerRunsTileScheduler implements TileScheduler {
+
+    @Override
+    public <T> void execute(final List<T> items, final Consumer<? super T> task) {
+        items.forEach(task);
+    }
+
+    @Override
+    public int getParallelism() {
+        return 1;
+    }
+
+}
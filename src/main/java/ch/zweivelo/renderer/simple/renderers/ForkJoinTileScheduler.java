@@ -0,0 +1,70 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Forks one task per tile into a fork join pool, idle threads steal tiles from busy ones.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+class ForkJoinTileScheduler implements TileScheduler {
+
+    private final ForkJoinPool pool;
+    private final boolean ownsPool;
+
+    /**
+     * @param ownsPool Whether closing the scheduler shuts the pool down
+     */
+    ForkJoinTileScheduler(final ForkJoinPool pool, final boolean ownsPool) {
+        this.pool = pool;
+        this.ownsPool = ownsPool;
+    }
+
+    @Override
+    public <T> void execute(final List<T> items, final Consumer<? super T> task) {
+        List<ForkJoinTask<?>> tasks = items.stream()
+                .map(item -> ForkJoinTask.adapt(() -> task.accept(item)))
+                .collect(Collectors.toList());
+        pool.invoke(ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+    }
+
+    /**
+     * @return The parallelism of the pool, for the common pool including the calling thread which helps with the
+     * tasks
+     */
+    @Override
+    public int getParallelism() {
+        return ownsPool ? pool.getParallelism() : Runtime.getRuntime().availableProcessors();
+    }
+
+    @Override
+    public void close() {
+        if (ownsPool) {
+            pool.shutdown();
+        }
+    }
+
+}
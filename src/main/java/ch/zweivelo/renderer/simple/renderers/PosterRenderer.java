@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.PngWriter;
+import ch.zweivelo.renderer.simple.images.TiledImageFile;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Renders images too large for the heap, e.g. posters of 32k x 32k pixels. The linear pixels are kept in a {@link
+ * TiledImageFile} instead of a frame buffer. The tiles are rendered one row of tiles after the other, the tiles of a
+ * row in parallel, each into a small frame buffer which is written to the file and dropped. Afterwards the rows are
+ * read back one by one, tone mapped and streamed into a PNG file. The heap holds one tile buffer per thread while
+ * rendering and one row of tiles while encoding, independent of the image height.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PosterRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PosterRenderer.class);
+
+    private final RenderEngine renderEngine;
+    private final ToneMapper toneMapper;
+
+    public PosterRenderer(final RenderEngine renderEngine, final ToneMapper toneMapper) {
+        this.renderEngine = renderEngine;
+        this.toneMapper = toneMapper;
+    }
+
+    /**
+     * @param pixelFile The file holding the linear pixels, about 12 bytes per pixel, kept after the render
+     * @param output    The PNG file to write
+     * @throws IOException If one of the files can not be written
+     */
+    public void render(final Scene scene, final Camera camera, final int width, final int height,
+                       final Path pixelFile, final Path output) throws IOException {
+        int tileSize = renderEngine.getTileSize();
+        long start = System.nanoTime();
+
+        try (TiledImageFile image = new TiledImageFile(pixelFile, width, height, tileSize)) {
+            for (int row = 0; row < image.getRows(); row++) {
+                List<Tile> tiles = Tile.split(width, image.getRowHeight(row), tileSize);
+                int y = row * tileSize;
+                int tileRow = row;
+                renderEngine.getTileScheduler().execute(tiles, tile -> {
+                    Tile shifted = new Tile(tile.getX(), y, tile.getWidth(), tile.getHeight());
+                    FrameBuffer tileBuffer = new FrameBuffer(tile.getWidth(), tile.getHeight());
+                    renderEngine.render(scene, camera, width, height, shifted, tileBuffer);
+                    try {
+                        image.writeTile(tile.getX() / tileSize, tileRow, tileBuffer);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+            LOGGER.info("Rendered {}x{} pixels in {} ms", width, height, (System.nanoTime() - start) / 1000000L);
+
+            try (PngWriter png = new PngWriter(output, width, height)) {
+                FrameBuffer band = new FrameBuffer(width, min(tileSize, height));
+                for (int row = 0; row < image.getRows(); row++) {
+                    int rowHeight = image.getRowHeight(row);
+                    FrameBuffer rowBuffer = rowHeight == band.getHeight() ? band : new FrameBuffer(width, rowHeight);
+                    image.readRow(row, rowBuffer);
+                    png.writeRows(toneMapper.toRgb(rowBuffer), 0, rowHeight);
+                }
+            }
+            LOGGER.info("Encoded {} after {} ms", output, (System.nanoTime() - start) / 1000000L);
+        }
+    }
+
+}
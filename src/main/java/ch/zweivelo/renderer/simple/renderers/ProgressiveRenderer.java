@@ -0,0 +1,159 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.Checkpoint;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Renders long progressive images pass by pass, one sample per pixel and pass, and periodically stores a
+ * {@link Checkpoint} of the accumulated image. Checkpoints are written from a copy of the frame buffer on a
+ * background thread, so the render threads continue with the next pass while the file is written; a checkpoint due
+ * while the previous one is still being written is skipped. A render resumed from a checkpoint produces exactly the
+ * image an uninterrupted render would have produced, as every pixel continues its sample sequence at its sample
+ * count.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ProgressiveRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProgressiveRenderer.class);
+
+    private final RenderEngine renderEngine;
+    private final Path checkpoint;
+    private final Duration checkpointInterval;
+
+    /**
+     * @param checkpoint         The checkpoint file, overwritten by every checkpoint
+     * @param checkpointInterval The minimum time between two checkpoints
+     */
+    public ProgressiveRenderer(final RenderEngine renderEngine, final Path checkpoint,
+                               final Duration checkpointInterval) {
+        this.renderEngine = renderEngine;
+        this.checkpoint = checkpoint;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    /**
+     * Start a new render.
+     */
+    public FrameBuffer render(final Scene scene, final Camera camera, final int width, final int height,
+                              final int samplesPerPixel) throws IOException, InterruptedException {
+        FrameBuffer frameBuffer = new FrameBuffer(width, height);
+        render(scene, camera, frameBuffer, samplesPerPixel);
+        return frameBuffer;
+    }
+
+    /**
+     * Continue the render stored in the checkpoint file with the same scene, camera and render engine.
+     */
+    public FrameBuffer resume(final Scene scene, final Camera camera, final int samplesPerPixel)
+            throws IOException, InterruptedException {
+        FrameBuffer frameBuffer = Checkpoint.read(checkpoint);
+        LOGGER.info("Resuming {}x{} pixels from {} with {} samples per pixel", frameBuffer.getWidth(),
+                frameBuffer.getHeight(), checkpoint, frameBuffer.getSampleCount(0, 0));
+        render(scene, camera, frameBuffer, samplesPerPixel);
+        return frameBuffer;
+    }
+
+    /**
+     * Add passes to the frame buffer until every pixel holds the given number of samples and write a last
+     * checkpoint once all passes are done.
+     *
+     * @throws IOException          If a checkpoint can not be written
+     * @throws InterruptedException If the calling thread is interrupted, the render stops after the current pass
+     *                              and writes a last checkpoint to resume from
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                       final int samplesPerPixel) throws IOException, InterruptedException {
+        ExecutorService writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "checkpoint-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        boolean interrupted = false;
+        CompletableFuture<Void> pendingWrite = CompletableFuture.completedFuture(null);
+        long nextCheckpoint = System.nanoTime() + checkpointInterval.toNanos();
+        try {
+            while (frameBuffer.getSampleCount(0, 0) < samplesPerPixel) {
+                if (Thread.interrupted()) {
+                    interrupted = true;
+                    break;
+                }
+                renderEngine.refine(scene, camera, frameBuffer);
+
+                if (System.nanoTime() - nextCheckpoint >= 0L && pendingWrite.isDone()) {
+                    awaitWrite(pendingWrite);
+                    FrameBuffer snapshot = new FrameBuffer(frameBuffer);
+                    pendingWrite = CompletableFuture.runAsync(() -> {
+                        try {
+                            write(snapshot);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, writer);
+                    nextCheckpoint = System.nanoTime() + checkpointInterval.toNanos();
+                }
+            }
+        } finally {
+            writer.shutdown();
+        }
+        awaitWrite(pendingWrite);
+        write(frameBuffer);
+
+        if (interrupted) {
+            throw new InterruptedException(String.format("Render interrupted after %d samples per pixel",
+                    frameBuffer.getSampleCount(0, 0)));
+        }
+    }
+
+    private void write(final FrameBuffer frameBuffer) throws IOException {
+        Checkpoint.write(frameBuffer, checkpoint);
+        LOGGER.debug("Checkpoint with {} samples per pixel written to {}", frameBuffer.getSampleCount(0, 0),
+                checkpoint);
+    }
+
+    private static void awaitWrite(final CompletableFuture<Void> pendingWrite) throws IOException,
+            InterruptedException {
+        try {
+            pendingWrite.get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) e.getCause()).getCause();
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+}
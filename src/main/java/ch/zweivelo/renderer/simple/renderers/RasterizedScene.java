@@ -0,0 +1,344 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Frustum;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.math.Solver;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.apache.commons.math3.util.FastMath.abs;
+import static org.apache.commons.math3.util.FastMath.copySign;
+import static org.apache.commons.math3.util.FastMath.floor;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+import static org.apache.commons.math3.util.MathArrays.linearCombination;
+
+/**
+ * View of a scene answering the camera rays of one image tile from a depth and shape id buffer. The buffer is filled
+ * shape by shape: the bounds of each shape overlapping the frustum of the tile are projected into screen space and
+ * only the samples within the projected rectangle are tested against the shape, unbounded shapes and shapes reaching
+ * behind the camera cover the whole tile. Spheres and planes are tested with the arithmetic of their own
+ * intersection, without temporary objects, so the buffer holds the same distances and shapes as tracing the camera
+ * rays, including the resolution of ties by the shape index. All other rays, e.g. shadow rays and bounces, are
+ * answered by the full scene. As for the {@link ch.zweivelo.renderer.simple.scenes.CulledScene} a camera ray is
+ * recognized by identity and has to be announced with {@link #setCameraRay(int)}. Used by a single thread.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+final class RasterizedScene extends Scene {
+
+    /** Shape id of camera rays which hit nothing. */
+    private static final int MISS = -1;
+
+    /** Shape id of camera rays not leaving the apex of the frustum, they are traced. */
+    private static final int TRACED = -2;
+
+    /** Pixels added around projected bounds to cover rounding errors of the projection. */
+    private static final double MARGIN = 1e-3d;
+
+    /**
+     * Bound of the relative difference between a plain dot product and {@link Vector3D#dotProduct}, far above the
+     * few units in the last place both can differ by.
+     */
+    private static final double DOT_PRODUCT_ERROR = 1e-12d;
+
+    private final Scene scene;
+    private final Shape[] shapes;
+    private final Ray[] cameraRays;
+    private final double[] distances;
+    private final int[] shapeIds;
+
+    private Ray cameraRay;
+    private int cameraRayIndex;
+
+    /**
+     * @param cameraRays The camera rays of the tile, row by row and the samples of a pixel in order
+     */
+    RasterizedScene(final Scene scene, final Frustum frustum, final Camera camera, final int imageWidth,
+                    final int imageHeight, final Tile tile, final int samplesPerPixel, final Ray[] cameraRays) {
+        super(scene);
+        this.scene = scene;
+        List<Shape> sceneShapes = scene.getShapes();
+        this.shapes = sceneShapes.toArray(new Shape[sceneShapes.size()]);
+        this.cameraRays = cameraRays;
+        this.distances = new double[cameraRays.length];
+        this.shapeIds = new int[cameraRays.length];
+
+        Arrays.fill(distances, Double.POSITIVE_INFINITY);
+        Vector3D apex = frustum.getApex();
+        /* the directions in one flat array, the loops over the samples do not need to visit the rays */
+        double[] directions = new double[3 * cameraRays.length];
+        boolean forward = true;
+        for (int i = 0; i < cameraRays.length; i++) {
+            Ray ray = cameraRays[i];
+            Vector3D origin = ray.getOrigin();
+            shapeIds[i] = origin == apex || origin.equals(apex) ? MISS : TRACED;
+            directions[3 * i] = ray.getDirection().getX();
+            directions[3 * i + 1] = ray.getDirection().getY();
+            directions[3 * i + 2] = ray.getDirection().getZ();
+            forward &= ray.getInterval().getStart() >= 0d;
+        }
+
+        Area area = new Area(tile, samplesPerPixel);
+        for (int index = 0; index < shapes.length; index++) {
+            Shape shape = shapes[index];
+            BoundingBox bounds = shape.getBounds();
+            if (!frustum.intersects(bounds) || !area.project(camera, bounds, imageWidth, imageHeight)) {
+                continue;
+            }
+            if (shape.getClass() == Sphere.class) {
+                rasterize((Sphere) shape, index, apex, directions, area);
+            } else if (shape.getClass() == Plane.class) {
+                rasterize((Plane) shape, index, apex, directions, forward, area);
+            } else {
+                rasterize(shape, index, area);
+            }
+        }
+    }
+
+    /**
+     * @param index The index of the next camera ray to be traced in the order of the camera rays
+     */
+    void setCameraRay(final int index) {
+        this.cameraRay = cameraRays[index];
+        this.cameraRayIndex = index;
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        if (ray != cameraRay || shapeIds[cameraRayIndex] == TRACED) {
+            return scene.findClosestCollision(ray);
+        }
+        int shapeId = shapeIds[cameraRayIndex];
+        if (shapeId == MISS) {
+            return Optional.empty();
+        }
+
+        Shape shape = shapes[shapeId];
+        double distance = distances[cameraRayIndex];
+        Vector3D point = ray.calculatePoint(distance);
+        return Optional.of(new CollisionInformation(distance, shape, point,
+                shape.getColor(point, ray.calculateFootprint(distance))));
+    }
+
+    /**
+     * The arithmetic of {@link Sphere#calculateIntersectionDistance(Ray)}, the offset of the apex from the center
+     * is shared by all camera rays. The dot products of vectors are linear combinations of their components.
+     */
+    private void rasterize(final Sphere sphere, final int index, final Vector3D apex, final double[] directions,
+                           final Area area) {
+        Vector3D center = sphere.getCenter();
+        double x = apex.getX() - center.getX();
+        double y = apex.getY() - center.getY();
+        double z = apex.getZ() - center.getZ();
+        double c0 = x * x + y * y + z * z - sphere.getRadius() * sphere.getRadius();
+
+        for (int row = area.top; row <= area.bottom; row++) {
+            int end = area.getSample(row, area.right + 1);
+            for (int sample = area.getSample(row, area.left); sample < end; sample++) {
+                if (shapeIds[sample] == TRACED) {
+                    continue;
+                }
+                double directionX = directions[3 * sample];
+                double directionY = directions[3 * sample + 1];
+                double directionZ = directions[3 * sample + 2];
+                Ray ray = cameraRays[sample];
+                double distance = Solver.nearestQuadraticRoot(
+                        c0,
+                        2 * (directionX * x + directionY * y + directionZ * z),
+                        linearCombination(directionX, directionX, directionY, directionY, directionZ, directionZ),
+                        ray.getInterval().getStart(),
+                        ray.getInterval().getEnd());
+                accept(sample, distance, index);
+            }
+        }
+    }
+
+    /**
+     * The arithmetic of {@link Plane#calculateIntersectionDistance(Ray)}, the distance of the apex from the plane
+     * is shared by all camera rays. The accurate dot product is only computed if a plain one leaves a chance that
+     * the plane is hit in front of the current hit.
+     *
+     * @param forward true if no camera ray accepts negative distances
+     */
+    private void rasterize(final Plane plane, final int index, final Vector3D apex, final double[] directions,
+                           final boolean forward, final Area area) {
+        Vector3D origin = plane.getOrigin();
+        Vector3D normal = plane.getNormal();
+        double numerator = (origin.getX() - apex.getX()) * normal.getX()
+                + (origin.getY() - apex.getY()) * normal.getY()
+                + (origin.getZ() - apex.getZ()) * normal.getZ();
+        /* for planes facing along an axis the accurate dot product is the product of the one non-zero component */
+        int axis = normal.getY() == 0d && normal.getZ() == 0d ? 0
+                : normal.getX() == 0d && normal.getZ() == 0d ? 1
+                : normal.getX() == 0d && normal.getY() == 0d ? 2
+                : -1;
+        double axisNormal = axis < 0 ? 0d : normal.toArray()[axis];
+
+        for (int row = area.top; row <= area.bottom; row++) {
+            int end = area.getSample(row, area.right + 1);
+            for (int sample = area.getSample(row, area.left); sample < end; sample++) {
+                if (shapeIds[sample] == TRACED) {
+                    continue;
+                }
+                if (axis >= 0) {
+                    accept(sample, numerator, directions[3 * sample + axis] * axisNormal, index);
+                    continue;
+                }
+
+                double directionX = directions[3 * sample];
+                double directionY = directions[3 * sample + 1];
+                double directionZ = directions[3 * sample + 2];
+                double x = directionX * normal.getX();
+                double y = directionY * normal.getY();
+                double z = directionZ * normal.getZ();
+                double estimate = x + y + z;
+                double error = DOT_PRODUCT_ERROR * (abs(x) + abs(y) + abs(z));
+                if (abs(estimate) > error && numerator != 0d) {
+                    /* the denominator farthest from 0 within the error, it gives the smallest possible |t| */
+                    double denominator = estimate + copySign(error, estimate);
+                    if ((numerator > 0d) != (denominator > 0d)
+                            ? forward
+                            : abs(numerator) >= distances[sample] * abs(denominator)) {
+                        continue;
+                    }
+                }
+
+                accept(sample, numerator, linearCombination(directionX, normal.getX(), directionY, normal.getY(),
+                        directionZ, normal.getZ()), index);
+            }
+        }
+    }
+
+    /**
+     * Keep the intersection with a plane at the given distance along the ray over its dot product with the normal.
+     */
+    private void accept(final int sample, final double numerator, final double denominator, final int index) {
+        if (denominator != 0d) {
+            accept(sample, numerator / denominator, index);
+        } else if (numerator == 0d) {
+            accept(sample, cameraRays[sample].getInterval().getStart(), index);
+        }
+    }
+
+    private void rasterize(final Shape shape, final int index, final Area area) {
+        for (int row = area.top; row <= area.bottom; row++) {
+            int end = area.getSample(row, area.right + 1);
+            for (int sample = area.getSample(row, area.left); sample < end; sample++) {
+                if (shapeIds[sample] != TRACED) {
+                    double distance = shape.intersectionDistance(cameraRays[sample]);
+                    if (!Double.isNaN(distance)) {
+                        accept(sample, distance, index);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Keep the distance if it is valid and closer than the current one, the shapes are rasterized in the order of
+     * their indices so ties keep the lower index.
+     */
+    private void accept(final int sample, final double distance, final int index) {
+        if (distance < distances[sample] && cameraRays[sample].isValidT(distance)) {
+            distances[sample] = distance;
+            shapeIds[sample] = index;
+        }
+    }
+
+    /**
+     * The pixels of the tile covered by the projected bounds of a shape, in image coordinates.
+     */
+    private static final class Area {
+
+        private final Tile tile;
+        private final int samplesPerPixel;
+
+        private int left;
+        private int top;
+        private int right;
+        private int bottom;
+
+        private Area(final Tile tile, final int samplesPerPixel) {
+            this.tile = tile;
+            this.samplesPerPixel = samplesPerPixel;
+        }
+
+        /**
+         * @return false if the projected bounds do not cover any pixel of the tile
+         */
+        private boolean project(final Camera camera, final BoundingBox bounds, final int imageWidth,
+                                final int imageHeight) {
+            left = tile.getX();
+            top = tile.getY();
+            right = tile.getX() + tile.getWidth() - 1;
+            bottom = tile.getY() + tile.getHeight() - 1;
+            if (!bounds.isBounded()) {
+                return true;
+            }
+
+            double minU = Double.POSITIVE_INFINITY;
+            double minV = Double.POSITIVE_INFINITY;
+            double maxU = Double.NEGATIVE_INFINITY;
+            double maxV = Double.NEGATIVE_INFINITY;
+            for (int corner = 0; corner < 8; corner++) {
+                Optional<Vector2D> uvPoint = camera.project(new Vector3D(
+                        (corner & 1) == 0 ? bounds.getMinX() : bounds.getMaxX(),
+                        (corner & 2) == 0 ? bounds.getMinY() : bounds.getMaxY(),
+                        (corner & 4) == 0 ? bounds.getMinZ() : bounds.getMaxZ()));
+                if (!uvPoint.isPresent()) {
+                    /* the bounds reach behind the camera, their projection is unbounded */
+                    return true;
+                }
+                minU = min(minU, uvPoint.get().getX());
+                minV = min(minV, uvPoint.get().getY());
+                maxU = max(maxU, uvPoint.get().getX());
+                maxV = max(maxV, uvPoint.get().getY());
+            }
+
+            left = (int) max(left, floor(minU * imageWidth - MARGIN));
+            top = (int) max(top, floor(minV * imageHeight - MARGIN));
+            right = (int) min(right, floor(maxU * imageWidth + MARGIN));
+            bottom = (int) min(bottom, floor(maxV * imageHeight + MARGIN));
+            return left <= right && top <= bottom;
+        }
+
+        /**
+         * @return The index of the first camera ray of the pixel
+         */
+        private int getSample(final int y, final int x) {
+            return ((y - tile.getY()) * tile.getWidth() + x - tile.getX()) * samplesPerPixel;
+        }
+    }
+
+}
@@ -0,0 +1,587 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.AovBuffer;
+import ch.zweivelo.renderer.simple.images.Denoiser;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.GuideBuffer;
+import ch.zweivelo.renderer.simple.integrators.Integrator;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Frustum;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.samplers.Sampler;
+import ch.zweivelo.renderer.simple.scenes.CulledScene;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.ObjIntConsumer;
+import java.util.stream.Collectors;
+
+import static org.apache.commons.math3.util.FastMath.hypot;
+
+/**
+ * Renders a scene tile by tile, the tiles are distributed over all available cores. The camera rays of a tile are
+ * only intersected with the shapes overlapping the frustum of the tile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RenderEngine {
+
+    public static final int DEFAULT_TILE_SIZE = 32;
+
+    /** Offsets of the R2 low discrepancy sequence, the first sample lies in the pixel center. */
+    private static final double SAMPLE_STEP_U = 0.7548776662466927d;
+    private static final double SAMPLE_STEP_V = 0.5698402909980532d;
+
+    /** The default pixel sampler, the same R2 offsets for all pixels. */
+    private static final Sampler CENTERED_R2 = (pixel, sample, dimension) ->
+            (.5d + sample * (dimension == Sampler.PIXEL_U ? SAMPLE_STEP_U : SAMPLE_STEP_V)) % 1d;
+
+    private final Integrator integrator;
+    private final int tileSize;
+    private final int samplesPerPixel;
+    private final Sampler sampler;
+    private final TileScheduler tileScheduler;
+    private final boolean rasterizedPrimaries;
+
+    private RenderEngine(final Integrator integrator, final int tileSize, final int samplesPerPixel,
+                         final Sampler sampler, final TileScheduler tileScheduler, final boolean rasterizedPrimaries) {
+        this.integrator = integrator;
+        this.tileSize = tileSize;
+        this.samplesPerPixel = samplesPerPixel;
+        this.sampler = sampler;
+        this.tileScheduler = tileScheduler;
+        this.rasterizedPrimaries = rasterizedPrimaries;
+    }
+
+    /**
+     * Render the tiles on the common fork join pool.
+     *
+     * @param samplesPerPixel The number of samples averaged per pixel outside of deadline mode
+     * @param sampler         The sampler providing the positions of the samples within the pixels, it should be the
+     *                        one the integrator uses for its own dimensions
+     */
+    public RenderEngine(final Integrator integrator, final int tileSize, final int samplesPerPixel,
+                        final Sampler sampler) {
+        this(integrator, tileSize, samplesPerPixel, sampler, TileSchedulerType.FORK_JOIN.create(0, 0), false);
+    }
+
+    /**
+     * Render with samples on the R2 sequence, starting in the pixel center.
+     */
+    public RenderEngine(final Integrator integrator, final int tileSize, final int samplesPerPixel) {
+        this(integrator, tileSize, samplesPerPixel, CENTERED_R2);
+    }
+
+    public RenderEngine(final Integrator integrator, final int tileSize) {
+        this(integrator, tileSize, 1);
+    }
+
+    public RenderEngine(final Integrator integrator) {
+        this(integrator, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * @return A render engine like this one running its tiles on the given scheduler, the scheduler is not closed by
+     * the render engine
+     */
+    public RenderEngine withTileScheduler(final TileScheduler tileScheduler) {
+        return new RenderEngine(integrator, tileSize, samplesPerPixel, sampler, tileScheduler, rasterizedPrimaries);
+    }
+
+    public TileScheduler getTileScheduler() {
+        return tileScheduler;
+    }
+
+    /**
+     * Find the first hits of the camera rays of full renders by rasterizing the shapes into a depth and shape id
+     * buffer per tile instead of tracing them, all other rays are still traced. The image is the same, only cameras
+     * whose rays share their origin and which support projections profit, e.g. the {@link
+     * ch.zweivelo.renderer.simple.cameras.PinholeCamera}. Every tile passes over all shapes of the scene, so it pays
+     * off for scenes of few, large shapes but not for many small shapes in a spatial accelerator. Disabled by default.
+     *
+     * @return A render engine like this one rasterizing the camera rays if enabled
+     */
+    public RenderEngine withRasterizedPrimaries(final boolean enabled) {
+        return new RenderEngine(integrator, tileSize, samplesPerPixel, sampler, tileScheduler, enabled);
+    }
+
+    public FrameBuffer render(final Scene scene, final Camera camera, final int width, final int height) {
+        FrameBuffer frameBuffer = new FrameBuffer(width, height);
+        render(scene, camera, frameBuffer);
+        return frameBuffer;
+    }
+
+    /**
+     * Render the scene into the given frame buffer, overwriting all pixels. Every pixel is computed by one thread
+     * from a fixed sequence of samples, the result does not depend on the tile scheduling.
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer) {
+        render(scene, camera, frameBuffer, TileListener.NONE);
+    }
+
+    /**
+     * Render the scene into the given frame buffer and notify the listener after each finished tile.
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                       final TileListener listener) {
+        tileScheduler.execute(Tile.split(frameBuffer.getWidth(), frameBuffer.getHeight(), tileSize), tile -> {
+            renderTile(scene, camera, frameBuffer.getWidth(), frameBuffer.getHeight(), tile, frameBuffer, 0, 0, null);
+            listener.tileRendered(tile);
+        });
+    }
+
+    /**
+     * Render the scene from several views. The tiles of all views are handed to the tile scheduler as one list, so
+     * threads continue with the tiles of the next view while the last tiles of a view are still rendered instead of
+     * waiting for each other between views. All views share the scene and its accelerator.
+     *
+     * @return The frame buffers of the views in their order
+     */
+    public List<FrameBuffer> render(final Scene scene, final List<View> views) {
+        FrameBuffer[] frameBuffers = new FrameBuffer[views.size()];
+        render(scene, views, (frameBuffer, view) -> frameBuffers[view] = frameBuffer);
+        return Arrays.asList(frameBuffers);
+    }
+
+    /**
+     * Render the scene from several views and hand each view to the listener as soon as all its tiles are rendered.
+     * The frame buffer of a view is allocated once, by the first of its tiles to start, and released after the
+     * listener returns. As the tiles are scheduled view by view only the views in progress are held in memory.
+     *
+     * @param listener Receives the frame buffer and the index of each finished view, called by the thread rendering
+     *                 the last tile of the view
+     */
+    public void render(final Scene scene, final List<View> views, final ObjIntConsumer<FrameBuffer> listener) {
+        AtomicReferenceArray<FrameBuffer> frameBuffers = new AtomicReferenceArray<>(views.size());
+        AtomicIntegerArray remainingTiles = new AtomicIntegerArray(views.size());
+        Object[] locks = new Object[views.size()];
+        List<ViewTile> tiles = new ArrayList<>();
+        for (int index = 0; index < views.size(); index++) {
+            View view = views.get(index);
+            List<Tile> viewTiles = Tile.split(view.getWidth(), view.getHeight(), tileSize);
+            remainingTiles.set(index, viewTiles.size());
+            locks[index] = new Object();
+            for (Tile tile : viewTiles) {
+                tiles.add(new ViewTile(index, tile));
+            }
+        }
+
+        tileScheduler.execute(tiles, viewTile -> {
+            View view = views.get(viewTile.view);
+            FrameBuffer frameBuffer = frameBuffers.get(viewTile.view);
+            if (frameBuffer == null) {
+                synchronized (locks[viewTile.view]) {
+                    frameBuffer = frameBuffers.get(viewTile.view);
+                    if (frameBuffer == null) {
+                        frameBuffer = new FrameBuffer(view.getWidth(), view.getHeight());
+                        frameBuffers.set(viewTile.view, frameBuffer);
+                    }
+                }
+            }
+            renderTile(scene, view.getCamera(), view.getWidth(), view.getHeight(), viewTile.tile, frameBuffer, 0, 0,
+                    null);
+            if (remainingTiles.decrementAndGet(viewTile.view) == 0) {
+                frameBuffers.set(viewTile.view, null);
+                listener.accept(frameBuffer, viewTile.view);
+            }
+        });
+    }
+
+    /**
+     * Render the scene and fill the enabled output variables in the same pass. The integrator traces an observed
+     * view of the scene, so only renders with output variables pay for recording them.
+     *
+     * @param aovs The output variables of the same size as the frame buffer
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer, final AovBuffer aovs) {
+        render(scene, camera, frameBuffer, aovs, TileListener.NONE);
+    }
+
+    /**
+     * Render the scene and fill the enabled output variables, notify the listener after each finished tile.
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer, final AovBuffer aovs,
+                       final TileListener listener) {
+        if (aovs.getWidth() != frameBuffer.getWidth() || aovs.getHeight() != frameBuffer.getHeight()) {
+            throw new IllegalArgumentException(String.format("Output variables of %dx%d pixels do not match %dx%d",
+                    aovs.getWidth(), aovs.getHeight(), frameBuffer.getWidth(), frameBuffer.getHeight()));
+        }
+        if (aovs.getAovs().isEmpty()) {
+            render(scene, camera, frameBuffer, listener);
+            return;
+        }
+
+        Map<Shape, Integer> shapeIds = new IdentityHashMap<>();
+        for (int i = 0; i < scene.getShapes().size(); i++) {
+            shapeIds.put(scene.getShapes().get(i), i + 1);
+        }
+
+        tileScheduler.execute(Tile.split(frameBuffer.getWidth(), frameBuffer.getHeight(), tileSize), tile -> {
+            AovRecorder recorder = new AovRecorder(aovs, shapeIds);
+            renderTile(scene, camera, frameBuffer.getWidth(), frameBuffer.getHeight(), tile, frameBuffer, 0, 0,
+                    recorder);
+            listener.tileRendered(tile);
+        });
+    }
+
+    /**
+     * Trace one ray through the center of every pixel and record the first hit for the {@link Denoiser}.
+     */
+    public GuideBuffer renderGuides(final Scene scene, final Camera camera, final int width, final int height) {
+        GuideBuffer guides = new GuideBuffer(width, height);
+        tileScheduler.execute(Tile.split(width, height, tileSize),
+                tile -> renderGuideTile(scene, camera, guides, tile));
+        return guides;
+    }
+
+    /**
+     * Denoise a render of the scene in place, e.g. a render with few samples per pixel. The guides are rendered and
+     * the denoiser passes are run by the tile scheduler of this engine.
+     *
+     * @param frameBuffer The render of the scene seen through the camera
+     */
+    public void denoise(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                        final Denoiser denoiser) {
+        denoise(scene, camera, frameBuffer, denoiser, TileListener.NONE);
+    }
+
+    /**
+     * Denoise a render of the scene in place and notify the listener of every tile once the whole image is filtered.
+     */
+    public void denoise(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                        final Denoiser denoiser, final TileListener listener) {
+        GuideBuffer guides = renderGuides(scene, camera, frameBuffer.getWidth(), frameBuffer.getHeight());
+        denoiser.denoise(frameBuffer, guides, tileScheduler::execute);
+        Tile.split(frameBuffer.getWidth(), frameBuffer.getHeight(), tileSize).forEach(listener::tileRendered);
+    }
+
+    public FrameBuffer render(final Scene scene, final Camera camera, final int width, final int height,
+                              final Duration timeBudget) {
+        FrameBuffer frameBuffer = new FrameBuffer(width, height);
+        render(scene, camera, frameBuffer, timeBudget);
+        return frameBuffer;
+    }
+
+    /**
+     * Deadline mode: render progressively until the time budget is used up. A first pass traces one sample per
+     * pixel for all tiles, starting at the screen center. Afterwards the tiles are refined one sample per pixel at
+     * a time, picking the tile with the highest error estimate, weighted towards the screen center. One worker
+     * per thread of the tile scheduler works until the deadline; every worker checks it after each tile row, so the
+     * call returns at most one row late.
+     *
+     * @param timeBudget The time after which the accumulated image is returned
+     */
+    public void render(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                       final Duration timeBudget) {
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        frameBuffer.clear();
+
+        double halfWidth = frameBuffer.getWidth() / 2d;
+        double halfHeight = frameBuffer.getHeight() / 2d;
+        PriorityBlockingQueue<TileProgress> queue = new PriorityBlockingQueue<>(
+                16,
+                Comparator.comparingInt((TileProgress progress) -> progress.samples == 0 ? 0 : 1)
+                        .thenComparing(Comparator.comparingDouble((TileProgress progress) -> progress.priority)
+                                .reversed()));
+        queue.addAll(Tile.split(frameBuffer.getWidth(), frameBuffer.getHeight(), tileSize).stream()
+                .map(tile -> new TileProgress(tile, 1d / (1d + hypot(
+                        (tile.getX() + tile.getWidth() / 2d - halfWidth) / halfWidth,
+                        (tile.getY() + tile.getHeight() / 2d - halfHeight) / halfHeight))))
+                .collect(Collectors.toList()));
+
+        Runnable worker = () -> {
+            TileProgress progress;
+            while (System.nanoTime() < deadline && (progress = queue.poll()) != null) {
+                refineTile(scene, camera, frameBuffer, progress, deadline);
+                queue.add(progress);
+            }
+        };
+
+        tileScheduler.execute(Collections.nCopies(tileScheduler.getParallelism(), worker), Runnable::run);
+    }
+
+    /**
+     * Render a single tile of an image into a buffer of the size of the tile, e.g. to render images which do not fit
+     * into memory tile by tile. The pixels are identical to those of a render of the whole image.
+     *
+     * @param imageWidth  The width of the whole image
+     * @param imageHeight The height of the whole image
+     * @param tileBuffer  Receives the pixels of the tile, its upper left pixel is the upper left pixel of the tile
+     */
+    public void render(final Scene scene, final Camera camera, final int imageWidth, final int imageHeight,
+                       final Tile tile, final FrameBuffer tileBuffer) {
+        renderTile(scene, camera, imageWidth, imageHeight, tile, tileBuffer, tile.getX(), tile.getY(), null);
+    }
+
+    /**
+     * Add one sample to every pixel of the frame buffer, keeping the samples it already holds. Every pixel continues
+     * its own sequence of samples at its sample count, so a frame buffer refined n times holds exactly the image of
+     * n refinements no matter whether they happened in one run or were resumed from a stored copy.
+     */
+    public void refine(final Scene scene, final Camera camera, final FrameBuffer frameBuffer) {
+        refine(scene, camera, frameBuffer, TileListener.NONE);
+    }
+
+    /**
+     * Add one sample to every pixel and notify the listener after each refined tile.
+     */
+    public void refine(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                       final TileListener listener) {
+        tileScheduler.execute(Tile.split(frameBuffer.getWidth(), frameBuffer.getHeight(), tileSize), tile -> {
+            addSamples(scene, camera, frameBuffer, tile, Long.MAX_VALUE);
+            listener.tileRendered(tile);
+        });
+    }
+
+    public int getTileSize() {
+        return tileSize;
+    }
+
+    /**
+     * Render a tile. With a brute force accelerator the camera rays are only intersected with the shapes overlapping
+     * the frustum of the tile. Spatial accelerators already skip the shapes off the ray, culling them per tile would
+     * only add a pass over all shapes and an accelerator build to every tile.
+     *
+     * @param target   Receives the pixels, shifted by the given offset
+     * @param recorder The recorder observing the scene or null if no output variables are recorded
+     */
+    private void renderTile(final Scene scene, final Camera camera, final int imageWidth, final int imageHeight,
+                            final Tile tile, final FrameBuffer target, final int offsetX, final int offsetY,
+                            final AovRecorder recorder) {
+        double width = imageWidth;
+        double height = imageHeight;
+        double spread = camera.getPixelSpread(imageWidth);
+
+        Optional<Frustum> frustum = createFrustum(camera, width, height, tile);
+        Ray[] cameraRays = null;
+        RasterizedScene rasterizedScene = null;
+        CulledScene culledScene = null;
+        if (rasterizedPrimaries && frustum.isPresent()) {
+            cameraRays = new Ray[tile.getWidth() * tile.getHeight() * samplesPerPixel];
+            int index = 0;
+            for (int y = tile.getY(); y < tile.getY() + tile.getHeight(); y++) {
+                for (int x = tile.getX(); x < tile.getX() + tile.getWidth(); x++) {
+                    for (int sample = 0; sample < samplesPerPixel; sample++) {
+                        cameraRays[index++] = createCameraRay(camera, imageWidth, imageHeight, x, y, sample, spread);
+                    }
+                }
+            }
+            rasterizedScene = new RasterizedScene(scene, frustum.get(), camera, imageWidth, imageHeight, tile,
+                    samplesPerPixel, cameraRays);
+        } else if (frustum.isPresent() && scene.getAcceleratorType().isBruteForce()) {
+            culledScene = new CulledScene(scene, frustum.get());
+        }
+        Scene tileScene = rasterizedScene != null ? rasterizedScene : culledScene != null ? culledScene : scene;
+        if (recorder != null) {
+            tileScene = tileScene.observe(recorder);
+        }
+
+        for (int y = tile.getY(); y < tile.getY() + tile.getHeight(); y++) {
+            for (int x = tile.getX(); x < tile.getX() + tile.getWidth(); x++) {
+                long pixel = (long) y * imageWidth + x;
+                if (recorder != null) {
+                    recorder.startPixel((int) pixel);
+                }
+                double red = 0d;
+                double green = 0d;
+                double blue = 0d;
+                for (int sample = 0; sample < samplesPerPixel; sample++) {
+                    Ray ray;
+                    if (rasterizedScene != null) {
+                        int index = ((y - tile.getY()) * tile.getWidth() + x - tile.getX()) * samplesPerPixel + sample;
+                        ray = cameraRays[index];
+                        rasterizedScene.setCameraRay(index);
+                    } else {
+                        ray = createCameraRay(camera, imageWidth, imageHeight, x, y, sample, spread);
+                        if (culledScene != null) {
+                            culledScene.setCameraRay(ray);
+                        }
+                    }
+                    Color color = integrator.trace(tileScene, ray, pixel, sample);
+                    red += color.getR();
+                    green += color.getG();
+                    blue += color.getB();
+                }
+                target.setColor(x - offsetX, y - offsetY,
+                        new Color(red / samplesPerPixel, green / samplesPerPixel, blue / samplesPerPixel),
+                        samplesPerPixel);
+            }
+        }
+    }
+
+    private Ray createCameraRay(final Camera camera, final int imageWidth, final int imageHeight, final int x,
+                                final int y, final int sample, final double spread) {
+        long pixel = (long) y * imageWidth + x;
+        Vector2D uvPoint = new Vector2D((x + sampler.get(pixel, sample, Sampler.PIXEL_U)) / imageWidth,
+                (y + sampler.get(pixel, sample, Sampler.PIXEL_V)) / imageHeight);
+        return camera.createRayFor(uvPoint).withSpread(spread);
+    }
+
+    /**
+     * @return The frustum spanned by the corner rays of the tile, empty if the rays do not share their origin
+     */
+    static Optional<Frustum> createFrustum(final Camera camera, final double width, final double height,
+                                           final Tile tile) {
+        double left = tile.getX() / width;
+        double right = (tile.getX() + tile.getWidth()) / width;
+        double top = tile.getY() / height;
+        double bottom = (tile.getY() + tile.getHeight()) / height;
+        Ray[] corners = {
+                camera.createRayFor(new Vector2D(left, top)),
+                camera.createRayFor(new Vector2D(right, top)),
+                camera.createRayFor(new Vector2D(right, bottom)),
+                camera.createRayFor(new Vector2D(left, bottom))
+        };
+
+        Vector3D apex = corners[0].getOrigin();
+        for (Ray corner : corners) {
+            if (!corner.getOrigin().equals(apex)) {
+                return Optional.empty();
+            }
+        }
+        return Optional.of(new Frustum(apex, corners[0].getDirection(), corners[1].getDirection(),
+                corners[2].getDirection(), corners[3].getDirection()));
+    }
+
+    private void renderGuideTile(final Scene scene, final Camera camera, final GuideBuffer guides, final Tile tile) {
+        double width = guides.getWidth();
+        double height = guides.getHeight();
+
+        for (int y = tile.getY(); y < tile.getY() + tile.getHeight(); y++) {
+            for (int x = tile.getX(); x < tile.getX() + tile.getWidth(); x++) {
+                Ray ray = camera.createRayFor(new Vector2D((x + .5d) / width, (y + .5d) / height))
+                        .withSpread(camera.getPixelSpread(guides.getWidth()));
+                Optional<CollisionInformation> collision = scene.findClosestCollision(ray);
+                if (collision.isPresent()) {
+                    CollisionInformation information = collision.get();
+                    Vector3D normal = information.getShape().getNormal(information.getPoint());
+                    if (normal.dotProduct(ray.getDirection()) > 0d) {
+                        normal = normal.negate();
+                    }
+                    guides.set(x, y, normal, information.getPoint().distance(ray.getOrigin()),
+                            information.getColor());
+                }
+            }
+        }
+    }
+
+    /**
+     * Add one sample to every pixel of the tile and update the error estimate of the tile from the squared
+     * luminance difference between the new samples and the previous means.
+     */
+    private void refineTile(final Scene scene, final Camera camera, final FrameBuffer frameBuffer,
+                            final TileProgress progress, final long deadline) {
+        Tile tile = progress.tile;
+        double error = addSamples(scene, camera, frameBuffer, tile, deadline);
+        if (Double.isNaN(error)) {
+            return;
+        }
+
+        progress.samples++;
+        progress.priority = progress.samples == 1
+                ? progress.centerWeight
+                : progress.centerWeight * error / (tile.getWidth() * tile.getHeight() * progress.samples);
+    }
+
+    /**
+     * Add one sample to every pixel of the tile. Each pixel continues its own sequence of samples at its sample
+     * count, so rows finished before an earlier deadline are not sampled twice with the same sample index.
+     *
+     * @return The summed squared luminance difference between the new samples and the previous means, NaN if the
+     * deadline passed before all rows were sampled
+     */
+    private double addSamples(final Scene scene, final Camera camera, final FrameBuffer frameBuffer, final Tile tile,
+                              final long deadline) {
+        double width = frameBuffer.getWidth();
+        double height = frameBuffer.getHeight();
+        double spread = camera.getPixelSpread(frameBuffer.getWidth());
+
+        double error = 0d;
+        for (int y = tile.getY(); y < tile.getY() + tile.getHeight(); y++) {
+            if (System.nanoTime() >= deadline) {
+                return Double.NaN;
+            }
+            for (int x = tile.getX(); x < tile.getX() + tile.getWidth(); x++) {
+                long pixel = (long) y * frameBuffer.getWidth() + x;
+                int sampleIndex = frameBuffer.getSampleCount(x, y);
+                Vector2D uvPoint = new Vector2D((x + sampler.get(pixel, sampleIndex, Sampler.PIXEL_U)) / width,
+                        (y + sampler.get(pixel, sampleIndex, Sampler.PIXEL_V)) / height);
+                Color sample = integrator.trace(scene, camera.createRayFor(uvPoint).withSpread(spread), pixel,
+                        sampleIndex);
+                if (sampleIndex > 0) {
+                    double difference = sample.getLuminance() - frameBuffer.getColor(x, y).getLuminance();
+                    error += difference * difference;
+                }
+                frameBuffer.addSample(x, y, sample);
+            }
+        }
+        return error;
+    }
+
+    /**
+     * A tile of one of the views of a batch.
+     */
+    private static final class ViewTile {
+
+        private final int view;
+        private final Tile tile;
+
+        private ViewTile(final int view, final Tile tile) {
+            this.view = view;
+            this.tile = tile;
+        }
+    }
+
+    /**
+     * Scheduling state of a tile in deadline mode. Tiles without samples are always scheduled before refinements.
+     */
+    private static final class TileProgress {
+
+        private final Tile tile;
+        private final double centerWeight;
+
+        private int samples;
+        private double priority;
+
+        private TileProgress(final Tile tile, final double centerWeight) {
+            this.tile = tile;
+            this.centerWeight = centerWeight;
+            this.priority = centerWeight;
+        }
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ImageWriter;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.scenes.ShapeTransform;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.function.IntFunction;
+
+/**
+ * Renders the frames of an animation as a pipeline of three overlapping stages: while frame N is rendered on all
+ * cores, a preparation thread applies the transforms of frame N+1 and refits the accelerator, and an output thread
+ * encodes and writes frame N-1. Two frame buffers are recycled between the render and the output stage.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class SequenceRenderer {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SequenceRenderer.class);
+
+    private static final int FRAME_BUFFERS = 2;
+
+    private final RenderEngine renderEngine;
+    private final Camera camera;
+    private final int width;
+    private final int height;
+
+    public SequenceRenderer(final RenderEngine renderEngine, final Camera camera, final int width, final int height) {
+        this.renderEngine = renderEngine;
+        this.camera = camera;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Render all frames of an animation.
+     *
+     * @param scene      The scene containing the untransformed shapes, its accelerator is refitted for every frame
+     * @param transform  The transform applied to every shape of the scene to obtain a frame
+     * @param frameCount The number of frames to render
+     * @param files      The output file of each frame
+     * @throws IOException          If a frame can not be written
+     * @throws InterruptedException If the calling thread is interrupted while waiting for a pipeline stage
+     */
+    public void render(final Scene scene, final ShapeTransform transform, final int frameCount,
+                       final IntFunction<Path> files) throws IOException, InterruptedException {
+
+        ExecutorService preparation = Executors.newSingleThreadExecutor(namedThreads("sequence-preparation"));
+        ExecutorService output = Executors.newSingleThreadExecutor(namedThreads("sequence-output"));
+
+        BlockingQueue<FrameBuffer> frameBuffers = new ArrayBlockingQueue<>(FRAME_BUFFERS);
+        for (int i = 0; i < FRAME_BUFFERS; i++) {
+            frameBuffers.add(new FrameBuffer(width, height));
+        }
+
+        List<Future<?>> pendingWrites = new ArrayList<>();
+        long start = System.nanoTime();
+        long renderTime = 0L;
+
+        try {
+            Future<Scene> nextScene = preparation.submit(() -> prepare(scene, scene.getShapes(), transform, 0));
+
+            for (int frame = 0; frame < frameCount; frame++) {
+                Scene current = await(nextScene);
+                if (frame + 1 < frameCount) {
+                    int nextFrame = frame + 1;
+                    nextScene = preparation.submit(() -> prepare(current, scene.getShapes(), transform, nextFrame));
+                }
+
+                checkCompletedWrites(pendingWrites);
+                FrameBuffer frameBuffer = frameBuffers.take();
+
+                long renderStart = System.nanoTime();
+                renderEngine.render(current, camera, frameBuffer);
+                renderTime += System.nanoTime() - renderStart;
+
+                Path file = files.apply(frame);
+                pendingWrites.add(output.submit(() -> {
+                    try {
+                        ImageWriter.write(frameBuffer, file);
+                        return null;
+                    } finally {
+                        frameBuffers.add(frameBuffer);
+                    }
+                }));
+            }
+
+            for (Future<?> write : pendingWrites) {
+                await(write);
+            }
+        } finally {
+            preparation.shutdownNow();
+            output.shutdownNow();
+        }
+
+        double totalSeconds = (System.nanoTime() - start) / 1e9d;
+        LOGGER.info("Rendered {} frames in {} s ({} frames per hour, {}% of the time spent rendering)",
+                frameCount,
+                String.format("%.2f", totalSeconds),
+                String.format("%.0f", frameCount * 3600d / totalSeconds),
+                String.format("%.1f", renderTime / 1e7d / totalSeconds));
+    }
+
+    private static Scene prepare(final Scene previous, final List<Shape> shapes, final ShapeTransform transform,
+                                 final int frame) {
+        List<Shape> moved = new ArrayList<>(shapes.size());
+        for (Shape shape : shapes) {
+            moved.add(transform.apply(shape, frame));
+        }
+        return previous.refit(moved);
+    }
+
+    private static void checkCompletedWrites(final List<Future<?>> pendingWrites)
+            throws IOException, InterruptedException {
+        Iterator<Future<?>> iterator = pendingWrites.iterator();
+        while (iterator.hasNext()) {
+            Future<?> write = iterator.next();
+            if (write.isDone()) {
+                await(write);
+                iterator.remove();
+            }
+        }
+    }
+
+    private static <T> T await(final Future<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static ThreadFactory namedThreads(final String name) {
+        return runnable -> {
+            Thread thread = new Thread(runnable, name);
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Starts a new thread for every tile. Virtual threads are used on JDKs providing them, looked up reflectively as
+ * the project still compiles for Java 8; older JDKs fall back to platform threads.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+class ThreadPerTileScheduler extends ExecutorTileScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ThreadPerTileScheduler.class);
+
+    private static final Method NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR = findVirtualThreadFactory();
+
+    ThreadPerTileScheduler() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            LOGGER.warn("No virtual threads on Java {}, starting a platform thread per tile",
+                    System.getProperty("java.specification.version"));
+        }
+    }
+
+    @Override
+    protected ExecutorService getExecutor() {
+        if (NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR == null) {
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "tile-thread");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        try {
+            return (ExecutorService) NEW_VIRTUAL_THREAD_PER_TASK_EXECUTOR.invoke(null);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Virtual threads are not available", e);
+        }
+    }
+
+    @Override
+    protected void release(final ExecutorService executor) {
+        executor.shutdown();
+    }
+
+    /**
+     * @return The number of cores, the carrier threads of virtual threads default to one per core
+     */
+    @Override
+    public int getParallelism() {
+        return Runtime.getRuntime().availableProcessors();
+    }
+
+    private static Method findVirtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+}
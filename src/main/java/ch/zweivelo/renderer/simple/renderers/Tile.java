@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Rectangular part of an image rendered as one unit of work.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class Tile {
+
+    private final int x;
+    private final int y;
+    private final int width;
+    private final int height;
+
+    public Tile(final int x, final int y, final int width, final int height) {
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+    }
+
+    /**
+     * Split an image into tiles in row major order. Tiles at the right and bottom border may be smaller.
+     *
+     * @param width    The image width
+     * @param height   The image height
+     * @param tileSize The edge length of a full tile
+     * @return The tiles covering the whole image
+     */
+    public static List<Tile> split(final int width, final int height, final int tileSize) {
+        List<Tile> tiles = new ArrayList<>();
+        for (int y = 0; y < height; y += tileSize) {
+            for (int x = 0; x < width; x += tileSize) {
+                tiles.add(new Tile(x, y, min(tileSize, width - x), min(tileSize, height - y)));
+            }
+        }
+        return tiles;
+    }
+
+    public int getX() {
+        return x;
+    }
+
+    public int getY() {
+        return y;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Tile{x=%s, y=%s, width=%s, height=%s}", x, y, width, height);
+    }
+}
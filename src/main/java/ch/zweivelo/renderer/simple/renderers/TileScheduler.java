@@ -0,0 +1,52 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Runs the tiles of a render on some threads, see {@link TileSchedulerType} for the available threading models.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public interface TileScheduler extends AutoCloseable {
+
+    /**
+     * Run the task for every item and return once all of them are done. An exception thrown by a task is rethrown
+     * to the caller, the remaining items may or may not have been processed.
+     *
+     * @param items The items, usually tiles
+     */
+    <T> void execute(List<T> items, Consumer<? super T> task);
+
+    /**
+     * @return The number of items processed at the same time
+     */
+    int getParallelism();
+
+    /**
+     * Release the threads of the scheduler, it must not be used afterwards.
+     */
+    @Override
+    default void close() {
+    }
+
+}
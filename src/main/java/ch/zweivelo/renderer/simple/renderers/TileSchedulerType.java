@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * The available threading models of a render.<br>
+ * FORK_JOIN: work stealing fork join pool, the common pool unless a number of threads is given<br>
+ * FIXED_POOL: fixed number of platform threads taking tiles from a bounded queue, the submitting thread waits while
+ * the queue is full<br>
+ * VIRTUAL_THREADS: one virtual thread per tile on JDKs providing them, one platform thread per tile otherwise<br>
+ * CALLER_RUNS: all tiles one after the other on the calling thread, e.g. for debugging
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public enum TileSchedulerType {
+
+    FORK_JOIN {
+        @Override
+        public TileScheduler create(final int threads, final int queueCapacity) {
+            return threads > 0
+                    ? new ForkJoinTileScheduler(new ForkJoinPool(threads), true)
+                    : new ForkJoinTileScheduler(ForkJoinPool.commonPool(), false);
+        }
+    },
+
+    FIXED_POOL {
+        @Override
+        public TileScheduler create(final int threads, final int queueCapacity) {
+            return new FixedPoolTileScheduler(threads > 0 ? threads : Runtime.getRuntime().availableProcessors(),
+                    queueCapacity);
+        }
+    },
+
+    VIRTUAL_THREADS {
+        @Override
+        public TileScheduler create(final int threads, final int queueCapacity) {
+            return new ThreadPerTileScheduler();
+        }
+    },
+
+    CALLER_RUNS {
+        @Override
+        public TileScheduler create(final int threads, final int queueCapacity) {
+            return new CallerRunsTileScheduler();
+        }
+    };
+
+    /**
+     * @param threads       The number of threads, 0 for one per core, ignored by schedulers not owning a fixed set
+     *                      of threads
+     * @param queueCapacity The number of tiles waiting for a thread, only used by the fixed pool
+     * @return A new scheduler, to be closed once it is no longer used
+     */
+    public abstract TileScheduler create(int threads, int queueCapacity);
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.cameras.Camera;
+
+/**
+ * One image of a batch: the camera it is seen through and its resolution.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class View {
+
+    private final Camera camera;
+    private final int width;
+    private final int height;
+
+    public View(final Camera camera, final int width, final int height) {
+        if (width <= 0 || height <= 0) {
+            throw new IllegalArgumentException(String.format("A view of %dx%d pixels is empty", width, height));
+        }
+        this.camera = camera;
+        this.width = width;
+        this.height = height;
+    }
+
+    public Camera getCamera() {
+        return camera;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("View{camera=%s, width=%s, height=%s}", camera, width, height);
+    }
+}
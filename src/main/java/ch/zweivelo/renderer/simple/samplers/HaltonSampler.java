@@ -0,0 +1,118 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.samplers;
+
+import ch.zweivelo.renderer.simple.math.CounterRandom;
+
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Scrambled Halton sequence: dimension d is the radical inverse of the sample index in the d-th prime base, with the
+ * digits mapped through a random permutation per dimension. The permutation tables are precomputed from the seed.
+ * Pixels are decorrelated by a random toroidal shift of every dimension. Dimensions above {@value #DIMENSIONS}, where
+ * the large bases stratify poorly, fall back to random numbers.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class HaltonSampler implements Sampler {
+
+    static final int DIMENSIONS = 64;
+
+    private static final int[] PRIMES = createPrimes(DIMENSIONS);
+
+    private static final double ONE_MINUS_EPSILON = Math.nextDown(1d);
+
+    private final long seed;
+    private final int[][] permutations;
+
+    public HaltonSampler(final long seed) {
+        this.seed = seed;
+        this.permutations = new int[DIMENSIONS][];
+        for (int dimension = 0; dimension < DIMENSIONS; dimension++) {
+            permutations[dimension] = createPermutation(PRIMES[dimension],
+                    CounterRandom.key(seed, -1L, 0, dimension));
+        }
+    }
+
+    @Override
+    public double get(final long pixel, final int sample, final int dimension) {
+        if (dimension >= DIMENSIONS) {
+            return CounterRandom.uniform(CounterRandom.key(seed, pixel, sample, 1), dimension);
+        }
+
+        double value = scrambledRadicalInverse(PRIMES[dimension], permutations[dimension], sample)
+                + CounterRandom.uniform(CounterRandom.key(seed, pixel, 0, 0), dimension);
+        return value < 1d ? value : value - 1d;
+    }
+
+    /**
+     * Mirror the digits of the index in the given base at the decimal point, mapping every digit through the
+     * permutation. The infinitely many leading zero digits of the index map to the permutation of 0, their sum is
+     * added as geometric series.
+     */
+    static double scrambledRadicalInverse(final int base, final int[] permutation, final int index) {
+        double inverseBase = 1d / base;
+        long reversedDigits = 0L;
+        double inverseBaseN = 1d;
+        int remaining = index;
+        while (remaining > 0) {
+            int next = remaining / base;
+            int digit = remaining - next * base;
+            reversedDigits = reversedDigits * base + permutation[digit];
+            inverseBaseN *= inverseBase;
+            remaining = next;
+        }
+        return min(inverseBaseN * (reversedDigits + inverseBase * permutation[0] / (1d - inverseBase)),
+                ONE_MINUS_EPSILON);
+    }
+
+    private static int[] createPermutation(final int base, final long key) {
+        int[] permutation = new int[base];
+        for (int i = 0; i < base; i++) {
+            permutation[i] = i;
+        }
+        for (int i = base - 1; i > 0; i--) {
+            int j = (int) (CounterRandom.uniform(key, i) * (i + 1));
+            int swap = permutation[i];
+            permutation[i] = permutation[j];
+            permutation[j] = swap;
+        }
+        return permutation;
+    }
+
+    private static int[] createPrimes(final int count) {
+        int[] primes = new int[count];
+        int found = 0;
+        for (int candidate = 2; found < count; candidate++) {
+            boolean prime = true;
+            for (int i = 0; i < found && primes[i] * primes[i] <= candidate; i++) {
+                if (candidate % primes[i] == 0) {
+                    prime = false;
+                    break;
+                }
+            }
+            if (prime) {
+                primes[found++] = candidate;
+            }
+        }
+        return primes;
+    }
+
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.samplers;
+
+import ch.zweivelo.renderer.simple.math.CounterRandom;
+
+/**
+ * Independent uniform random numbers drawn from {@link CounterRandom}. The reference the low discrepancy samplers are
+ * compared against.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RandomSampler implements Sampler {
+
+    private final long seed;
+
+    public RandomSampler(final long seed) {
+        this.seed = seed;
+    }
+
+    @Override
+    public double get(final long pixel, final int sample, final int dimension) {
+        return CounterRandom.uniform(CounterRandom.key(seed, pixel, sample, 0), dimension);
+    }
+
+}
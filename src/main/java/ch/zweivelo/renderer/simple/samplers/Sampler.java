@@ -0,0 +1,48 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.samplers;
+
+/**
+ * Source of the sample points used for pixel jitter, light sampling and bounce directions. A sample point is an
+ * infinite dimensional vector of numbers in [0, 1). Samplers are stateless: the value of a dimension depends only on
+ * the pixel, the sample index and the dimension, so images are reproducible regardless of threads and scheduling.
+ * <p>
+ * The render engine uses the dimensions {@value #PIXEL_U} and {@value #PIXEL_V} for the position within the pixel,
+ * integrators start at {@value #FIRST_INTEGRATOR_DIMENSION}. Integrators should place dimensions used together, like
+ * the two coordinates of a direction, in the same aligned group of four, which the Sobol sampler stratifies jointly.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+@FunctionalInterface
+public interface Sampler {
+
+    int PIXEL_U = 0;
+    int PIXEL_V = 1;
+    int FIRST_INTEGRATOR_DIMENSION = 4;
+
+    /**
+     * @param pixel     The row major index of the pixel
+     * @param sample    The index of the sample within the pixel
+     * @param dimension The dimension of the sample point
+     * @return A number in [0, 1)
+     */
+    double get(long pixel, int sample, int dimension);
+
+}
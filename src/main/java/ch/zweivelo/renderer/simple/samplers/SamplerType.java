@@ -0,0 +1,59 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.samplers;
+
+/**
+ * The available samplers.<br>
+ * RANDOM: independent uniform random numbers<br>
+ * HALTON: scrambled Halton sequence, falls back to random numbers for high dimensions<br>
+ * SOBOL: Owen scrambled Sobol sequence, padded in groups of four dimensions
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public enum SamplerType {
+
+    RANDOM {
+        @Override
+        public Sampler create(final long seed) {
+            return new RandomSampler(seed);
+        }
+    },
+
+    HALTON {
+        @Override
+        public Sampler create(final long seed) {
+            return new HaltonSampler(seed);
+        }
+    },
+
+    SOBOL {
+        @Override
+        public Sampler create(final long seed) {
+            return new SobolSampler(seed);
+        }
+    };
+
+    /**
+     * @param seed The seed of the scrambling, samplers with the same seed return the same points
+     * @return A new sampler
+     */
+    public abstract Sampler create(long seed);
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.scenes;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorCache;
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.apache.commons.math3.util.FastMath.cos;
+import static org.apache.commons.math3.util.FastMath.sin;
+import static org.apache.commons.math3.util.FastMath.toRadians;
+
+/**
+ * The default cornell box type scene: a floor, a back wall, a red left and a green right wall with two spheres in
+ * between. The box spans x from -1 to 1, y from 0 to 2 and ends at z = -1, the camera looks along the negative z axis.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class CornellBox {
+
+    private static final Color WALL = new Color(.75d, .75d, .75d);
+
+    public static List<Shape> createShapes() {
+        return Arrays.asList(
+                new Plane(Vector3D.ZERO, Vector3D.PLUS_J, WALL),
+                new Plane(new Vector3D(0d, 0d, -1d), Vector3D.PLUS_K, WALL),
+                new Plane(new Vector3D(-1d, 0d, 0d), Vector3D.PLUS_I, Color.RED),
+                new Plane(new Vector3D(1d, 0d, 0d), Vector3D.MINUS_I, Color.GREEN),
+                new Sphere(new Vector3D(-.45d, .4d, -.3d), .4d, Color.WHITE),
+                new Sphere(new Vector3D(.45d, .4d, .25d), .4d, Color.BLUE)
+        );
+    }
+
+    /**
+     * @return The cornell box with a mirror sphere on the left and a glass sphere on the right
+     */
+    public static List<Shape> createReflectiveShapes() {
+        return Arrays.asList(
+                new Plane(Vector3D.ZERO, Vector3D.PLUS_J, WALL),
+                new Plane(new Vector3D(0d, 0d, -1d), Vector3D.PLUS_K, WALL),
+                new Plane(new Vector3D(-1d, 0d, 0d), Vector3D.PLUS_I, Color.RED),
+                new Plane(new Vector3D(1d, 0d, 0d), Vector3D.MINUS_I, Color.GREEN),
+                new Sphere(new Vector3D(-.45d, .4d, -.3d), .4d, Color.WHITE, Material.mirror(.9d)),
+                new Sphere(new Vector3D(.45d, .4d, .25d), .4d, Color.WHITE, Material.glass())
+        );
+    }
+
+    public static Scene createScene(final AcceleratorType acceleratorType) {
+        return new Scene(createShapes(), acceleratorType);
+    }
+
+    public static Scene createScene(final AcceleratorType acceleratorType, final AcceleratorCache cache) {
+        return new Scene(createShapes(), acceleratorType, Collections.emptyList(), cache);
+    }
+
+    public static Scene createReflectiveScene(final AcceleratorType acceleratorType) {
+        return new Scene(createReflectiveShapes(), acceleratorType);
+    }
+
+    /**
+     * @param aspectRatio The image width divided by the image height
+     * @return A camera looking into the open side of the box
+     */
+    public static Camera createCamera(final double aspectRatio) {
+        return createCamera(aspectRatio, 0d);
+    }
+
+    /**
+     * @param aspectRatio The image width divided by the image height
+     * @param angle       The angle in degrees by which the camera is swung around the vertical axis of the box
+     * @return A camera looking at the center of the box from the given angle
+     */
+    public static Camera createCamera(final double aspectRatio, final double angle) {
+        double radians = toRadians(angle);
+        return new PinholeCamera(new Vector3D(3.5d * sin(radians), 1d, 3.5d * cos(radians)), new Vector3D(0d, 1d, 0d),
+                Vector3D.PLUS_J, 40d, aspectRatio);
+    }
+
+}
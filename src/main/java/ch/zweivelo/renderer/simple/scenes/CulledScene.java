@@ -0,0 +1,84 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.scenes;
+
+import ch.zweivelo.renderer.simple.accelerators.Accelerator;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Frustum;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * View of a scene for the camera rays of one image tile. Only the shapes whose bounds overlap the frustum of the
+ * tile are candidates for the camera rays, they are kept in an accelerator of their own. All other rays, e.g. shadow
+ * rays and bounces, are answered by the full scene. A camera ray is recognized by identity, it has to be announced
+ * with {@link #setCameraRay(Ray)} before it is traced and must lie within the frustum. Used by a single thread.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class CulledScene extends Scene {
+
+    private final Scene scene;
+    private final Accelerator candidates;
+    private final int candidateCount;
+
+    private Ray cameraRay;
+
+    public CulledScene(final Scene scene, final Frustum frustum) {
+        super(scene);
+        this.scene = scene;
+
+        List<Shape> visible = scene.getShapes().stream()
+                .filter(shape -> frustum.intersects(shape.getBounds()))
+                .collect(Collectors.toList());
+        this.candidateCount = visible.size();
+        /* nothing to gain if all shapes are visible, the camera rays then use the scene accelerator */
+        this.candidates = visible.size() < scene.getShapes().size()
+                ? scene.getAcceleratorType().build(visible)
+                : null;
+    }
+
+    /**
+     * @return The number of shapes the camera rays are tested against
+     */
+    public int getCandidateCount() {
+        return candidateCount;
+    }
+
+    /**
+     * @param cameraRay The next ray to be traced from the camera, within the frustum
+     */
+    public void setCameraRay(final Ray cameraRay) {
+        this.cameraRay = cameraRay;
+    }
+
+    @Override
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        if (ray == cameraRay && candidates != null) {
+            return candidates.findClosestCollision(ray);
+        }
+        return scene.findClosestCollision(ray);
+    }
+
+}
@@ -0,0 +1,197 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.scenes;
+
+import ch.zweivelo.renderer.simple.accelerators.Accelerator;
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorCache;
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.lights.Light;
+import ch.zweivelo.renderer.simple.lights.LightTree;
+import ch.zweivelo.renderer.simple.lights.SphereLight;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * A scene consisting of shapes, the accelerator chosen for them and the lights. Besides the explicitly given lights,
+ * every emissive sphere is a light, all of them are collected in a {@link LightTree} for importance sampling.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class Scene {
+
+    private final List<Shape> shapes;
+    private final AcceleratorType acceleratorType;
+    private final Accelerator accelerator;
+    private final List<Light> lights;
+    private final LightTree lightTree;
+    private final Set<Shape> lightShapes;
+
+    /**
+     * @param lights Lights without geometry, e.g. point lights
+     * @param cache  The cache to read the accelerator from instead of building it, null to always build it
+     */
+    public Scene(final List<Shape> shapes, final AcceleratorType acceleratorType, final List<Light> lights,
+                 final AcceleratorCache cache) {
+        this.shapes = Collections.unmodifiableList(new ArrayList<>(shapes));
+        this.acceleratorType = acceleratorType;
+        this.accelerator = cache == null
+                ? acceleratorType.build(this.shapes)
+                : cache.build(acceleratorType, this.shapes);
+        this.lights = Collections.unmodifiableList(new ArrayList<>(lights));
+        this.lightShapes = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.lightTree = createLightTree();
+    }
+
+    /**
+     * @param lights Lights without geometry, e.g. point lights
+     */
+    public Scene(final List<Shape> shapes, final AcceleratorType acceleratorType, final List<Light> lights) {
+        this(shapes, acceleratorType, lights, null);
+    }
+
+    public Scene(final List<Shape> shapes, final AcceleratorType acceleratorType) {
+        this(shapes, acceleratorType, Collections.emptyList());
+    }
+
+    private Scene(final Scene previous, final List<Shape> movedShapes) {
+        this.shapes = Collections.unmodifiableList(new ArrayList<>(movedShapes));
+        this.acceleratorType = previous.acceleratorType;
+        this.accelerator = previous.accelerator.refit(this.shapes);
+        this.lights = previous.lights;
+        this.lightShapes = Collections.newSetFromMap(new IdentityHashMap<>());
+        this.lightTree = createLightTree();
+    }
+
+    /**
+     * Share everything with the given scene.
+     */
+    protected Scene(final Scene scene) {
+        this.shapes = scene.shapes;
+        this.acceleratorType = scene.acceleratorType;
+        this.accelerator = scene.accelerator;
+        this.lights = scene.lights;
+        this.lightShapes = scene.lightShapes;
+        this.lightTree = scene.lightTree;
+    }
+
+    public Scene(final List<Shape> shapes) {
+        this(shapes, AcceleratorType.SHAPE_LIST);
+    }
+
+    public List<Shape> getShapes() {
+        return shapes;
+    }
+
+    public AcceleratorType getAcceleratorType() {
+        return acceleratorType;
+    }
+
+    public Accelerator getAccelerator() {
+        return accelerator;
+    }
+
+    /**
+     * @return The explicitly given lights, without the emissive shapes
+     */
+    public List<Light> getLights() {
+        return lights;
+    }
+
+    public LightTree getLightTree() {
+        return lightTree;
+    }
+
+    /**
+     * @return true if the shape is an emitter contained in the light tree, its light is then gathered by sampling
+     * the tree and must not be counted again when a diffusely scattered ray hits it
+     */
+    public boolean isSampledLight(final Shape shape) {
+        return lightShapes.contains(shape);
+    }
+
+    /**
+     * Create the scene for the next frame of an animation. As long as the number of shapes is unchanged the
+     * accelerator of this scene is refitted instead of rebuilt. This scene stays valid.
+     *
+     * @param movedShapes The shapes of the next frame, in the same order as the shapes of this scene
+     * @return A new scene containing the moved shapes
+     */
+    public Scene refit(final List<Shape> movedShapes) {
+        if (movedShapes.size() != shapes.size()) {
+            return new Scene(movedShapes, acceleratorType, lights);
+        }
+        return new Scene(this, movedShapes);
+    }
+
+    public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+        return accelerator.findClosestCollision(ray);
+    }
+
+    /**
+     * Create a view of this scene reporting every collision query to the listener, e.g. to record the first hit per
+     * pixel while the integrator traces it. The queries are answered by this scene, including any view it is. The
+     * scene itself stays free of any listener checks.
+     *
+     * @param listener Called on the querying thread
+     * @return A scene sharing the accelerator and lights of this scene
+     */
+    public Scene observe(final CollisionListener listener) {
+        return new ObservedScene(this, listener);
+    }
+
+    private LightTree createLightTree() {
+        List<Light> allLights = new ArrayList<>(lights);
+        for (Shape shape : shapes) {
+            if (shape instanceof Sphere && shape.getMaterial().isEmissive()) {
+                allLights.add(new SphereLight((Sphere) shape));
+                lightShapes.add(shape);
+            }
+        }
+        return new LightTree(allLights);
+    }
+
+    private static final class ObservedScene extends Scene {
+
+        private final Scene scene;
+        private final CollisionListener listener;
+
+        private ObservedScene(final Scene scene, final CollisionListener listener) {
+            super(scene);
+            this.scene = scene;
+            this.listener = listener;
+        }
+
+        @Override
+        public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+            Optional<CollisionInformation> collision = scene.findClosestCollision(ray);
+            listener.collided(ray, collision);
+            return collision;
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.scenes;
+
+import ch.zweivelo.renderer.simple.shapes.Shape;
+
+/**
+ * Per frame transformation of the shapes of an animated scene.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+@FunctionalInterface
+public interface ShapeTransform {
+
+    /**
+     * @param shape The shape as defined in the initial scene
+     * @param frame The frame number, starting at 0
+     * @return The shape as it appears in the given frame
+     */
+    Shape apply(Shape shape, int frame);
+
+}
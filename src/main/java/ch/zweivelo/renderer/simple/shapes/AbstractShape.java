@@ -16,10 +16,15 @@
 
 package ch.zweivelo.renderer.simple.shapes;
 
+import ch.zweivelo.renderer.simple.materials.Material;
 import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.textures.Texture;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 
 /**
- * A base class containing a color field.
+ * A base class containing a color, a material and an optional texture which is tinted by the color. Subclasses
+ * map surface points to texture coordinates.
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -27,12 +32,54 @@ import ch.zweivelo.renderer.simple.math.Color;
  */
 public abstract class AbstractShape implements Shape {
     protected final Color color;
+    protected final Material material;
+    protected final Texture texture;
 
     public AbstractShape(final Color color) {
+        this(color, Material.DIFFUSE);
+    }
+
+    public AbstractShape(final Color color, final Material material) {
+        this(color, material, null);
+    }
+
+    /**
+     * @param texture The texture or null for a uniformly colored shape
+     */
+    public AbstractShape(final Color color, final Material material, final Texture texture) {
         this.color = color;
+        this.material = material;
+        this.texture = texture;
     }
 
     public Color getColor() {
         return color;
     }
+
+    @Override
+    public Color getColor(final Vector3D point, final double footprint) {
+        if (texture == null) {
+            return color;
+        }
+        Vector2D uv = getTextureCoordinates(point);
+        return texture.lookup(uv.getX(), uv.getY(), footprint * getTextureScale()).multiply(color);
+    }
+
+    /**
+     * @param point A point on the surface
+     * @return The texture coordinates of the point, the texture repeats outside of [0, 1)
+     */
+    protected abstract Vector2D getTextureCoordinates(final Vector3D point);
+
+    /**
+     * @return The change of the texture coordinates per unit of distance on the surface, 1 unless overridden
+     */
+    protected double getTextureScale() {
+        return 1d;
+    }
+
+    @Override
+    public Material getMaterial() {
+        return material;
+    }
 }
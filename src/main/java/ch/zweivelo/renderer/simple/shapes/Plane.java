@@ -16,9 +16,12 @@
 
 package ch.zweivelo.renderer.simple.shapes;
 
+import ch.zweivelo.renderer.simple.materials.Material;
 import ch.zweivelo.renderer.simple.math.Color;
 import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.textures.Texture;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
 
 import java.util.Optional;
 
@@ -33,27 +36,75 @@ public class Plane extends AbstractShape {
 
     private final Vector3D origin;
     private final Vector3D normal;
+    private final Vector3D tangent;
+    private final Vector3D bitangent;
 
     public Plane(final Vector3D origin, final Vector3D normal) {
-        super(Color.BLUE);
+        this(origin, normal, Color.BLUE);
+    }
+
+    public Plane(final Vector3D origin, final Vector3D normal, final Color color) {
+        this(origin, normal, color, Material.DIFFUSE);
+    }
+
+    public Plane(final Vector3D origin, final Vector3D normal, final Color color, final Material material) {
+        this(origin, normal, color, material, null);
+    }
+
+    /**
+     * @param texture The texture, repeated every unit of distance starting at the origin
+     */
+    public Plane(final Vector3D origin, final Vector3D normal, final Color color, final Material material,
+                 final Texture texture) {
+        super(color, material, texture);
         this.origin = origin;
         this.normal = normal.normalize();
+        this.tangent = this.normal.orthogonal();
+        this.bitangent = this.normal.crossProduct(tangent);
+    }
+
+    public Vector3D getOrigin() {
+        return origin;
+    }
+
+    /**
+     * @return The normalized normal of the plane
+     */
+    public Vector3D getNormal() {
+        return normal;
+    }
+
+    @Override
+    public Vector3D getNormal(final Vector3D point) {
+        return normal;
+    }
+
+    @Override
+    protected Vector2D getTextureCoordinates(final Vector3D point) {
+        Vector3D offset = point.subtract(origin);
+        return new Vector2D(offset.dotProduct(tangent), offset.dotProduct(bitangent));
     }
 
     @Override
     public Optional<Double> calculateIntersectionDistance(final Ray ray) {
-        double numerator = origin.subtract(ray.getOrigin()).dotProduct(normal);
+        double distance = intersectionDistance(ray);
+        return Double.isNaN(distance) ? Optional.empty() : Optional.of(distance);
+    }
+
+    @Override
+    public double intersectionDistance(final Ray ray) {
+        Vector3D rayOrigin = ray.getOrigin();
+        double numerator = (origin.getX() - rayOrigin.getX()) * normal.getX()
+                + (origin.getY() - rayOrigin.getY()) * normal.getY()
+                + (origin.getZ() - rayOrigin.getZ()) * normal.getZ();
         double denominator = ray.getDirection().dotProduct(normal);
 
         if (denominator == 0d) {
-            if (numerator != 0d) {
-                return Optional.empty();
-            }
-            return Optional.of(ray.getInterval().getStart());
+            return numerator != 0d ? Double.NaN : ray.getInterval().getStart();
         }
 
         double distance = numerator / denominator;
-        return ray.isValidT(distance) ? Optional.of(distance) : Optional.empty();
+        return ray.isValidT(distance) ? distance : Double.NaN;
     }
 
     @Override
@@ -16,9 +16,12 @@
 
 package ch.zweivelo.renderer.simple.shapes;
 
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.BoundingBox;
 import ch.zweivelo.renderer.simple.math.CollisionInformation;
 import ch.zweivelo.renderer.simple.math.Color;
 import ch.zweivelo.renderer.simple.math.Ray;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 
 import java.util.Optional;
 
@@ -33,18 +36,61 @@ public interface Shape {
 
     Optional<Double> calculateIntersectionDistance(Ray ray);
 
+    /**
+     * The distance of {@link #calculateIntersectionDistance(Ray)} without boxing it, for the closest hit queries of
+     * the accelerators. Shapes on the hot path override it and derive the optional from it.
+     *
+     * @return The distance along the ray to the intersection, NaN if there is none
+     */
+    default double intersectionDistance(final Ray ray) {
+        return calculateIntersectionDistance(ray).orElse(Double.NaN);
+    }
+
     default Optional<CollisionInformation> intersect(final Ray ray) {
         return calculateIntersectionDistance(ray).map(
-                distance -> new CollisionInformation(
-                        distance,
-                        this,
-                        ray.calculatePoint(distance),
-                        getColor()
-                )
+                distance -> {
+                    Vector3D point = ray.calculatePoint(distance);
+                    return new CollisionInformation(
+                            distance,
+                            this,
+                            point,
+                            getColor(point, ray.calculateFootprint(distance))
+                    );
+                }
         );
     }
 
     default Color getColor() {
         return Color.BLACK;
     }
+
+    /**
+     * @param point     A point on the surface of the shape
+     * @param footprint The width of the surface area seen through the ray, over which textures are filtered
+     * @return The color at the given point
+     */
+    default Color getColor(final Vector3D point, final double footprint) {
+        return getColor();
+    }
+
+    default Material getMaterial() {
+        return Material.DIFFUSE;
+    }
+
+    /**
+     * @param point A point on the surface of the shape
+     * @return The normalized outward facing surface normal at the given point, {@link Vector3D#ZERO} if the shape
+     * does not provide normals. Such shapes are shown in their color but not scattered from, and record a zero
+     * normal in output variables and denoiser guides.
+     */
+    default Vector3D getNormal(final Vector3D point) {
+        return Vector3D.ZERO;
+    }
+
+    /**
+     * @return The axis aligned bounds of this shape, {@link BoundingBox#INFINITE} for unbounded shapes
+     */
+    default BoundingBox getBounds() {
+        return BoundingBox.INFINITE;
+    }
 }
@@ -16,13 +16,23 @@
 
 package ch.zweivelo.renderer.simple.shapes;
 
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.BoundingBox;
 import ch.zweivelo.renderer.simple.math.Color;
 import ch.zweivelo.renderer.simple.math.Ray;
 import ch.zweivelo.renderer.simple.math.Solver;
+import ch.zweivelo.renderer.simple.textures.Texture;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
 
 import java.util.Optional;
-import java.util.OptionalDouble;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.TWO_PI;
+import static org.apache.commons.math3.util.FastMath.PI;
+import static org.apache.commons.math3.util.FastMath.acos;
+import static org.apache.commons.math3.util.FastMath.atan2;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
 
 /**
  * Sphere representation characterized by its location and a radius.
@@ -35,29 +45,85 @@ public class Sphere extends AbstractShape {
 
     private final Vector3D center;
     private final double radius;
+    private final BoundingBox bounds;
 
 
     public Sphere(final Vector3D center, final double radius) {
-        super(Color.RED);
+        this(center, radius, Color.RED);
+    }
+
+    public Sphere(final Vector3D center, final double radius, final Color color) {
+        this(center, radius, color, Material.DIFFUSE);
+    }
+
+    public Sphere(final Vector3D center, final double radius, final Color color, final Material material) {
+        this(center, radius, color, material, null);
+    }
+
+    public Sphere(final Vector3D center, final double radius, final Color color, final Material material,
+                  final Texture texture) {
+        super(color, material, texture);
         this.center = center;
         this.radius = radius;
+        this.bounds = new BoundingBox(
+                center.getX() - radius, center.getY() - radius, center.getZ() - radius,
+                center.getX() + radius, center.getY() + radius, center.getZ() + radius);
+    }
+
+    public Vector3D getCenter() {
+        return center;
+    }
+
+    public double getRadius() {
+        return radius;
     }
 
     @Override
-    public Optional<Double> calculateIntersectionDistance(final Ray ray) {
-        Vector3D dir = ray.getDirection();
-        Vector3D tmp = ray.getOrigin().subtract(center);
+    public BoundingBox getBounds() {
+        return bounds;
+    }
 
-        OptionalDouble min = Solver.QUADRATIC.solve(
-                tmp.dotProduct(tmp) - radius * radius,
-                2 * dir.dotProduct(tmp),
-                dir.dotProduct(dir)).min();
+    @Override
+    public Vector3D getNormal(final Vector3D point) {
+        return point.subtract(center).scalarMultiply(1d / radius);
+    }
+
+    /**
+     * Longitude and latitude: u runs once around the y axis, v from the north to the south pole.
+     */
+    @Override
+    protected Vector2D getTextureCoordinates(final Vector3D point) {
+        Vector3D normal = getNormal(point);
+        return new Vector2D(
+                .5d + atan2(normal.getZ(), normal.getX()) / TWO_PI,
+                acos(max(-1d, min(1d, normal.getY()))) / PI);
+    }
+
+    @Override
+    protected double getTextureScale() {
+        return 1d / (PI * radius);
+    }
 
-        if (min.isPresent()) {
-            return Optional.of(min.getAsDouble());
-        }
+    @Override
+    public Optional<Double> calculateIntersectionDistance(final Ray ray) {
+        double distance = intersectionDistance(ray);
+        return Double.isNaN(distance) ? Optional.empty() : Optional.of(distance);
+    }
+
+    @Override
+    public double intersectionDistance(final Ray ray) {
+        Vector3D dir = ray.getDirection();
+        Vector3D origin = ray.getOrigin();
+        double x = origin.getX() - center.getX();
+        double y = origin.getY() - center.getY();
+        double z = origin.getZ() - center.getZ();
 
-        return Optional.empty();
+        return Solver.nearestQuadraticRoot(
+                x * x + y * y + z * z - radius * radius,
+                2 * (dir.getX() * x + dir.getY() * y + dir.getZ() * z),
+                dir.dotProduct(dir),
+                ray.getInterval().getStart(),
+                ray.getInterval().getEnd());
     }
 
     @Override
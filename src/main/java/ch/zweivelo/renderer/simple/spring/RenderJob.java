@@ -0,0 +1,128 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.spring;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.Denoiser;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ImageWriter;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.preview.PreviewServer;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.renderers.TileListener;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * The render of the application: the cornell box rendered by the configured render engine, i.e. with the tile
+ * scheduler chosen in the configuration, and written to a file.
+ * If a denoiser is configured, it filters the render before it is written. If a preview server is configured, it
+ * receives every tile of the render and of the denoised image.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RenderJob {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RenderJob.class);
+
+    private final RenderEngine renderEngine;
+    private final PreviewServer previewServer;
+    private final Denoiser denoiser;
+    private final AcceleratorType acceleratorType;
+    private final int width;
+    private final int height;
+    private final ToneMapper toneMapper;
+    private final Path output;
+
+    /**
+     * @param previewServer The server streaming the tiles of the render, null for none
+     * @param denoiser      The filter applied to the render, null for none
+     */
+    public RenderJob(final RenderEngine renderEngine, final PreviewServer previewServer, final Denoiser denoiser,
+                     final AcceleratorType acceleratorType, final int width, final int height,
+                     final ToneMapper toneMapper, final Path output) {
+        this.renderEngine = renderEngine;
+        this.previewServer = previewServer;
+        this.denoiser = denoiser;
+        this.acceleratorType = acceleratorType;
+        this.width = width;
+        this.height = height;
+        this.toneMapper = toneMapper;
+        this.output = output;
+    }
+
+    public RenderEngine getRenderEngine() {
+        return renderEngine;
+    }
+
+    /**
+     * @return True if a preview server streams the render, it keeps serving the image after the render
+     */
+    public boolean isPreviewed() {
+        return previewServer != null;
+    }
+
+    public boolean isDenoised() {
+        return denoiser != null;
+    }
+
+    /**
+     * Render the image and write it to the output file.
+     *
+     * @return The rendered image
+     * @throws IOException If the image can not be written
+     */
+    public FrameBuffer render() throws IOException {
+        Scene scene = CornellBox.createScene(acceleratorType);
+        Camera camera = CornellBox.createCamera((double) width / height);
+        FrameBuffer frameBuffer = new FrameBuffer(width, height);
+
+        long start = System.nanoTime();
+        if (previewServer == null) {
+            renderEngine.render(scene, camera, frameBuffer);
+        } else {
+            previewServer.start(frameBuffer);
+            renderEngine.render(scene, camera, frameBuffer, previewServer);
+        }
+        LOGGER.info("Rendered {}x{} pixels on {} threads in {} ms", width, height,
+                renderEngine.getTileScheduler().getParallelism(), (System.nanoTime() - start) / 1000000L);
+
+        if (denoiser != null) {
+            start = System.nanoTime();
+            renderEngine.denoise(scene, camera, frameBuffer, denoiser,
+                    previewServer == null ? TileListener.NONE : previewServer);
+            LOGGER.info("Denoised in {} ms", (System.nanoTime() - start) / 1000000L);
+        }
+
+        ImageWriter.write(frameBuffer, output, toneMapper);
+        if (previewServer != null) {
+            previewServer.finish();
+        }
+        LOGGER.info("Image written to {}", output);
+        return frameBuffer;
+    }
+
+}
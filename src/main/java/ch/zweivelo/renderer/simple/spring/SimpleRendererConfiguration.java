@@ -16,8 +16,27 @@
 
 package ch.zweivelo.renderer.simple.spring;
 
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.images.Denoiser;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.preview.PreviewServer;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.renderers.TileScheduler;
+import ch.zweivelo.renderer.simple.renderers.TileSchedulerType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.Optional;
+
 /**
  * Spring boot configuration for the simple renderer project.
  *
@@ -27,4 +46,60 @@ import org.springframework.context.annotation.Configuration;
  */
 @Configuration
 public class SimpleRendererConfiguration {
+
+    /**
+     * The threading model of the renders, closed with the application context.
+     */
+    @Bean
+    public TileScheduler tileScheduler(@Value("${renderer.scheduler.type:FORK_JOIN}") final TileSchedulerType type,
+                                       @Value("${renderer.scheduler.threads:0}") final int threads,
+                                       @Value("${renderer.scheduler.queue-capacity:64}") final int queueCapacity) {
+        return type.create(threads, queueCapacity);
+    }
+
+    /**
+     * Shows the colors of the shapes, or path traces the scene in front of a sky blue background.
+     */
+    @Bean
+    public RenderEngine renderEngine(final TileScheduler tileScheduler,
+                                     @Value("${renderer.tile-size:32}") final int tileSize,
+                                     @Value("${renderer.samples-per-pixel:1}") final int samplesPerPixel,
+                                     @Value("${renderer.path-tracing:false}") final boolean pathTracing,
+                                     @Value("${renderer.rasterized-primaries:false}") final boolean rasterized) {
+        return new RenderEngine(pathTracing ? new PathTracer(new Color(.8d, .9d, 1d)) : new ColorIntegrator(),
+                tileSize, samplesPerPixel)
+                .withTileScheduler(tileScheduler)
+                .withRasterizedPrimaries(rasterized);
+    }
+
+    /**
+     * Stream the tiles of the render in progress, see {@link #renderJob}. Only started with
+     * <code>preview.enabled</code>, the application then keeps serving the finished image until it is stopped.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "preview", name = "enabled", havingValue = "true")
+    public PreviewServer previewServer(@Value("${preview.host:localhost}") final String host,
+                                       @Value("${preview.port:8081}") final int port,
+                                       @Value("${preview.tone-mapping:REINHARD}") final ToneMapping toneMapping)
+            throws IOException {
+        return new PreviewServer(new InetSocketAddress(host, port), new ToneMapper(toneMapping));
+    }
+
+    /**
+     * The render of the application, streamed to the preview server if it is enabled and denoised if
+     * <code>renderer.denoise</code> is set.
+     */
+    @Bean
+    public RenderJob renderJob(final RenderEngine renderEngine, final Optional<PreviewServer> previewServer,
+                               @Value("${renderer.denoise:false}") final boolean denoise,
+                               @Value("${renderer.accelerator:BOUNDING_VOLUME_HIERARCHY}")
+                               final AcceleratorType acceleratorType,
+                               @Value("${renderer.width:640}") final int width,
+                               @Value("${renderer.height:480}") final int height,
+                               @Value("${renderer.tone-mapping:CLAMP}") final ToneMapping toneMapping,
+                               @Value("${renderer.output:cornell-box.png}") final String output) {
+        return new RenderJob(renderEngine, previewServer.orElse(null), denoise ? new Denoiser() : null,
+                acceleratorType, width, height, new ToneMapper(toneMapping), Paths.get(output));
+    }
+
 }
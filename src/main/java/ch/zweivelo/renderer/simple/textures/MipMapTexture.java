@@ -0,0 +1,220 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.textures;
+
+import ch.zweivelo.renderer.simple.math.Color;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.apache.commons.math3.util.FastMath.floor;
+import static org.apache.commons.math3.util.FastMath.log;
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+
+/**
+ * Image texture backed by a tiled mip map file written by {@link MipMapWriter}. Opening the texture only reads the
+ * header, the tiles are read from the file on first access and kept in the shared {@link TileCache}. Tiles are read
+ * with positional reads through a buffer per thread, so cache misses create no memory mappings. Each lookup
+ * picks the levels whose texels match the footprint and interpolates trilinearly between them into a scratch color
+ * per thread, a footprint of 0 always samples the finest level.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class MipMapTexture implements Texture, Closeable {
+
+    private static final double LN_2 = log(2d);
+
+    private static final double[] LINEAR = new double[256];
+
+    static {
+        for (int i = 0; i < LINEAR.length; i++) {
+            LINEAR[i] = MipMapWriter.decode(i);
+        }
+    }
+
+    private final FileChannel channel;
+    private final TileCache cache;
+    private final long id;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int levels;
+
+    private final int[] levelWidths;
+    private final int[] levelHeights;
+    private final int[] levelTilesX;
+    private final long[] levelOffsets;
+    private final ThreadLocal<ByteBuffer> tileBuffers;
+    private final ThreadLocal<double[]> colors = ThreadLocal.withInitial(() -> new double[3]);
+
+    private MipMapTexture(final FileChannel channel, final TileCache cache) throws IOException {
+        this.channel = channel;
+        this.cache = cache;
+        this.id = cache.register();
+
+        ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0L, 4L * MipMapWriter.HEADER_INTS);
+        if (header.getInt() != MipMapWriter.MAGIC || header.getInt() != MipMapWriter.VERSION) {
+            throw new IOException("Not a mip map texture file");
+        }
+        width = header.getInt();
+        height = header.getInt();
+        tileSize = header.getInt();
+        levels = header.getInt();
+
+        levelWidths = new int[levels];
+        levelHeights = new int[levels];
+        levelTilesX = new int[levels];
+        levelOffsets = new long[levels];
+
+        long offset = 4L * MipMapWriter.HEADER_INTS;
+        int levelWidth = width;
+        int levelHeight = height;
+        for (int level = 0; level < levels; level++) {
+            levelWidths[level] = levelWidth;
+            levelHeights[level] = levelHeight;
+            levelTilesX[level] = (levelWidth + tileSize - 1) / tileSize;
+            levelOffsets[level] = offset;
+            offset += (long) levelTilesX[level] * ((levelHeight + tileSize - 1) / tileSize) * getTileBytes();
+            levelWidth = MipMapWriter.levelSize(levelWidth);
+            levelHeight = MipMapWriter.levelSize(levelHeight);
+        }
+        tileBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate((int) getTileBytes()));
+    }
+
+    /**
+     * @param path  A file written by {@link MipMapWriter}
+     * @param cache The cache receiving the tiles of the texture
+     */
+    public static MipMapTexture open(final Path path, final TileCache cache) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            return new MipMapTexture(channel, cache);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public int getLevels() {
+        return levels;
+    }
+
+    @Override
+    public Color lookup(final double u, final double v, final double footprint) {
+        double level = footprint > 0d ? log(footprint * max(width, height)) / LN_2 : 0d;
+        level = min(levels - 1d, max(0d, level));
+        int fine = (int) level;
+        double coarseWeight = level - fine;
+
+        double[] color = colors.get();
+        color[0] = 0d;
+        color[1] = 0d;
+        color[2] = 0d;
+        bilinear(fine, u, v, 1d - coarseWeight, color);
+        if (coarseWeight > 0d) {
+            bilinear(fine + 1, u, v, coarseWeight, color);
+        }
+        return new Color(color[0], color[1], color[2]);
+    }
+
+    /**
+     * @return The sRGB texel packed as 0xRRGGBB, the coordinates must lie within the level
+     */
+    int getTexel(final int level, final int x, final int y) {
+        int tileIndex = y / tileSize * levelTilesX[level] + x / tileSize;
+        long key = id << 48 | (long) level << 40 | tileIndex;
+        int[] tile = cache.get(key, k -> loadTile(level, tileIndex));
+        return tile[y % tileSize * tileSize + x % tileSize];
+    }
+
+    private void bilinear(final int level, final double u, final double v, final double weight,
+                          final double[] color) {
+        int levelWidth = levelWidths[level];
+        int levelHeight = levelHeights[level];
+        double x = (u - floor(u)) * levelWidth - .5d;
+        double y = (v - floor(v)) * levelHeight - .5d;
+        int x0 = (int) floor(x);
+        int y0 = (int) floor(y);
+        double fx = x - x0;
+        double fy = y - y0;
+
+        addTexel(level, x0, y0, weight * (1d - fx) * (1d - fy), color);
+        addTexel(level, x0 + 1, y0, weight * fx * (1d - fy), color);
+        addTexel(level, x0, y0 + 1, weight * (1d - fx) * fy, color);
+        addTexel(level, x0 + 1, y0 + 1, weight * fx * fy, color);
+    }
+
+    private void addTexel(final int level, final int x, final int y, final double weight, final double[] color) {
+        if (weight == 0d) {
+            return;
+        }
+        int texel = getTexel(level, Math.floorMod(x, levelWidths[level]), Math.floorMod(y, levelHeights[level]));
+        color[0] += weight * LINEAR[texel >> 16 & 0xff];
+        color[1] += weight * LINEAR[texel >> 8 & 0xff];
+        color[2] += weight * LINEAR[texel & 0xff];
+    }
+
+    private int[] loadTile(final int level, final int tileIndex) {
+        int[] tile = new int[tileSize * tileSize];
+        ByteBuffer buffer = tileBuffers.get();
+        buffer.clear();
+        long position = levelOffsets[level] + (long) tileIndex * getTileBytes();
+        try {
+            while (buffer.hasRemaining()) {
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Mip map texture file ends within tile " + tileIndex + " of level " + level);
+                }
+                position += read;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        buffer.flip();
+        buffer.asIntBuffer().get(tile);
+        return tile;
+    }
+
+    private long getTileBytes() {
+        return 4L * tileSize * tileSize;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+}
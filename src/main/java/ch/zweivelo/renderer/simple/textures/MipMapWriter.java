@@ -0,0 +1,171 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.textures;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import static org.apache.commons.math3.util.FastMath.max;
+import static org.apache.commons.math3.util.FastMath.min;
+import static org.apache.commons.math3.util.FastMath.pow;
+
+/**
+ * Converts an image into the tiled mip map file read by {@link MipMapTexture}. The file starts with a header of six
+ * ints: magic number, version, width, height, tile size and number of levels. The levels follow from the finest to
+ * the coarsest, each level halving the size of the previous one down to a single texel. Every level is stored as
+ * square tiles in row major order, the tiles at the right and bottom edge are padded to full size. Texels are packed
+ * as 0xRRGGBB sRGB ints, the levels are averaged in linear space.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class MipMapWriter {
+
+    static final int MAGIC = 0x4d495054;
+    static final int VERSION = 1;
+    static final int HEADER_INTS = 6;
+
+    public static final int DEFAULT_TILE_SIZE = 64;
+
+    private MipMapWriter() {
+    }
+
+    public static void write(final BufferedImage image, final Path path) throws IOException {
+        write(image, path, DEFAULT_TILE_SIZE);
+    }
+
+    /**
+     * @param image    The sRGB image
+     * @param path     The file to (over)write
+     * @param tileSize The width and height of the tiles in texels
+     */
+    public static void write(final BufferedImage image, final Path path, final int tileSize) throws IOException {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        int levels = levelCount(width, height);
+
+        float[] linear = new float[3 * width * height];
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int index = 3 * (y * width + x);
+                linear[index] = (float) decode(rgb >> 16 & 0xff);
+                linear[index + 1] = (float) decode(rgb >> 8 & 0xff);
+                linear[index + 2] = (float) decode(rgb & 0xff);
+            }
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(4 * HEADER_INTS);
+            header.putInt(MAGIC).putInt(VERSION).putInt(width).putInt(height).putInt(tileSize).putInt(levels);
+            header.flip();
+            writeFully(channel, header);
+
+            ByteBuffer tile = ByteBuffer.allocate(4 * tileSize * tileSize);
+            int levelWidth = width;
+            int levelHeight = height;
+            for (int level = 0; level < levels; level++) {
+                for (int tileY = 0; tileY < levelHeight; tileY += tileSize) {
+                    for (int tileX = 0; tileX < levelWidth; tileX += tileSize) {
+                        tile.clear();
+                        for (int y = tileY; y < tileY + tileSize; y++) {
+                            for (int x = tileX; x < tileX + tileSize; x++) {
+                                tile.putInt(x < levelWidth && y < levelHeight
+                                        ? encode(linear, 3 * (y * levelWidth + x))
+                                        : 0);
+                            }
+                        }
+                        tile.flip();
+                        writeFully(channel, tile);
+                    }
+                }
+
+                if (level + 1 < levels) {
+                    linear = downsample(linear, levelWidth, levelHeight);
+                    levelWidth = levelSize(levelWidth);
+                    levelHeight = levelSize(levelHeight);
+                }
+            }
+        }
+    }
+
+    static int levelCount(final int width, final int height) {
+        int size = max(width, height);
+        int levels = 1;
+        while (size > 1) {
+            size = levelSize(size);
+            levels++;
+        }
+        return levels;
+    }
+
+    static int levelSize(final int size) {
+        return max(1, size / 2);
+    }
+
+    /**
+     * Average 2x2 texel boxes, the last row or column of odd sizes is averaged with itself.
+     */
+    private static float[] downsample(final float[] linear, final int width, final int height) {
+        int nextWidth = levelSize(width);
+        int nextHeight = levelSize(height);
+        float[] next = new float[3 * nextWidth * nextHeight];
+        for (int y = 0; y < nextHeight; y++) {
+            int y0 = min(2 * y, height - 1);
+            int y1 = min(2 * y + 1, height - 1);
+            for (int x = 0; x < nextWidth; x++) {
+                int x0 = min(2 * x, width - 1);
+                int x1 = min(2 * x + 1, width - 1);
+                for (int channel = 0; channel < 3; channel++) {
+                    next[3 * (y * nextWidth + x) + channel] = .25f * (linear[3 * (y0 * width + x0) + channel]
+                            + linear[3 * (y0 * width + x1) + channel]
+                            + linear[3 * (y1 * width + x0) + channel]
+                            + linear[3 * (y1 * width + x1) + channel]);
+                }
+            }
+        }
+        return next;
+    }
+
+    static double decode(final int value) {
+        double encoded = value / 255d;
+        return encoded <= .04045d ? encoded / 12.92d : pow((encoded + .055d) / 1.055d, 2.4d);
+    }
+
+    private static int encode(final float[] linear, final int index) {
+        return encode(linear[index]) << 16 | encode(linear[index + 1]) << 8 | encode(linear[index + 2]);
+    }
+
+    private static int encode(final double linear) {
+        double encoded = linear <= .0031308d ? 12.92d * linear : 1.055d * pow(linear, 1d / 2.4d) - .055d;
+        return (int) (min(1d, max(0d, encoded)) * 255d + .5d);
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+}
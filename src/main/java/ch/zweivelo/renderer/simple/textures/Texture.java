@@ -0,0 +1,40 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.textures;
+
+import ch.zweivelo.renderer.simple.math.Color;
+
+/**
+ * A color varying over the surface of a shape.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+@FunctionalInterface
+public interface Texture {
+
+    /**
+     * @param u         The horizontal texture coordinate, the texture repeats outside of [0, 1)
+     * @param v         The vertical texture coordinate, 0 is the top of the image
+     * @param footprint The width of the filtered area in texture coordinates, 0 for the finest detail
+     * @return The linear color of the texture
+     */
+    Color lookup(double u, double v, double footprint);
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.textures;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongFunction;
+
+/**
+ * Size bounded least recently used cache of texture tiles, shared by all textures and render threads. The entries are
+ * spread over independently locked segments, each evicting its least recently used tiles once it holds more than its
+ * share of the capacity. Tiles are loaded outside of the locks, so a slow load never blocks lookups of other tiles;
+ * two threads missing the same tile at the same time may both load it, the first one wins.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TileCache {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment[] segments;
+    private final long segmentCapacity;
+    private final AtomicInteger textureIds = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    /**
+     * @param capacity The maximum number of bytes held by all cached tiles together
+     */
+    public TileCache(final long capacity) {
+        segmentCapacity = capacity / SEGMENTS;
+        segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment();
+        }
+    }
+
+    /**
+     * @return A unique identifier for a texture, part of the keys of its tiles
+     */
+    int register() {
+        return textureIds.getAndIncrement();
+    }
+
+    /**
+     * @param key    The key of the tile
+     * @param loader Loads the texels of the tile if it is not cached
+     * @return The texels of the tile
+     */
+    int[] get(final long key, final LongFunction<int[]> loader) {
+        Segment segment = segments[(int) (mix(key) & (SEGMENTS - 1))];
+
+        int[] tile;
+        synchronized (segment) {
+            tile = segment.tiles.get(key);
+        }
+        if (tile != null) {
+            hits.increment();
+            return tile;
+        }
+
+        misses.increment();
+        int[] loaded = loader.apply(key);
+        synchronized (segment) {
+            tile = segment.tiles.putIfAbsent(key, loaded);
+            if (tile != null) {
+                return tile;
+            }
+            segment.bytes += bytes(loaded);
+            Iterator<int[]> eldest = segment.tiles.values().iterator();
+            while (segment.bytes > segmentCapacity && segment.tiles.size() > 1) {
+                segment.bytes -= bytes(eldest.next());
+                eldest.remove();
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * @return The number of bytes currently held by the cached tiles
+     */
+    public long getSize() {
+        long size = 0L;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.bytes;
+            }
+        }
+        return size;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private static long bytes(final int[] tile) {
+        return 4L * tile.length;
+    }
+
+    private static long mix(final long key) {
+        long z = key * 0x9e3779b97f4a7c15L;
+        return z ^ (z >>> 32);
+    }
+
+    private static final class Segment {
+
+        private final Map<Long, int[]> tiles = new LinkedHashMap<>(16, .75f, true);
+        private long bytes;
+    }
+
+}
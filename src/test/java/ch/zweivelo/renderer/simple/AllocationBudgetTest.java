@@ -0,0 +1,134 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.math.Solver;
+import ch.zweivelo.renderer.simple.samplers.Sampler;
+import ch.zweivelo.renderer.simple.samplers.SamplerType;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.junit.Before;
+import org.junit.Test;
+
+import static ch.zweivelo.renderer.simple.AllocationMeter.assertBudget;
+
+/**
+ * Allocation budgets of the render hot paths, measured over the camera rays of a 32x32 pixel image of the Cornell
+ * box. A failing budget means an operation started allocating more, e.g. through a new boxed value, optional, vector
+ * or stream. Budgets above zero list what the operation is expected to allocate, in bytes on a 64 bit JVM with
+ * compressed references. The build runs this test without escape analysis, see the pom.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AllocationBudgetTest {
+
+    private static final int SIZE = 32;
+    private static final int OPERATIONS = 100000;
+
+    private final Vector2D[] uvPoints = new Vector2D[SIZE * SIZE];
+    private final Ray[] rays = new Ray[SIZE * SIZE];
+
+    private Scene scene;
+    private Camera camera;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        camera = CornellBox.createCamera(1d);
+        for (int i = 0; i < rays.length; i++) {
+            uvPoints[i] = new Vector2D((i % SIZE + .5d) / SIZE, (i / SIZE + .5d) / SIZE);
+            rays[i] = camera.createRayFor(uvPoints[i]);
+        }
+    }
+
+    @Test
+    public void testSolverDoesNotAllocate() throws Exception {
+        assertBudget("Quadratic root", 0d, OPERATIONS,
+                i -> Solver.nearestQuadraticRoot(i % 7 - 3d, 1d + i % 5, 1d, 1e-9d, Double.POSITIVE_INFINITY));
+    }
+
+    @Test
+    public void testSamplerDoesNotAllocate() throws Exception {
+        Sampler sampler = SamplerType.SOBOL.create(0L);
+
+        assertBudget("Sobol sample", 0d, OPERATIONS, i -> sampler.get(i % rays.length, i / rays.length, i % 4));
+    }
+
+    @Test
+    public void testToneMappingDoesNotAllocate() throws Exception {
+        FrameBuffer frameBuffer = new FrameBuffer(SIZE, SIZE);
+        ToneMapper toneMapper = new ToneMapper(ToneMapping.REINHARD);
+        int[] pixels = new int[SIZE];
+
+        assertBudget("Tone mapped row", 0d, OPERATIONS / SIZE, i -> {
+            toneMapper.toRgb(frameBuffer, i % SIZE * SIZE, SIZE, pixels, 0);
+            return pixels[0];
+        });
+    }
+
+    @Test
+    public void testIntersectionDoesNotAllocate() throws Exception {
+        Sphere sphere = new Sphere(new Vector3D(0d, 0d, -3d), 1d, Color.RED);
+        Plane plane = new Plane(new Vector3D(0d, 0d, -5d), Vector3D.PLUS_K, Color.RED);
+
+        assertBudget("Sphere intersection", 0d, OPERATIONS,
+                i -> sphere.intersectionDistance(rays[i % rays.length]));
+        assertBudget("Plane intersection", 0d, OPERATIONS,
+                i -> plane.intersectionDistance(rays[i % rays.length]));
+    }
+
+    @Test
+    public void testClosestHitBudget() throws Exception {
+        /*
+         * 120 bytes per ray, all of them for the result: the closest hit record of 32 bytes, the point of 40 bytes,
+         * the collision information of 32 bytes and its optional of 16 bytes
+         */
+        assertBudget("Closest hit", 120d, OPERATIONS,
+                i -> scene.findClosestCollision(rays[i % rays.length]).isPresent() ? 1d : 0d);
+    }
+
+    @Test
+    public void testRayGenerationBudget() throws Exception {
+        /* 72 bytes per ray: the ray of 32 bytes and its direction of 40 bytes */
+        assertBudget("Camera ray", 72d, OPERATIONS,
+                i -> camera.createRayFor(uvPoints[i % uvPoints.length]).getDirection().getX());
+    }
+
+    @Test
+    public void testShadingBudget() throws Exception {
+        ColorIntegrator integrator = new ColorIntegrator();
+
+        /* the 120 bytes of the closest hit, the color is the one of the shape and allocates nothing */
+        assertBudget("Color shading", 120d, OPERATIONS, i -> integrator.trace(scene, rays[i % rays.length]).getR());
+    }
+
+}
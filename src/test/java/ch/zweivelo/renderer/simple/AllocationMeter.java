@@ -0,0 +1,109 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple;
+
+import org.junit.Assume;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.function.IntToDoubleFunction;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measures the bytes the current thread allocates per operation. Operations are warmed up first so they run
+ * compiled. Whether the compiler removes an allocation by escape analysis depends on its inlining decisions and
+ * thereby on everything else the JVM ran before, budgets are therefore only reproducible with escape analysis
+ * disabled. The result is the smallest of several measured rounds, which filters out one-off allocations of the JVM
+ * itself.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public abstract class AllocationMeter {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AllocationMeter.class);
+
+    private static final int WARM_UP_ROUNDS = 20;
+    private static final int MEASURED_ROUNDS = 5;
+
+    /** Receives the results of the operations so they can not be optimized away. */
+    private static volatile double sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * @return Whether the JVM counts the bytes allocated per thread
+     */
+    public static boolean isSupported() {
+        ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        return threads instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemorySupported()
+                && ((com.sun.management.ThreadMXBean) threads).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * @param operations The number of operations per round, the operation receives the index of the operation
+     * @param operation  The operation, its results are summed up and must not allocate in doing so
+     * @return The bytes allocated per operation
+     */
+    public static double measure(final int operations, final IntToDoubleFunction operation) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long thread = Thread.currentThread().getId();
+
+        for (int round = 0; round < WARM_UP_ROUNDS; round++) {
+            run(operations, operation);
+        }
+
+        long minimum = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threads.getThreadAllocatedBytes(thread);
+            run(operations, operation);
+            minimum = Math.min(minimum, threads.getThreadAllocatedBytes(thread) - before);
+        }
+        return (double) minimum / operations;
+    }
+
+    /**
+     * Fail if the operation allocates more bytes than its budget, skip the test on JVMs not counting allocations.
+     *
+     * @param name   The operation as reported in the failure
+     * @param budget The maximum bytes allocated per operation
+     */
+    public static void assertBudget(final String name, final double budget, final int operations,
+                                    final IntToDoubleFunction operation) {
+        Assume.assumeTrue("Allocations per thread are not counted", isSupported());
+        double bytes = measure(operations, operation);
+        LOGGER.info("{} allocates {} bytes per operation, budget {}", name, bytes, budget);
+        assertTrue(String.format("%s allocates %.1f bytes per operation, budget is %.1f", name, bytes, budget),
+                bytes <= budget);
+    }
+
+    private static void run(final int operations, final IntToDoubleFunction operation) {
+        double sum = 0d;
+        for (int i = 0; i < operations; i++) {
+            sum += operation.applyAsDouble(i);
+        }
+        sink = sum;
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Run the headless launcher on a tiny image.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class HeadlessRendererTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testRender() throws Exception {
+        File output = new File(temporaryFolder.getRoot(), "cornell-box.png");
+
+        HeadlessRenderer.main("--width=40", "--height=30", "--accelerator=UNIFORM_GRID", "--aovs=DEPTH,SHAPE_ID",
+                "--output=" + output);
+
+        BufferedImage image = ImageIO.read(output);
+        assertEquals(40, image.getWidth());
+        assertEquals(30, image.getHeight());
+        assertTrue(new File(temporaryFolder.getRoot(), "cornell-box-depth.pfm").isFile());
+        assertTrue(new File(temporaryFolder.getRoot(), "cornell-box-shape_id.pfm").isFile());
+    }
+
+    @Test
+    public void testOutOfCoreRender() throws Exception {
+        File output = new File(temporaryFolder.getRoot(), "poster.png");
+
+        HeadlessRenderer.main("--width=70", "--height=50",
+                "--pixel-file=" + new File(temporaryFolder.getRoot(), "poster.pixels"), "--output=" + output);
+
+        BufferedImage image = ImageIO.read(output);
+        assertEquals(70, image.getWidth());
+        assertEquals(50, image.getHeight());
+    }
+
+    @Test
+    public void testBatchOfViews() throws Exception {
+        File output = new File(temporaryFolder.getRoot(), "turntable.png");
+
+        HeadlessRenderer.main("--width=20", "--height=16", "--views=3", "--output=" + output);
+
+        for (int view = 0; view < 3; view++) {
+            BufferedImage image = ImageIO.read(new File(temporaryFolder.getRoot(), "turntable-" + view + ".png"));
+            assertEquals(20, image.getWidth());
+            assertEquals(16, image.getHeight());
+        }
+    }
+
+    @Test
+    public void testDenoisedRender() throws Exception {
+        File output = new File(temporaryFolder.getRoot(), "denoised.png");
+
+        HeadlessRenderer.main("--width=20", "--height=16", "--path-tracing=true", "--samples=4", "--denoise=true",
+                "--output=" + output);
+
+        BufferedImage image = ImageIO.read(output);
+        assertEquals(20, image.getWidth());
+        assertEquals(16, image.getHeight());
+    }
+
+    @Test
+    public void testDenoiseOfSeveralViews() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        renderer.parse("--views=2", "--denoise=true");
+        renderer.run();
+    }
+
+    @Test
+    public void testOutputVariablesOfSeveralViews() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        renderer.parse("--views=2", "--aovs=DEPTH");
+        renderer.run();
+    }
+
+    @Test
+    public void testPreviewClosedAfterRender() throws Exception {
+        File output = new File(temporaryFolder.getRoot(), "preview.png");
+
+        HeadlessRenderer.main("--width=20", "--height=16", "--preview=0", "--output=" + output);
+
+        assertTrue(output.isFile());
+        assertTrue(Thread.getAllStackTraces().keySet().stream()
+                .noneMatch(thread -> thread.getName().startsWith("preview-connection")
+                        || thread.getName().startsWith("HTTP-Dispatcher")));
+    }
+
+    @Test
+    public void testPreviewOfSeveralViews() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        HeadlessRenderer renderer = new HeadlessRenderer();
+        renderer.parse("--views=2", "--preview=0");
+        renderer.run();
+    }
+
+    @Test
+    public void testUnknownOption() throws Exception {
+        expectedException.expect(IllegalArgumentException.class);
+        new HeadlessRenderer().parse("--spp=4");
+    }
+
+}
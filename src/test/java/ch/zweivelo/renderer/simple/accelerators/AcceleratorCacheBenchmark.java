@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Measure the time until the first ray of a large scene with the accelerator built against read from the cache. Only
+ * runs with the benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AcceleratorCacheBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(AcceleratorCacheBenchmark.class);
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void benchmarkTimeToFirstRay() throws Exception {
+        Path directory = folder.getRoot().toPath().resolve("cache");
+        List<Shape> shapes = AcceleratorCacheTest.createShapes(new Random(11L), 200000);
+        Ray ray = new Ray(new Vector3D(0d, 0d, 20d), Vector3D.MINUS_K);
+
+        for (AcceleratorType type : new AcceleratorType[]{
+                AcceleratorType.BOUNDING_VOLUME_HIERARCHY, AcceleratorType.UNIFORM_GRID}) {
+            long start = System.nanoTime();
+            Optional<CollisionInformation> built = new AcceleratorCache(directory).build(type, shapes)
+                    .findClosestCollision(ray);
+            long buildTime = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Optional<CollisionInformation> read = new AcceleratorCache(directory).build(type, shapes)
+                    .findClosestCollision(ray);
+            long readTime = System.nanoTime() - start;
+
+            assertEquals(built.map(CollisionInformation::getShape), read.map(CollisionInformation::getShape));
+            LOGGER.info("{} of {} shapes: first ray after {} ms built, after {} ms read from {} bytes", type,
+                    shapes.size(), buildTime / 1000000L, readTime / 1000000L,
+                    Files.size(new AcceleratorCache(directory).getFile(type, shapes)));
+        }
+    }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that cached accelerators are found again, find the same collisions and are rebuilt after geometry changes.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AcceleratorCacheTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private List<Shape> shapes;
+    private Path directory;
+
+    @Before
+    public void setUp() throws Exception {
+        shapes = createShapes(new Random(11L), 1000);
+        directory = folder.getRoot().toPath().resolve("cache");
+    }
+
+    @Test
+    public void testCachedHierarchyFindsSameCollisions() throws Exception {
+        assertCached(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+    }
+
+    @Test
+    public void testCachedGridFindsSameCollisions() throws Exception {
+        assertCached(AcceleratorType.UNIFORM_GRID);
+    }
+
+    @Test
+    public void testChangedGeometryIsRebuilt() throws Exception {
+        AcceleratorCache cache = new AcceleratorCache(directory);
+        cache.build(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, shapes);
+
+        List<Shape> moved = new ArrayList<>(shapes);
+        Sphere sphere = (Sphere) moved.get(0);
+        moved.set(0, new Sphere(sphere.getCenter().add(new Vector3D(0d, 1e-9d, 0d)), sphere.getRadius()));
+        Path movedFile = cache.getFile(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, moved);
+
+        assertNotEquals(cache.getFile(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, shapes), movedFile);
+        assertTrue(!Files.exists(movedFile));
+
+        Accelerator accelerator = cache.build(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, moved);
+
+        assertTrue(Files.exists(movedFile));
+        assertSameCollisions(new ShapeList(moved), accelerator);
+    }
+
+    @Test
+    public void testDamagedFileIsRebuilt() throws Exception {
+        AcceleratorCache cache = new AcceleratorCache(directory);
+        cache.build(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, shapes);
+        Path file = cache.getFile(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, shapes);
+        long size = Files.size(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(size / 2);
+        }
+
+        Accelerator accelerator = cache.build(AcceleratorType.BOUNDING_VOLUME_HIERARCHY, shapes);
+
+        assertSameCollisions(new ShapeList(shapes), accelerator);
+        assertEquals(size, Files.size(file));
+    }
+
+    @Test
+    public void testUncachedTypesAreBuilt() throws Exception {
+        Accelerator accelerator = new AcceleratorCache(directory).build(AcceleratorType.SHAPE_LIST, shapes);
+
+        assertTrue(accelerator instanceof ShapeList);
+        assertTrue(!Files.exists(directory));
+    }
+
+    private void assertCached(final AcceleratorType type) throws Exception {
+        Accelerator built = new AcceleratorCache(directory).build(type, shapes);
+        Path file = new AcceleratorCache(directory).getFile(type, shapes);
+        long modified = Files.getLastModifiedTime(file).toMillis();
+
+        Accelerator read = new AcceleratorCache(directory).build(type, shapes);
+
+        assertEquals(built.getClass(), read.getClass());
+        assertEquals(modified, Files.getLastModifiedTime(file).toMillis());
+        File[] files = directory.toFile().listFiles();
+        assertEquals(1, files == null ? 0 : files.length);
+        assertSameCollisions(built, read);
+        assertSameCollisions(new ShapeList(shapes), read);
+    }
+
+    private void assertSameCollisions(final Accelerator expectedAccelerator, final Accelerator actualAccelerator) {
+        Random rays = new Random(3L);
+        int hits = 0;
+        for (int i = 0; i < 2000; i++) {
+            Ray ray = new Ray(randomPoint(rays, 15d), randomPoint(rays, 1d).normalize());
+
+            Optional<CollisionInformation> expected = expectedAccelerator.findClosestCollision(ray);
+            Optional<CollisionInformation> actual = actualAccelerator.findClosestCollision(ray);
+
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                hits++;
+                assertEquals(expected.get().getDistance(), actual.get().getDistance(), 0d);
+                assertEquals(expected.get().getShape(), actual.get().getShape());
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    /**
+     * @return Randomly placed spheres and an unbounded floor
+     */
+    static List<Shape> createShapes(final Random random, final int count) {
+        List<Shape> result = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            result.add(new Sphere(randomPoint(random, 10d), .05d + random.nextDouble() * .5d));
+        }
+        result.add(new Plane(new Vector3D(0d, -12d, 0d), Vector3D.PLUS_J));
+        return result;
+    }
+
+    private static Vector3D randomPoint(final Random random, final double scale) {
+        return new Vector3D(
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale);
+    }
+
+}
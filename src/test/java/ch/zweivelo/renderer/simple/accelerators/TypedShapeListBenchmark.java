@@ -0,0 +1,111 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Measure the typed shape list against the brute force shape list on a typical scene: mostly spheres, a few planes
+ * and a few shapes of one custom class. Only runs with the benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TypedShapeListBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TypedShapeListBenchmark.class);
+
+    @Test
+    public void benchmarkClosestCollision() throws Exception {
+        Random random = new Random(42L);
+        List<Shape> shapes = createShapes(random);
+        Ray[] rays = TypedShapeListTest.createRays(random);
+        Accelerator reference = new ShapeList(shapes);
+        Accelerator typed = new TypedShapeList(shapes);
+
+        /* warm up both, the shape list call site sees all three classes */
+        for (int round = 0; round < 20; round++) {
+            trace(reference, rays);
+            trace(typed, rays);
+        }
+
+        long referenceTime = Long.MAX_VALUE;
+        long typedTime = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long start = System.nanoTime();
+            trace(reference, rays);
+            referenceTime = Math.min(referenceTime, System.nanoTime() - start);
+            start = System.nanoTime();
+            trace(typed, rays);
+            typedTime = Math.min(typedTime, System.nanoTime() - start);
+        }
+
+        LOGGER.info("{} shapes of 3 classes: shape list {} ns per ray, typed shape list {} ns per ray, speedup {}",
+                shapes.size(), referenceTime / rays.length, typedTime / rays.length,
+                String.format("%.2f", (double) referenceTime / typedTime));
+        /* about 2x on a current JVM, the bound leaves room for noisy machines */
+        assertTrue("No speedup of the typed shape list", referenceTime > 1.3d * typedTime);
+    }
+
+    /**
+     * @return 180 spheres, 16 planes and 4 spheres of a subclass
+     */
+    private static List<Shape> createShapes(final Random random) {
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Vector3D center = new Vector3D(random.nextDouble() - .5d, random.nextDouble() - .5d,
+                    random.nextDouble() - .5d).scalarMultiply(20d);
+            double radius = .05d + random.nextDouble() * .3d;
+            if (i % 50 == 49) {
+                shapes.add(new Sphere(center, radius) {
+                });
+            } else if (i % 12 == 11) {
+                shapes.add(new Plane(center.scalarMultiply(2d), new Vector3D(random.nextDouble() - .5d,
+                        random.nextDouble() - .5d, random.nextDouble() - .5d)));
+            } else {
+                shapes.add(new Sphere(center, radius));
+            }
+        }
+        return shapes;
+    }
+
+    private static int trace(final Accelerator accelerator, final Ray[] rays) {
+        int hits = 0;
+        for (Ray ray : rays) {
+            if (accelerator.findClosestCollision(ray).isPresent()) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+}
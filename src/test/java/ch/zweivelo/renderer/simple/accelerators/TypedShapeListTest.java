@@ -0,0 +1,120 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compare the typed shape list against the brute force shape list on a scene mixing four shape classes.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TypedShapeListTest {
+
+    private List<Shape> shapes;
+    private Ray[] rays;
+
+    @Before
+    public void setUp() throws Exception {
+        Random random = new Random(42L);
+        shapes = createShapes(random);
+        rays = createRays(random);
+    }
+
+    @Test
+    public void testSameClosestCollisionAsShapeList() throws Exception {
+        Accelerator reference = new ShapeList(shapes);
+        Accelerator typed = AcceleratorType.TYPED_SHAPE_LIST.build(shapes);
+
+        int hits = 0;
+        for (Ray ray : rays) {
+            Optional<CollisionInformation> expected = reference.findClosestCollision(ray);
+            Optional<CollisionInformation> actual = typed.findClosestCollision(ray);
+
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                hits++;
+                assertEquals(expected.get().getDistance(), actual.get().getDistance(), EPSILON);
+                assertSame(expected.get().getShape(), actual.get().getShape());
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    /**
+     * @return 200 spheres, planes, sphere subclasses and lambda shapes in turn
+     */
+    static List<Shape> createShapes(final Random random) {
+        List<Shape> shapes = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Sphere sphere = new Sphere(randomPoint(random, 10d), .05d + random.nextDouble() * .3d);
+            switch (i % 4) {
+                case 0:
+                    shapes.add(sphere);
+                    break;
+                case 1:
+                    shapes.add(new Plane(randomPoint(random, 20d), randomPoint(random, 1d)));
+                    break;
+                case 2:
+                    /* a subclass is not a sphere for the typed list */
+                    shapes.add(new Sphere(sphere.getCenter(), sphere.getRadius()) {
+                    });
+                    break;
+                default:
+                    shapes.add(ray -> sphere.calculateIntersectionDistance(ray));
+                    break;
+            }
+        }
+        return shapes;
+    }
+
+    static Ray[] createRays(final Random random) {
+        Ray[] rays = new Ray[1000];
+        for (int i = 0; i < rays.length; i++) {
+            rays[i] = new Ray(randomPoint(random, 15d), randomPoint(random, 1d).normalize());
+        }
+        return rays;
+    }
+
+    private static Vector3D randomPoint(final Random random, final double scale) {
+        return new Vector3D(
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale);
+    }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.accelerators;
+
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compare the uniform grid against the brute force shape list.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class UniformGridTest {
+
+    private Random random;
+    private List<Shape> shapes;
+
+    @Before
+    public void setUp() throws Exception {
+        random = new Random(42L);
+        shapes = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            shapes.add(new Sphere(randomPoint(10d), .05d + random.nextDouble() * .3d));
+        }
+        shapes.add(new Plane(new Vector3D(0d, -12d, 0d), Vector3D.PLUS_J));
+    }
+
+    @Test
+    public void testSameClosestCollisionAsShapeList() throws Exception {
+        Accelerator reference = new ShapeList(shapes);
+        UniformGrid grid = new UniformGrid(shapes);
+
+        assertTrue(grid.getCellCount() > 1);
+
+        int hits = 0;
+        for (int i = 0; i < 2000; i++) {
+            Ray ray = new Ray(randomPoint(15d), randomPoint(1d).normalize());
+
+            Optional<CollisionInformation> expected = reference.findClosestCollision(ray);
+            Optional<CollisionInformation> actual = grid.findClosestCollision(ray);
+
+            assertEquals(expected.isPresent(), actual.isPresent());
+            if (expected.isPresent()) {
+                hits++;
+                assertEquals(expected.get().getDistance(), actual.get().getDistance(), EPSILON);
+                assertEquals(expected.get().getShape(), actual.get().getShape());
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    @Test
+    public void testOnlyUnboundedShapes() throws Exception {
+        UniformGrid grid = new UniformGrid(Collections.singletonList(new Plane(Vector3D.ZERO, Vector3D.PLUS_J)));
+
+        assertTrue(grid.findClosestCollision(new Ray(Vector3D.PLUS_J, Vector3D.MINUS_J)).isPresent());
+        assertFalse(grid.findClosestCollision(new Ray(Vector3D.PLUS_J, Vector3D.PLUS_J)).isPresent());
+    }
+
+    private Vector3D randomPoint(final double scale) {
+        return new Vector3D(
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale,
+                (random.nextDouble() * 2d - 1d) * scale);
+    }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.EnumSet;
+import java.util.Optional;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the output variables recorded during the main pass and their PFM files.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class AovBufferTest {
+
+    private static final int WIDTH = 32;
+    private static final int HEIGHT = 24;
+    private static final int SAMPLES = 3;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+    private final Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+    private final RenderEngine renderEngine = new RenderEngine(new ColorIntegrator(), 8, SAMPLES);
+
+    @Test
+    public void testOutputsMatchFirstHit() throws Exception {
+        FrameBuffer frameBuffer = new FrameBuffer(WIDTH, HEIGHT);
+        AovBuffer aovs = new AovBuffer(WIDTH, HEIGHT, EnumSet.allOf(Aov.class));
+        renderEngine.render(scene, camera, frameBuffer, aovs);
+
+        /* the beauty pass is not affected by the recording */
+        FrameBuffer plain = renderEngine.render(scene, camera, WIDTH, HEIGHT);
+        assertArrayEquals(plain.getRed(), frameBuffer.getRed(), 0f);
+
+        int hits = 0;
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                int index = y * WIDTH + x;
+                Optional<CollisionInformation> collision = scene.findClosestCollision(
+                        camera.createRayFor(new Vector2D((x + .5d) / WIDTH, (y + .5d) / HEIGHT)));
+                int shapeId = collision.map(information -> scene.getShapes().indexOf(information.getShape()) + 1)
+                        .orElse(0);
+
+                assertEquals(shapeId, aovs.getShapeIds()[index]);
+                if (shapeId > 0) {
+                    hits++;
+                    assertEquals(SAMPLES, aovs.getHitCounts()[index]);
+                    assertTrue(aovs.getDepth()[index] > 0f);
+                    double normalLength = Math.sqrt(aovs.getNormalX()[index] * aovs.getNormalX()[index]
+                            + aovs.getNormalY()[index] * aovs.getNormalY()[index]
+                            + aovs.getNormalZ()[index] * aovs.getNormalZ()[index]);
+                    assertEquals(1d, normalLength, 1e-6d);
+                } else {
+                    assertEquals(0f, aovs.getDepth()[index], 0f);
+                }
+            }
+        }
+        assertTrue(hits > 0);
+    }
+
+    @Test
+    public void testDisabledOutputsAreNotAllocated() throws Exception {
+        AovBuffer aovs = new AovBuffer(WIDTH, HEIGHT, EnumSet.of(Aov.DEPTH));
+        renderEngine.render(scene, camera, new FrameBuffer(WIDTH, HEIGHT), aovs);
+
+        assertNull(aovs.getNormalX());
+        assertNull(aovs.getShapeIds());
+        assertNull(aovs.getHitCounts());
+        assertTrue(aovs.getDepth()[HEIGHT / 2 * WIDTH + WIDTH / 2] > 0f);
+    }
+
+    @Test
+    public void testPfmFiles() throws Exception {
+        FrameBuffer frameBuffer = new FrameBuffer(WIDTH, HEIGHT);
+        AovBuffer aovs = new AovBuffer(WIDTH, HEIGHT, EnumSet.of(Aov.NORMAL, Aov.SHAPE_ID));
+        renderEngine.render(scene, camera, frameBuffer, aovs);
+
+        Path normals = folder.getRoot().toPath().resolve("normal.pfm");
+        PfmWriter.write(aovs, Aov.NORMAL, normals);
+        byte[] bytes = Files.readAllBytes(normals);
+        String header = "PF\n" + WIDTH + " " + HEIGHT + "\n-1.0\n";
+        assertEquals(header, new String(bytes, 0, header.length(), StandardCharsets.US_ASCII));
+        assertEquals(header.length() + 4 * 3 * WIDTH * HEIGHT, bytes.length);
+
+        /* the first row in the file is the bottom row of the image */
+        ByteBuffer data = ByteBuffer.wrap(bytes, header.length(), bytes.length - header.length())
+                .order(ByteOrder.LITTLE_ENDIAN);
+        assertEquals(aovs.getNormalY()[(HEIGHT - 1) * WIDTH], data.getFloat(header.length() + 4), 0f);
+
+        Path ids = folder.getRoot().toPath().resolve("id.pfm");
+        PfmWriter.write(aovs, Aov.SHAPE_ID, ids);
+        assertEquals(header.replace("PF", "Pf").length() + 4 * WIDTH * HEIGHT, Files.size(ids));
+
+        Path beauty = folder.getRoot().toPath().resolve("beauty.pfm");
+        PfmWriter.write(frameBuffer, beauty);
+        assertEquals(header.length() + 4 * 3 * WIDTH * HEIGHT, Files.size(beauty));
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static ch.zweivelo.renderer.simple.images.DenoiserTest.BACKGROUND;
+import static ch.zweivelo.renderer.simple.images.DenoiserTest.meanSquaredError;
+
+/**
+ * Report the error and the time of a denoised render with 4 samples per pixel against a render with 64 samples per
+ * pixel, both measured against a reference with 256 samples per pixel. Only runs with the benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class DenoiserBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(DenoiserBenchmark.class);
+
+    private static final int WIDTH = 80;
+    private static final int HEIGHT = 60;
+
+    @Test
+    public void benchmarkDenoisedRender() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        PathTracer pathTracer = new PathTracer(BACKGROUND);
+
+        FrameBuffer reference = new RenderEngine(DenoiserTest.createReferenceTracer(), RenderEngine.DEFAULT_TILE_SIZE,
+                256).render(scene, camera, WIDTH, HEIGHT);
+
+        long start = System.nanoTime();
+        RenderEngine renderEngine = new RenderEngine(pathTracer, RenderEngine.DEFAULT_TILE_SIZE, 4);
+        FrameBuffer noisy = renderEngine.render(scene, camera, WIDTH, HEIGHT);
+        long renderTime = System.nanoTime() - start;
+        FrameBuffer denoised = new FrameBuffer(noisy);
+        start = System.nanoTime();
+        renderEngine.denoise(scene, camera, denoised, new Denoiser());
+        long denoiseTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        FrameBuffer moreSamples = new RenderEngine(pathTracer, RenderEngine.DEFAULT_TILE_SIZE, 64)
+                .render(scene, camera, WIDTH, HEIGHT);
+        long moreSamplesTime = System.nanoTime() - start;
+
+        LOGGER.info("Mean squared error against 256 spp: 4 spp {} in {} ms, 4 spp denoised {} in {} + {} ms, "
+                        + "64 spp {} in {} ms",
+                meanSquaredError(noisy, reference), renderTime / 1000000L, meanSquaredError(denoised, reference),
+                renderTime / 1000000L, denoiseTime / 1000000L, meanSquaredError(moreSamples, reference),
+                moreSamplesTime / 1000000L);
+    }
+
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.samplers.SamplerType;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that the denoiser keeps edges and that a denoised render approaches a reference with many more samples.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class DenoiserTest {
+
+    static final Color BACKGROUND = new Color(.8d, .9d, 1d);
+
+    private static final int WIDTH = 80;
+    private static final int HEIGHT = 60;
+
+    @Test
+    public void testEdgeIsKept() throws Exception {
+        FrameBuffer frameBuffer = new FrameBuffer(16, 16);
+        GuideBuffer guides = new GuideBuffer(16, 16);
+        for (int y = 0; y < 16; y++) {
+            for (int x = 0; x < 16; x++) {
+                boolean left = x < 8;
+                double noise = (x * 7 + y * 13) % 5 / 10d - .2d;
+                frameBuffer.setColor(x, y, left ? new Color(.5d + noise, .5d, .5d) : new Color(0d, .2d, 0d));
+                guides.set(x, y, left ? Vector3D.PLUS_K : Vector3D.PLUS_I, 1d, left ? Color.WHITE : Color.GREEN);
+            }
+        }
+
+        new Denoiser().denoise(frameBuffer, guides);
+
+        for (int y = 0; y < 16; y++) {
+            /* the noise is averaged out on the left, nothing bleeds over the edge */
+            assertEquals(.5d, frameBuffer.getColor(3, y).getR(), .05d);
+            assertEquals(0d, frameBuffer.getColor(8, y).getR(), 1e-6d);
+            assertEquals(.2d, frameBuffer.getColor(12, y).getG(), 1e-6d);
+        }
+    }
+
+    /**
+     * Denoise a render with 4 samples per pixel and compare it against an independent render with 64 samples per
+     * pixel. See {@link DenoiserBenchmark} for the times and a comparison with a render with more samples.
+     */
+    @Test
+    public void testDenoisedRenderApproachesReference() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+
+        FrameBuffer reference = new RenderEngine(createReferenceTracer(), RenderEngine.DEFAULT_TILE_SIZE, 64)
+                .render(scene, camera, WIDTH, HEIGHT);
+
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(BACKGROUND), RenderEngine.DEFAULT_TILE_SIZE, 4);
+        FrameBuffer noisy = renderEngine.render(scene, camera, WIDTH, HEIGHT);
+        FrameBuffer denoised = new FrameBuffer(noisy);
+        renderEngine.denoise(scene, camera, denoised, new Denoiser());
+
+        double noisyError = meanSquaredError(noisy, reference);
+        double denoisedError = meanSquaredError(denoised, reference);
+
+        /* the remaining difference stays below one step of an 8 bit image */
+        assertTrue(denoisedError + " against " + noisyError, denoisedError < noisyError / 8d);
+        assertTrue(String.valueOf(denoisedError), Math.sqrt(denoisedError) < 1d / 255d);
+    }
+
+    /**
+     * @return A path tracer drawing independent samples, the prefixes of one sequence would be correlated with the
+     * image to compare
+     */
+    static PathTracer createReferenceTracer() {
+        return new PathTracer(BACKGROUND, PathTracer.DEFAULT_MAX_DEPTH, PathTracer.DEFAULT_ROULETTE_DEPTH,
+                SamplerType.SOBOL.create(1L));
+    }
+
+    static double meanSquaredError(final FrameBuffer image, final FrameBuffer reference) {
+        double sum = 0d;
+        for (int i = 0; i < image.getRed().length; i++) {
+            double red = image.getRed()[i] - reference.getRed()[i];
+            double green = image.getGreen()[i] - reference.getGreen()[i];
+            double blue = image.getBlue()[i] - reference.getBlue()[i];
+            sum += red * red + green * green + blue * blue;
+        }
+        return sum / (3d * image.getRed().length);
+    }
+
+}
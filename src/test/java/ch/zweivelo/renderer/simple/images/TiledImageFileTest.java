@@ -0,0 +1,93 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Write many small tiles and read them back as bands.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TiledImageFileTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testManyTilesRoundTrip() throws Exception {
+        int width = 301;
+        int height = 257;
+        int tileSize = 1;
+
+        try (TiledImageFile file = new TiledImageFile(folder.getRoot().toPath().resolve("image.tiles"), width, height,
+                tileSize)) {
+            FrameBuffer tile = new FrameBuffer(1, 1);
+            for (int y = 0; y < height; y++) {
+                for (int x = 0; x < width; x++) {
+                    tile.setColor(0, 0, new Color(x, y, x + y));
+                    file.writeTile(x, y, tile);
+                }
+            }
+
+            FrameBuffer band = new FrameBuffer(width, 1);
+            for (int row = 0; row < file.getRows(); row++) {
+                file.readRow(row, band);
+                for (int x = 0; x < width; x++) {
+                    assertEquals(x, band.getRed()[x], 0f);
+                    assertEquals(row, band.getGreen()[x], 0f);
+                    assertEquals(x + row, band.getBlue()[x], 0f);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testBorderTiles() throws Exception {
+        try (TiledImageFile file = new TiledImageFile(folder.getRoot().toPath().resolve("image.tiles"), 5, 3, 4)) {
+            for (int column = 0; column < 2; column++) {
+                for (int row = 0; row < 1; row++) {
+                    FrameBuffer tile = new FrameBuffer(column == 0 ? 4 : 1, 3);
+                    for (int y = 0; y < 3; y++) {
+                        for (int x = 0; x < tile.getWidth(); x++) {
+                            tile.setColor(x, y, new Color(column * 4 + x, y, 1d));
+                        }
+                    }
+                    file.writeTile(column, row, tile);
+                }
+            }
+
+            FrameBuffer band = new FrameBuffer(5, 3);
+            file.readRow(0, band);
+            for (int y = 0; y < 3; y++) {
+                for (int x = 0; x < 5; x++) {
+                    assertEquals(x, band.getRed()[y * 5 + x], 0f);
+                    assertEquals(y, band.getGreen()[y * 5 + x], 0f);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.images;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the conversion of linear values into 8 bit sRGB.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ToneMapperTest {
+
+    @Test
+    public void testClampEncodesSrgb() throws Exception {
+        FrameBuffer frameBuffer = new FrameBuffer(4, 1);
+        frameBuffer.setColor(0, 0, Color.BLACK);
+        frameBuffer.setColor(1, 0, new Color(.5d, .5d, .5d));
+        frameBuffer.setColor(2, 0, Color.WHITE);
+        frameBuffer.setColor(3, 0, new Color(-1d, 7d, Double.NaN));
+
+        int[] pixels = new ToneMapper(ToneMapping.CLAMP).toRgb(frameBuffer);
+
+        assertEquals(0x000000, pixels[0]);
+        /* linear 0.5 is encoded as 188 in sRGB */
+        assertEquals(0xbcbcbc, pixels[1]);
+        assertEquals(0xffffff, pixels[2]);
+        assertEquals(0x00ff00, pixels[3]);
+    }
+
+    @Test
+    public void testOperatorsAreMonotonicAndBounded() throws Exception {
+        float[] source = {0f, .1f, .5f, 1f, 2f, 10f, 1000f, Float.POSITIVE_INFINITY};
+        float[] target = new float[source.length];
+
+        for (ToneMapping toneMapping : ToneMapping.values()) {
+            toneMapping.map(source, 0, 1f, target, source.length);
+            for (int i = 0; i < target.length; i++) {
+                assertTrue(toneMapping + " " + source[i], 0f <= target[i] && target[i] <= 1f);
+                assertTrue(toneMapping + " " + source[i], i == 0 || target[i - 1] <= target[i]);
+            }
+            assertEquals(1f, target[target.length - 1], 1e-6f);
+        }
+    }
+
+}
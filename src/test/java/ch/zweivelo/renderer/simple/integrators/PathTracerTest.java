@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.samplers.SamplerType;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the path tracer and the reproducibility of its images.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PathTracerTest {
+
+    @Test
+    public void testImageIndependentOfThreadsAndTiles() throws Exception {
+        Scene scene = CornellBox.createReflectiveScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera(1d);
+
+        FrameBuffer single = render(scene, camera, 1, 8);
+        FrameBuffer parallel = render(scene, camera, 4, 13);
+
+        assertArrayEquals(single.getRed(), parallel.getRed(), 0f);
+        assertArrayEquals(single.getGreen(), parallel.getGreen(), 0f);
+        assertArrayEquals(single.getBlue(), parallel.getBlue(), 0f);
+        double sum = 0d;
+        for (float red : single.getRed()) {
+            sum += red;
+        }
+        assertTrue(sum > 0d);
+    }
+
+    @Test
+    public void testConvexSphereUnderUniformSky() throws Exception {
+        /* every bounce off a convex shape escapes to the sky, so each sample sees exactly the albedo */
+        Scene scene = new Scene(Arrays.<Shape>asList(
+                new Sphere(Vector3D.ZERO, 1d, new Color(.5d, .25d, 1d))));
+        PathTracer pathTracer = new PathTracer(Color.WHITE);
+
+        for (int sample = 0; sample < 16; sample++) {
+            Color color = pathTracer.trace(scene, new Ray(new Vector3D(0d, 0d, 3d), Vector3D.MINUS_K), 0L, sample);
+            assertEquals(.5d, color.getR(), EPSILON);
+            assertEquals(.25d, color.getG(), EPSILON);
+            assertEquals(1d, color.getB(), EPSILON);
+        }
+    }
+
+    /**
+     * A diffuse floor under a sphere light reflects albedo * radiance * (radius / distance)^2.
+     */
+    @Test
+    public void testDirectLightFromSphere() throws Exception {
+        Scene scene = new Scene(Arrays.<Shape>asList(
+                new Plane(Vector3D.ZERO, Vector3D.PLUS_J, new Color(.5d, .5d, .5d)),
+                new Sphere(new Vector3D(0d, 2d, 0d), .5d, Color.WHITE, Material.emissive(4d))));
+        PathTracer pathTracer = new PathTracer(Color.BLACK, 1, 8, SamplerType.SOBOL.create(0L));
+        Ray ray = new Ray(new Vector3D(1d, 1d, 0d), new Vector3D(-1d, -1d, 0d).normalize());
+
+        int sampleCount = 1024;
+        double sum = 0d;
+        for (int sample = 0; sample < sampleCount; sample++) {
+            sum += pathTracer.trace(scene, ray, 0L, sample).getR();
+        }
+
+        assertEquals(.5d * 4d * .25d / 4d, sum / sampleCount, .001d);
+    }
+
+    private static FrameBuffer render(final Scene scene, final Camera camera, final int threads,
+                                      final int tileSize) throws Exception {
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(new Color(.8d, .9d, 1d)), tileSize, 4);
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        try {
+            return pool.submit(() -> renderEngine.render(scene, camera, 48, 48)).get();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+}
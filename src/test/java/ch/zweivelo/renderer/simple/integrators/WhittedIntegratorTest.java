@@ -0,0 +1,155 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.integrators;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.renderers.TileScheduler;
+import ch.zweivelo.renderer.simple.renderers.TileSchedulerType;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the reflections, refractions and path termination of the Whitted integrator.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class WhittedIntegratorTest {
+
+    private WhittedIntegrator integrator;
+
+    @Before
+    public void setUp() throws Exception {
+        integrator = new WhittedIntegrator();
+    }
+
+    @Test
+    public void testMirrorReflectsColor() throws Exception {
+        Scene scene = new Scene(Arrays.<Shape>asList(
+                new Plane(new Vector3D(0d, 0d, -1d), Vector3D.PLUS_K, Color.GREEN, Material.mirror(1d)),
+                new Sphere(new Vector3D(0d, 0d, 2d), .5d, Color.RED)));
+
+        Color color = integrator.trace(scene, new Ray(Vector3D.ZERO, Vector3D.MINUS_K));
+
+        assertColor(Color.RED, color);
+    }
+
+    @Test
+    public void testRefractionPassesThroughSphere() throws Exception {
+        Scene scene = new Scene(Arrays.<Shape>asList(
+                new Sphere(new Vector3D(0d, 0d, -2d), .5d, Color.RED, new Material(0d, 1d, 1d)),
+                new Plane(new Vector3D(0d, 0d, -5d), Vector3D.PLUS_K, Color.GREEN)));
+
+        Color color = integrator.trace(scene, new Ray(Vector3D.ZERO, Vector3D.MINUS_K));
+
+        assertColor(Color.GREEN, color);
+    }
+
+    @Test
+    public void testParallelMirrorsTerminate() throws Exception {
+        CountingScene scene = new CountingScene(Arrays.<Shape>asList(
+                new Plane(new Vector3D(0d, 0d, -1d), Vector3D.PLUS_K, Color.WHITE, Material.mirror(.9d)),
+                new Plane(new Vector3D(0d, 0d, 1d), Vector3D.MINUS_K, Color.WHITE, Material.mirror(.9d))));
+
+        Color color = integrator.trace(scene, new Ray(Vector3D.ZERO, Vector3D.MINUS_K));
+
+        assertTrue(scene.rays <= WhittedIntegrator.DEFAULT_MAX_DEPTH + 1);
+        assertTrue(Double.isFinite(color.getR()) && color.getR() > 0d);
+    }
+
+    @Test
+    public void testRayCountGrowsLinearlyInReflectiveCornellBox() throws Exception {
+        CountingScene scene = new CountingScene(CornellBox.createReflectiveShapes());
+        Camera camera = CornellBox.createCamera(1d);
+
+        int maximumRays = 0;
+        for (int y = 0; y < 32; y++) {
+            for (int x = 0; x < 32; x++) {
+                scene.rays = 0;
+                integrator.trace(scene, camera.createRayFor(new Vector2D((x + .5d) / 32d, (y + .5d) / 32d)));
+                maximumRays = Math.max(maximumRays, scene.rays);
+            }
+        }
+
+        /* two splits at most, every branch is at most the maximum depth long */
+        int bound = (1 << WhittedIntegrator.DEFAULT_SPLIT_DEPTH) * (WhittedIntegrator.DEFAULT_MAX_DEPTH + 1);
+        assertTrue("Traced " + maximumRays + " rays", maximumRays <= bound);
+        assertTrue(maximumRays > 1);
+    }
+
+    @Test
+    public void testSamplesAreReproducible() throws Exception {
+        Scene scene = CornellBox.createReflectiveScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera(1d);
+
+        FrameBuffer expected = new RenderEngine(integrator, 8, 4).render(scene, camera, 32, 32);
+        try (TileScheduler scheduler = TileSchedulerType.FIXED_POOL.create(3, 4)) {
+            FrameBuffer actual = new RenderEngine(new WhittedIntegrator(), 4, 4).withTileScheduler(scheduler)
+                    .render(scene, camera, 32, 32);
+
+            assertArrayEquals(expected.getRed(), actual.getRed(), 0f);
+            assertArrayEquals(expected.getGreen(), actual.getGreen(), 0f);
+            assertArrayEquals(expected.getBlue(), actual.getBlue(), 0f);
+        }
+    }
+
+    private static void assertColor(final Color expected, final Color actual) {
+        assertEquals(expected.getR(), actual.getR(), EPSILON);
+        assertEquals(expected.getG(), actual.getG(), EPSILON);
+        assertEquals(expected.getB(), actual.getB(), EPSILON);
+    }
+
+    private static final class CountingScene extends Scene {
+
+        private int rays;
+
+        private CountingScene(final List<Shape> shapes) {
+            super(shapes, AcceleratorType.SHAPE_LIST);
+        }
+
+        @Override
+        public Optional<CollisionInformation> findClosestCollision(final Ray ray) {
+            rays++;
+            return super.findClosestCollision(ray);
+        }
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.lights;
+
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.CounterRandom;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the light tree: valid and unbiased light selection at logarithmic depth.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class LightTreeTest {
+
+    private static final int LIGHT_COUNT = 1000;
+
+    private List<Light> lights;
+    private LightTree lightTree;
+
+    @Before
+    public void setUp() throws Exception {
+        lights = new ArrayList<>();
+        for (int i = 0; i < LIGHT_COUNT; i++) {
+            long key = CounterRandom.key(0L, i, 0, 0);
+            lights.add(new PointLight(
+                    new Vector3D(
+                            CounterRandom.uniform(key, 0) * 20d - 10d,
+                            CounterRandom.uniform(key, 1) * 5d + 1d,
+                            CounterRandom.uniform(key, 2) * 20d - 10d),
+                    new Color(CounterRandom.uniform(key, 3), 1d, 1d)));
+        }
+        lightTree = new LightTree(lights);
+    }
+
+    @Test
+    public void testDepthIsLogarithmic() throws Exception {
+        assertEquals(LIGHT_COUNT, lightTree.getLightCount());
+        assertTrue(lightTree.getDepth() <= 11);
+    }
+
+    @Test
+    public void testProbabilitiesSumToOne() throws Exception {
+        for (Vector3D point : Arrays.asList(Vector3D.ZERO, new Vector3D(9d, 0d, -9d), new Vector3D(0d, 3d, 0d))) {
+            double sum = 0d;
+            for (double probability : lightTree.getProbabilities(point)) {
+                assertTrue(probability > 0d);
+                sum += probability;
+            }
+            assertEquals(1d, sum, EPSILON);
+        }
+    }
+
+    @Test
+    public void testCloserLightIsPreferred() throws Exception {
+        LightTree pair = new LightTree(Arrays.<Light>asList(
+                new PointLight(new Vector3D(0d, 1d, 0d), Color.WHITE),
+                new PointLight(new Vector3D(0d, 10d, 0d), Color.WHITE)));
+
+        double[] probabilities = pair.getProbabilities(Vector3D.ZERO);
+
+        assertEquals(100d / 101d, probabilities[0], EPSILON);
+    }
+
+    /**
+     * The mean of the sampled irradiance of a floor point must match the sum over all lights.
+     */
+    @Test
+    public void testSamplingIsUnbiased() throws Exception {
+        Vector3D point = new Vector3D(1d, 0d, 2d);
+
+        double expected = 0d;
+        for (Light light : lights) {
+            LightSample sample = light.sample(point, 0d, 0d).get();
+            expected += sample.getRadiance().getG() * sample.getDirection().getY();
+        }
+
+        int sampleCount = 20000;
+        double sum = 0d;
+        for (int i = 0; i < sampleCount; i++) {
+            long key = CounterRandom.key(1L, 0L, i, 0);
+            Optional<LightSample> sample = lightTree.sample(point, CounterRandom.uniform(key, 0), .5d, .5d);
+            sum += sample.get().getRadiance().getG() * sample.get().getDirection().getY();
+        }
+
+        assertEquals(expected, sum / sampleCount, expected * .02d);
+    }
+
+}
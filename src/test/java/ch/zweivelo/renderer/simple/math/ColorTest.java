@@ -0,0 +1,47 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.math;
+
+import org.junit.Test;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Test the color operations.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ColorTest {
+
+    @Test
+    public void testClamp() throws Exception {
+        Color clamped = new Color(-1d, .5d, 2d).clamp();
+
+        assertEquals(0d, clamped.getR(), EPSILON);
+        assertEquals(.5d, clamped.getG(), EPSILON);
+        assertEquals(1d, clamped.getB(), EPSILON);
+    }
+
+    @Test
+    public void testLuminance() throws Exception {
+        assertEquals(1d, Color.WHITE.getLuminance(), EPSILON);
+        assertEquals(0d, Color.BLACK.getLuminance(), EPSILON);
+    }
+}
@@ -23,16 +23,22 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
 import java.util.List;
+import java.util.Random;
 import java.util.stream.DoubleStream;
 
 import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static ch.zweivelo.renderer.simple.math.Solver.CUBIC;
 import static ch.zweivelo.renderer.simple.math.Solver.LINEAR;
+import static ch.zweivelo.renderer.simple.math.Solver.QUADRATIC;
+import static ch.zweivelo.renderer.simple.math.Solver.QUARTIC;
 import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 /**
- * Test for linear solver
+ * Test for linear solver and the nearest root in a range of all solvers
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -40,6 +46,9 @@ import static org.junit.Assert.assertNotNull;
  */
 public class LinearSolverTest {
 
+    private static final DoubleRange ALL = new DoubleRange(Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY);
+    private static final DoubleRange POSITIVE = new DoubleRange(0d, Double.POSITIVE_INFINITY);
+
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
@@ -63,4 +72,131 @@ public class LinearSolverTest {
         assertEquals(1l, solutionsList.size());
         assertEquals(solutionsList.get(0), -2d, EPSILON);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testNearestLinearRoot() throws Exception {
+        assertEquals(-2d, LINEAR.solveNearest(ALL, 2d, 1d), 0d);
+        assertTrue(Double.isNaN(LINEAR.solveNearest(POSITIVE, 2d, 1d)));
+    }
+
+    @Test
+    public void testNearestQuadraticRootIsStable() throws Exception {
+        /* x^2 - 1e8x + 1 = 0, the small root 1e-8 is lost to cancellation by the textbook formula */
+        double root = QUADRATIC.solveNearest(POSITIVE, 1d, -1e8d, 1d);
+        assertEquals(1e-8d, root, 1e-8d * 1e-12d);
+
+        double textbook = QUADRATIC.solve(1d, -1e8d, 1d).min().getAsDouble();
+        assertTrue(Math.abs(textbook - 1e-8d) > Math.abs(root - 1e-8d));
+    }
+
+    @Test
+    public void testNearestQuadraticRootInRange() throws Exception {
+        /* (x - 1)(x - 3) */
+        assertEquals(1d, QUADRATIC.solveNearest(ALL, 3d, -4d, 1d), EPSILON);
+        assertEquals(3d, QUADRATIC.solveNearest(new DoubleRange(2d, 5d), 3d, -4d, 1d), EPSILON);
+        assertTrue(Double.isNaN(QUADRATIC.solveNearest(new DoubleRange(0d, .5d), 3d, -4d, 1d)));
+        assertTrue(Double.isNaN(QUADRATIC.solveNearest(new DoubleRange(3.5d, 5d), 3d, -4d, 1d)));
+
+        /* (x + 1)(x + 3) has no positive root, rejected by the rule of signs */
+        assertTrue(Double.isNaN(QUADRATIC.solveNearest(POSITIVE, 3d, 4d, 1d)));
+        assertEquals(-3d, QUADRATIC.solveNearest(ALL, 3d, 4d, 1d), EPSILON);
+
+        /* no real roots */
+        assertTrue(Double.isNaN(QUADRATIC.solveNearest(ALL, 1d, 0d, 1d)));
+    }
+
+    @Test
+    public void testNearestCubicRoot() throws Exception {
+        /* (x - 1)(x - 2)(x - 3) */
+        double[] c = {-6d, 11d, -6d, 1d};
+        assertEquals(1d, CUBIC.solveNearest(ALL, c), 1e-12d);
+        assertEquals(2d, CUBIC.solveNearest(new DoubleRange(1.5d, 10d), c), 1e-12d);
+        assertEquals(3d, CUBIC.solveNearest(new DoubleRange(2.5d, 10d), c), 1e-12d);
+        assertTrue(Double.isNaN(CUBIC.solveNearest(new DoubleRange(3.5d, 10d), c)));
+        assertTrue(Double.isNaN(CUBIC.solveNearest(new DoubleRange(1.2d, 1.8d), c)));
+    }
+
+    @Test
+    public void testCubicRootAtZero() throws Exception {
+        /* x (x^2 + 1) has no root besides 0 */
+        assertEquals(0d, CUBIC.solveNearest(new DoubleRange(0d, 10d), 0d, 1d, 0d, 1d), 0d);
+        assertTrue(Double.isNaN(CUBIC.solveNearest(new DoubleRange(.5d, 10d), 0d, 1d, 0d, 1d)));
+        /* x (x - 1)(x - 2) */
+        assertEquals(0d, CUBIC.solveNearest(new DoubleRange(0d, 10d), 0d, 2d, -3d, 1d), 1e-12d);
+    }
+
+    @Test
+    public void testNearestQuarticRoot() throws Exception {
+        /* (x - .5)(x - 1)(x - 4)(x - 7) */
+        double[] c = fromRoots(.5d, 1d, 4d, 7d);
+        assertEquals(.5d, QUARTIC.solveNearest(POSITIVE, c), 1e-12d);
+        assertEquals(4d, QUARTIC.solveNearest(new DoubleRange(2d, 10d), c), 1e-12d);
+
+        /* (x - 2)^2(x - 5)(x + 1), the double root only touches zero */
+        double[] touching = fromRoots(2d, 2d, 5d, -1d);
+        assertEquals(2d, QUARTIC.solveNearest(POSITIVE, touching), 1e-6d);
+        assertEquals(5d, QUARTIC.solveNearest(new DoubleRange(2.5d, 10d), touching), 1e-12d);
+
+        /* all coefficients positive, no positive root */
+        assertTrue(Double.isNaN(QUARTIC.solveNearest(POSITIVE, fromRoots(-1d, -2d, -3d, -4d))));
+        /* range beyond the Cauchy bound */
+        assertTrue(Double.isNaN(QUARTIC.solveNearest(new DoubleRange(100d, 1000d), c)));
+    }
+
+    @Test
+    public void testNearestRootOfRandomPolynomials() throws Exception {
+        Random random = new Random(42L);
+        for (int i = 0; i < 1000; i++) {
+            int degree = 2 + random.nextInt(3);
+            double[] roots = new double[degree];
+            for (int j = 0; j < degree; j++) {
+                roots[j] = j * 1.5d + random.nextDouble() - 2d;
+            }
+            double start = random.nextDouble() * 6d - 3d;
+            double end = start + random.nextDouble() * 4d;
+
+            double expected = Double.NaN;
+            for (double root : roots) {
+                if (start <= root && root <= end && !(root >= expected)) {
+                    expected = root;
+                }
+            }
+
+            double actual = Solver.values()[degree - 1].solveNearest(new DoubleRange(start, end), fromRoots(roots));
+            if (Double.isNaN(expected)) {
+                assertTrue(Double.isNaN(actual));
+            } else {
+                assertEquals(expected, actual, 1e-9d);
+            }
+        }
+    }
+
+    @Test
+    public void testQuarticWithoutAbsoluteTerm() throws Exception {
+        /* x(x - 1)(x - 2)(x + 3) = x^4 - 7x^2 + 6x */
+        double[] solutions = QUARTIC.solve(0d, 6d, -7d, 0d, 1d).sorted().toArray();
+        assertArrayEquals(new double[]{-3d, 0d, 1d, 2d}, solutions, 1e-9d);
+    }
+
+    @Test
+    public void testTooManyCoefficientsForNearestRoot() throws Exception {
+        expectedException.expect(InsufficientDataException.class);
+        QUADRATIC.solveNearest(ALL, 1d, 2d, 3d, 4d);
+    }
+
+    /**
+     * @return The coefficients of the polynomial with the given roots and a leading coefficient of 1
+     */
+    private static double[] fromRoots(final double... roots) {
+        double[] c = {1d};
+        for (double root : roots) {
+            double[] next = new double[c.length + 1];
+            for (int i = 0; i < c.length; i++) {
+                next[i + 1] += c[i];
+                next[i] -= root * c[i];
+            }
+            c = next;
+        }
+        return c;
+    }
+}
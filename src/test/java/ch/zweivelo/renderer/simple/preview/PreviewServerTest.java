@@ -0,0 +1,183 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.preview;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.Inflater;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Stream renders to clients on localhost.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PreviewServerTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PreviewServerTest.class);
+
+    private static final int WIDTH = 96;
+    private static final int HEIGHT = 64;
+    private static final int TILE_SIZE = 16;
+
+    private static final Pattern TILE = Pattern.compile(
+            "\\{\"x\":(\\d+),\"y\":(\\d+),\"width\":(\\d+),\"height\":(\\d+),\"pixels\":\"([^\"]*)\"}");
+
+    private final ToneMapper toneMapper = new ToneMapper(ToneMapping.REINHARD);
+
+    private Scene scene;
+    private Camera camera;
+    private RenderEngine renderEngine;
+    private PreviewServer server;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        renderEngine = new RenderEngine(new ColorIntegrator(), TILE_SIZE);
+        server = new PreviewServer(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), toneMapper);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void testClientReceivesRenderedImage() throws Exception {
+        HttpURLConnection connection = connect();
+        assertEquals(200, connection.getResponseCode());
+        assertTrue(connection.getContentType().startsWith("text/event-stream"));
+
+        FrameBuffer frameBuffer = new FrameBuffer(WIDTH, HEIGHT);
+        long start = System.nanoTime();
+        CompletableFuture<Void> render = CompletableFuture.runAsync(() -> {
+            server.start(frameBuffer);
+            renderEngine.render(scene, camera, frameBuffer, server);
+            server.finish();
+        });
+
+        int[] received = new int[WIDTH * HEIGHT];
+        int tiles = 0;
+        long firstTile = 0L;
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(connection.getInputStream(),
+                StandardCharsets.UTF_8))) {
+            String event = null;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.startsWith("event: ")) {
+                    event = line.substring(7);
+                    if ("done".equals(event)) {
+                        break;
+                    }
+                } else if (line.startsWith("data: ") && "frame".equals(event)) {
+                    assertEquals(String.format("{\"width\":%d,\"height\":%d}", WIDTH, HEIGHT), line.substring(6));
+                } else if (line.startsWith("data: ") && "tile".equals(event)) {
+                    if (tiles++ == 0) {
+                        firstTile = System.nanoTime() - start;
+                    }
+                    decodeTile(line.substring(6), received);
+                }
+            }
+        }
+        render.join();
+        LOGGER.info("First of {} tiles visible after {} ms", tiles, firstTile / 1e6d);
+
+        assertTrue(tiles >= (WIDTH / TILE_SIZE) * (HEIGHT / TILE_SIZE));
+        assertArrayEquals(toneMapper.toRgb(frameBuffer), received);
+    }
+
+    @Test
+    public void testSlowClientDoesNotQueueUpdates() throws Exception {
+        HttpURLConnection connection = connect();
+        assertEquals(200, connection.getResponseCode());
+
+        /* the client never reads, every tile is refined many times while it is pending */
+        FrameBuffer frameBuffer = new FrameBuffer(WIDTH, HEIGHT);
+        server.start(frameBuffer);
+        for (int pass = 0; pass < 32; pass++) {
+            renderEngine.refine(scene, camera, frameBuffer, server);
+        }
+        server.finish();
+
+        assertEquals(32, frameBuffer.getSampleCount(WIDTH - 1, HEIGHT - 1));
+        assertTrue(server.getPendingUpdates() <= (WIDTH / TILE_SIZE) * (HEIGHT / TILE_SIZE));
+        connection.disconnect();
+    }
+
+    private HttpURLConnection connect() throws Exception {
+        URL url = new URL("http", InetAddress.getLoopbackAddress().getHostAddress(), server.getPort(),
+                PreviewServer.PATH);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setReadTimeout(10000);
+        return connection;
+    }
+
+    private static void decodeTile(final String data, final int[] image) throws Exception {
+        Matcher matcher = TILE.matcher(data);
+        assertTrue(data, matcher.matches());
+        int x = Integer.parseInt(matcher.group(1));
+        int y = Integer.parseInt(matcher.group(2));
+        int width = Integer.parseInt(matcher.group(3));
+        int height = Integer.parseInt(matcher.group(4));
+
+        Inflater inflater = new Inflater();
+        inflater.setInput(Base64.getDecoder().decode(matcher.group(5)));
+        byte[] rgb = new byte[3 * width * height];
+        assertEquals(rgb.length, inflater.inflate(rgb));
+        inflater.end();
+
+        for (int row = 0; row < height; row++) {
+            for (int column = 0; column < width; column++) {
+                int i = 3 * (row * width + column);
+                image[(y + row) * WIDTH + x + column] = (rgb[i] & 0xff) << 16 | (rgb[i + 1] & 0xff) << 8
+                        | rgb[i + 2] & 0xff;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Measure a turntable rendered as one batch against rendering its views one after the other. Only runs with the
+ * benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class BatchRendererBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchRendererBenchmark.class);
+
+    @Test
+    public void benchmarkBatchAgainstSingleRenders() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        List<View> turntable = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            turntable.add(new View(CornellBox.createCamera(4d / 3d, -30d + 60d * i / 11), 120, 90));
+        }
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(Color.WHITE), RenderEngine.DEFAULT_TILE_SIZE, 2);
+
+        long singleTime = Long.MAX_VALUE;
+        long batchTime = Long.MAX_VALUE;
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            for (View view : turntable) {
+                renderEngine.render(scene, view.getCamera(), view.getWidth(), view.getHeight());
+            }
+            singleTime = Math.min(singleTime, System.nanoTime() - start);
+
+            start = System.nanoTime();
+            renderEngine.render(scene, turntable);
+            batchTime = Math.min(batchTime, System.nanoTime() - start);
+        }
+
+        LOGGER.info("{} views on {} threads: {} ms one after the other, {} ms as one batch", turntable.size(),
+                renderEngine.getTileScheduler().getParallelism(), singleTime / 1000000L, batchTime / 1000000L);
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Test rendering several views of one scene from a shared pool of tiles.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class BatchRendererTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Scene scene;
+    private List<View> views;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        views = Arrays.asList(
+                new View(CornellBox.createCamera(40d / 30d, -20d), 40, 30),
+                new View(CornellBox.createCamera(33d / 17d), 33, 17),
+                new View(CornellBox.createCamera(1d, 25d), 48, 48));
+    }
+
+    @Test
+    public void testSameImagesAsSingleRenders() throws Exception {
+        try (TileScheduler scheduler = TileSchedulerType.FIXED_POOL.create(3, 4)) {
+            RenderEngine renderEngine = new RenderEngine(new ColorIntegrator(), 8).withTileScheduler(scheduler);
+
+            List<FrameBuffer> frameBuffers = renderEngine.render(scene, views);
+
+            assertEquals(views.size(), frameBuffers.size());
+            for (int i = 0; i < views.size(); i++) {
+                View view = views.get(i);
+                FrameBuffer expected = renderEngine.render(scene, view.getCamera(), view.getWidth(),
+                        view.getHeight());
+                assertArrayEquals(expected.getRed(), frameBuffers.get(i).getRed(), 0f);
+                assertArrayEquals(expected.getGreen(), frameBuffers.get(i).getGreen(), 0f);
+                assertArrayEquals(expected.getBlue(), frameBuffers.get(i).getBlue(), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testListenerReceivesEachFinishedView() throws Exception {
+        List<Integer> finished = Collections.synchronizedList(new ArrayList<>());
+
+        new RenderEngine(new ColorIntegrator(), 16).render(scene, views, (frameBuffer, view) -> {
+            assertEquals(views.get(view).getWidth(), frameBuffer.getWidth());
+            for (int count : frameBuffer.getSampleCounts()) {
+                assertEquals(1, count);
+            }
+            finished.add(view);
+        });
+
+        Collections.sort(finished);
+        assertEquals(Arrays.asList(0, 1, 2), finished);
+    }
+
+    @Test
+    public void testWritesAllViews() throws Exception {
+        new BatchRenderer(new RenderEngine(new ColorIntegrator(), 16))
+                .render(scene, views, view -> folder.getRoot().toPath().resolve("view-" + view + ".png"));
+
+        for (int i = 0; i < views.size(); i++) {
+            BufferedImage image = ImageIO.read(new File(folder.getRoot(), "view-" + i + ".png"));
+            assertEquals(views.get(i).getWidth(), image.getWidth());
+            assertEquals(views.get(i).getHeight(), image.getHeight());
+        }
+    }
+
+    @Test
+    public void testWritesWithToneMapper() throws Exception {
+        ToneMapper toneMapper = new ToneMapper(ToneMapping.REINHARD);
+        RenderEngine renderEngine = new RenderEngine(new ColorIntegrator(), 16);
+        new BatchRenderer(renderEngine, toneMapper)
+                .render(scene, views, view -> folder.getRoot().toPath().resolve("view-" + view + ".png"));
+
+        View view = views.get(1);
+        int[] expected = toneMapper.toRgb(renderEngine.render(scene, view.getCamera(), view.getWidth(),
+                view.getHeight()));
+        int[] written = ImageIO.read(new File(folder.getRoot(), "view-1.png"))
+                .getRGB(0, 0, view.getWidth(), view.getHeight(), null, 0, view.getWidth());
+        for (int i = 0; i < written.length; i++) {
+            assertEquals(expected[i], written[i] & 0xffffff);
+        }
+    }
+
+    @Test
+    public void testStopsAtFirstFailedWrite() throws Exception {
+        List<View> manyViews = Collections.nCopies(20, new View(CornellBox.createCamera(1d), 16, 16));
+        RenderEngine renderEngine = new RenderEngine(new ColorIntegrator(), 16)
+                .withTileScheduler(TileSchedulerType.CALLER_RUNS.create(0, 0));
+
+        try {
+            new BatchRenderer(renderEngine).render(scene, manyViews,
+                    view -> folder.getRoot().toPath().resolve("view-" + view + (view == 0 ? ".unknown" : ".png")));
+            fail("The unknown format is not reported");
+        } catch (IOException e) {
+            String[] written = folder.getRoot().list();
+            assertTrue(Arrays.toString(written), written.length < manyViews.size() - 1);
+        }
+    }
+
+}
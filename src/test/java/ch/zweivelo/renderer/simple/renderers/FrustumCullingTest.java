@@ -0,0 +1,158 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Frustum;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.CulledScene;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.junit.Before;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the per tile frustum culling of the render engine on a wide scene.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class FrustumCullingTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(FrustumCullingTest.class);
+
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 48;
+
+    private final LongAdder intersections = new LongAdder();
+
+    private Scene scene;
+    private Camera camera;
+
+    @Before
+    public void setUp() throws Exception {
+        List<Shape> shapes = new ArrayList<>();
+        shapes.add(new Plane(new Vector3D(0d, -1d, 0d), Vector3D.PLUS_J, Color.WHITE));
+        for (int z = 0; z < 20; z++) {
+            for (int x = 0; x < 20; x++) {
+                Sphere sphere = new Sphere(new Vector3D(x - 9.5d, 0d, -2d - z), .3d,
+                        new Color(x / 20d, z / 20d, 1d));
+                shapes.add(new CountingShape(sphere));
+            }
+        }
+        scene = new Scene(shapes, AcceleratorType.SHAPE_LIST);
+        camera = new PinholeCamera(new Vector3D(0d, 1d, 0d), new Vector3D(0d, 0d, -10d), Vector3D.PLUS_J, 60d,
+                (double) WIDTH / HEIGHT);
+    }
+
+    @Test
+    public void testSameImageAsUnculledTracing() throws Exception {
+        ColorIntegrator integrator = new ColorIntegrator();
+        FrameBuffer frameBuffer = new RenderEngine(integrator, 8).render(scene, camera, WIDTH, HEIGHT);
+
+        for (int y = 0; y < HEIGHT; y++) {
+            for (int x = 0; x < WIDTH; x++) {
+                Color expected = integrator.trace(scene,
+                        camera.createRayFor(new Vector2D((x + .5d) / WIDTH, (y + .5d) / HEIGHT)));
+                assertEquals((float) expected.getR(), frameBuffer.getRed()[y * WIDTH + x], 0f);
+                assertEquals((float) expected.getG(), frameBuffer.getGreen()[y * WIDTH + x], 0f);
+                assertEquals((float) expected.getB(), frameBuffer.getBlue()[y * WIDTH + x], 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testIntersectionsPerCameraRayDrop() throws Exception {
+        new RenderEngine(new ColorIntegrator(), 8).render(scene, camera, WIDTH, HEIGHT);
+
+        double perRay = intersections.sum() / (double) (WIDTH * HEIGHT);
+        LOGGER.info("{} spheres, {} sphere intersections per camera ray with 8x8 tiles", scene.getShapes().size() - 1,
+                perRay);
+        assertTrue(perRay < (scene.getShapes().size() - 1) / 10d);
+    }
+
+    @Test
+    public void testTileFrustumContainsOnlyVisibleShapes() throws Exception {
+        Tile tile = new Tile(0, 0, 8, 8);
+        Frustum frustum = RenderEngine.createFrustum(camera, WIDTH, HEIGHT, tile).get();
+
+        /* the tile center and the upper left corner are inside, the lower right corner and the back are outside */
+        assertTrue(frustum.intersects(box(camera.createRayFor(new Vector2D(4d / WIDTH, 4d / HEIGHT)), 5d)));
+        assertFalse(frustum.intersects(box(camera.createRayFor(new Vector2D(.9d, .9d)), 5d)));
+        assertFalse(frustum.intersects(box(new Ray(camera.createRayFor(new Vector2D(4d / WIDTH, 4d / HEIGHT))
+                .getOrigin(), Vector3D.PLUS_K), 5d)));
+        assertTrue(frustum.intersects(BoundingBox.INFINITE));
+
+        CulledScene culledScene = new CulledScene(scene, frustum);
+        assertTrue(culledScene.getCandidateCount() < scene.getShapes().size() / 10);
+    }
+
+    private static BoundingBox box(final Ray ray, final double distance) {
+        Vector3D center = ray.calculatePoint(distance);
+        return new BoundingBox(center.subtract(new Vector3D(.01d, .01d, .01d)),
+                center.add(new Vector3D(.01d, .01d, .01d)));
+    }
+
+    private final class CountingShape implements Shape {
+
+        private final Sphere sphere;
+
+        private CountingShape(final Sphere sphere) {
+            this.sphere = sphere;
+        }
+
+        @Override
+        public Optional<Double> calculateIntersectionDistance(final Ray ray) {
+            intersections.increment();
+            return sphere.calculateIntersectionDistance(ray);
+        }
+
+        @Override
+        public Color getColor() {
+            return sphere.getColor();
+        }
+
+        @Override
+        public BoundingBox getBounds() {
+            return sphere.getBounds();
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.ImageWriter;
+import ch.zweivelo.renderer.simple.images.ToneMapper;
+import ch.zweivelo.renderer.simple.images.ToneMapping;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Compare the out of core poster render against an in memory render.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class PosterRendererTest {
+
+    private static final int WIDTH = 75;
+    private static final int HEIGHT = 53;
+    private static final int TILE_SIZE = 16;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testSameImageAsInMemoryRender() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        RenderEngine renderEngine = new RenderEngine(new ColorIntegrator(), TILE_SIZE, 2);
+        ToneMapper toneMapper = new ToneMapper(ToneMapping.REINHARD);
+
+        Path expectedFile = folder.getRoot().toPath().resolve("expected.png");
+        FrameBuffer frameBuffer = renderEngine.render(scene, camera, WIDTH, HEIGHT);
+        ImageWriter.write(frameBuffer, expectedFile, toneMapper);
+
+        Path pixelFile = folder.getRoot().toPath().resolve("poster.pixels");
+        Path posterFile = folder.getRoot().toPath().resolve("poster.png");
+        new PosterRenderer(renderEngine, toneMapper).render(scene, camera, WIDTH, HEIGHT, pixelFile, posterFile);
+
+        BufferedImage expected = ImageIO.read(expectedFile.toFile());
+        BufferedImage poster = ImageIO.read(posterFile.toFile());
+        assertEquals(WIDTH, poster.getWidth());
+        assertEquals(HEIGHT, poster.getHeight());
+        assertArrayEquals(expected.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH),
+                poster.getRGB(0, 0, WIDTH, HEIGHT, null, 0, WIDTH));
+
+        /* 5 x 4 padded tiles of interleaved RGB floats */
+        assertEquals(5L * 4L * TILE_SIZE * TILE_SIZE * 12L, Files.size(pixelFile));
+    }
+
+}
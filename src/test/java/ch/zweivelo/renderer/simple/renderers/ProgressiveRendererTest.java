@@ -0,0 +1,127 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.Checkpoint;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.samplers.Sampler;
+import ch.zweivelo.renderer.simple.samplers.SamplerType;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test that checkpoints hold the complete render state and that resumed renders match uninterrupted ones exactly.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class ProgressiveRendererTest {
+
+    private static final int WIDTH = 48;
+    private static final int HEIGHT = 36;
+    private static final int SAMPLES_PER_PIXEL = 24;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private Scene scene;
+    private Camera camera;
+    private RenderEngine renderEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        Sampler sampler = SamplerType.SOBOL.create(7L);
+        PathTracer pathTracer = new PathTracer(new Color(.8d, .9d, 1d), PathTracer.DEFAULT_MAX_DEPTH,
+                PathTracer.DEFAULT_ROULETTE_DEPTH, sampler);
+        renderEngine = new RenderEngine(pathTracer, 16, 1, sampler);
+    }
+
+    @Test
+    public void testCheckpointRoundTrip() throws Exception {
+        Path file = folder.getRoot().toPath().resolve("render.checkpoint");
+        FrameBuffer frameBuffer = new ProgressiveRenderer(renderEngine, file, Duration.ZERO)
+                .render(scene, camera, WIDTH, HEIGHT, 3);
+
+        FrameBuffer checkpoint = Checkpoint.read(file);
+
+        assertEquals(WIDTH, checkpoint.getWidth());
+        assertEquals(HEIGHT, checkpoint.getHeight());
+        assertFrameBuffer(frameBuffer, checkpoint);
+        assertEquals(3, checkpoint.getSampleCount(WIDTH - 1, HEIGHT - 1));
+        assertTrue(Files.notExists(file.resolveSibling(file.getFileName() + ".tmp")));
+    }
+
+    @Test
+    public void testResumedRenderMatchesUninterruptedRender() throws Exception {
+        FrameBuffer expected = new ProgressiveRenderer(renderEngine, folder.newFile().toPath(), Duration.ZERO)
+                .render(scene, camera, WIDTH, HEIGHT, SAMPLES_PER_PIXEL);
+
+        Path file = folder.getRoot().toPath().resolve("interrupted.checkpoint");
+        ProgressiveRenderer renderer = new ProgressiveRenderer(renderEngine, file, Duration.ZERO);
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        Thread thread = new Thread(() -> {
+            try {
+                renderer.render(scene, camera, WIDTH, HEIGHT, SAMPLES_PER_PIXEL);
+            } catch (InterruptedException e) {
+                /* expected, the last checkpoint is written before */
+            } catch (Exception e) {
+                failure.set(e);
+            }
+        });
+        thread.start();
+        while (Files.notExists(file) && thread.isAlive()) {
+            Thread.sleep(1L);
+        }
+        thread.interrupt();
+        thread.join();
+        assertEquals(null, failure.get());
+
+        FrameBuffer resumed = new ProgressiveRenderer(renderEngine, file, Duration.ofHours(1L))
+                .resume(scene, camera, SAMPLES_PER_PIXEL);
+
+        assertFrameBuffer(expected, resumed);
+    }
+
+    private static void assertFrameBuffer(final FrameBuffer expected, final FrameBuffer actual) {
+        assertArrayEquals(expected.getRed(), actual.getRed(), 0f);
+        assertArrayEquals(expected.getGreen(), actual.getGreen(), 0f);
+        assertArrayEquals(expected.getBlue(), actual.getBlue(), 0f);
+        assertArrayEquals(expected.getSampleCounts(), actual.getSampleCounts());
+    }
+
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measure renders with rasterized camera rays against traced ones, for the Cornell box and the sphere grid of the
+ * {@link RasterizedPrimariesTest}. Only runs with the benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RasterizedPrimariesBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(RasterizedPrimariesBenchmark.class);
+
+    @Test
+    public void benchmarkPrimaryRays() throws Exception {
+        int width = 320;
+        int height = 240;
+        Scene[] scenes = {
+                CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY),
+                new Scene(RasterizedPrimariesTest.createShapes(20), AcceleratorType.BOUNDING_VOLUME_HIERARCHY)
+        };
+        Camera[] cameras = {
+                CornellBox.createCamera((double) width / height),
+                new PinholeCamera(new Vector3D(0d, 1d, 0d), new Vector3D(0d, 0d, -10d), Vector3D.PLUS_J, 60d,
+                        (double) width / height)
+        };
+
+        for (int i = 0; i < scenes.length; i++) {
+            RenderEngine traced = new RenderEngine(new ColorIntegrator(), RenderEngine.DEFAULT_TILE_SIZE, 4)
+                    .withTileScheduler(TileSchedulerType.CALLER_RUNS.create(1, 0));
+            RenderEngine rasterized = traced.withRasterizedPrimaries(true);
+
+            long tracedTime = Long.MAX_VALUE;
+            long rasterizedTime = Long.MAX_VALUE;
+            for (int round = 0; round < 5; round++) {
+                long start = System.nanoTime();
+                traced.render(scenes[i], cameras[i], width, height);
+                tracedTime = Math.min(tracedTime, System.nanoTime() - start);
+
+                start = System.nanoTime();
+                rasterized.render(scenes[i], cameras[i], width, height);
+                rasterizedTime = Math.min(rasterizedTime, System.nanoTime() - start);
+            }
+            LOGGER.info("{} shapes, {}x{} pixels with 4 samples: {} ms traced, {} ms rasterized",
+                    scenes[i].getShapes().size(), width, height, tracedTime / 1000000L, rasterizedTime / 1000000L);
+        }
+    }
+
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.integrators.Integrator;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.BoundingBox;
+import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.apache.commons.math3.geometry.euclidean.twod.Vector2D;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Compare camera rays answered from the rasterized depth and shape id buffer with traced ones.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RasterizedPrimariesTest {
+
+    private static final int WIDTH = 64;
+    private static final int HEIGHT = 48;
+
+    private Scene scene;
+    private Camera camera;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = new Scene(createShapes(20), AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        camera = new PinholeCamera(new Vector3D(0d, 1d, 0d), new Vector3D(0d, 0d, -10d), Vector3D.PLUS_J, 60d,
+                (double) WIDTH / HEIGHT);
+    }
+
+    @Test
+    public void testProjectionInvertsCameraRays() throws Exception {
+        Random random = new Random(5L);
+        for (int i = 0; i < 100; i++) {
+            Vector2D uvPoint = new Vector2D(random.nextDouble(), random.nextDouble());
+            Vector3D point = camera.createRayFor(uvPoint).calculatePoint(.1d + random.nextDouble() * 20d);
+
+            Vector2D projected = camera.project(point).get();
+
+            assertEquals(uvPoint.getX(), projected.getX(), EPSILON);
+            assertEquals(uvPoint.getY(), projected.getY(), EPSILON);
+        }
+        assertFalse(camera.project(new Vector3D(0d, 1d, 5d)).isPresent());
+    }
+
+    @Test
+    public void testCameraRaysHitSameShapes() throws Exception {
+        assertSameHits(scene, camera, camera::createRayFor);
+    }
+
+    /**
+     * All camera rays start inside a sphere, they hit its far side unless another shape inside is closer. Rays not
+     * leaving the apex of the frustum are traced instead of rasterized.
+     */
+    @Test
+    public void testCameraInsideSphere() throws Exception {
+        List<Shape> shapes = createShapes(4);
+        shapes.add(new Sphere(camera.createRayFor(new Vector2D(.5d, .5d)).getOrigin(), 3d, Color.RED));
+        Scene inside = new Scene(shapes, AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+
+        assertSameHits(inside, camera, camera::createRayFor);
+        assertSameHits(inside, camera, uvPoint -> {
+            Ray ray = camera.createRayFor(uvPoint);
+            return new Ray(ray.getOrigin().add(new Vector3D(.01d, -.02d, .005d)), ray.getDirection());
+        });
+        assertSameImage(inside, camera, new ColorIntegrator(), 2);
+    }
+
+    /**
+     * Planes through the camera position: the camera rays within a plane do not cross it, all others hit it at a
+     * distance of 0, which is outside of their interval.
+     */
+    @Test
+    public void testPlanesEdgeOnToCamera() throws Exception {
+        Camera level = new PinholeCamera(new Vector3D(0d, 0d, 0d), new Vector3D(0d, 0d, -10d), Vector3D.PLUS_J, 60d,
+                (double) WIDTH / HEIGHT);
+        List<Shape> shapes = createShapes(4);
+        shapes.add(new Plane(Vector3D.ZERO, Vector3D.PLUS_J, Color.RED));
+        shapes.add(new Plane(Vector3D.ZERO, new Vector3D(1d, 0d, 0d), Color.GREEN));
+        shapes.add(new Plane(Vector3D.ZERO, new Vector3D(.6d, .8d, 0d), Color.BLUE));
+        Scene edgeOn = new Scene(shapes, AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+
+        /* rays through the corners of the pixels, those on the horizon and the vertical center lie within planes */
+        assertEquals(0d, level.createRayFor(new Vector2D(.3d, .5d)).getDirection().getY(), 0d);
+        assertEquals(0d, level.createRayFor(new Vector2D(.5d, .3d)).getDirection().getX(), 0d);
+        assertSameHits(edgeOn, level, uvPoint -> level.createRayFor(new Vector2D(
+                Math.floor(uvPoint.getX() * WIDTH) / WIDTH, Math.floor(uvPoint.getY() * HEIGHT) / HEIGHT)));
+        assertSameImage(edgeOn, level, new ColorIntegrator(), 4);
+    }
+
+    @Test
+    public void testSameImageAsTracing() throws Exception {
+        assertSameImage(scene, camera, new ColorIntegrator(), 4);
+    }
+
+    @Test
+    public void testSamePathTracedCornellBox() throws Exception {
+        assertSameImage(CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY),
+                CornellBox.createCamera((double) WIDTH / HEIGHT), new PathTracer(Color.WHITE), 2);
+    }
+
+    /**
+     * Compare every camera ray of every tile with tracing it, the rays are created for random points of their pixels.
+     */
+    private static void assertSameHits(final Scene scene, final Camera camera,
+                                       final Function<Vector2D, Ray> cameraRay) {
+        int samplesPerPixel = 3;
+        Random random = new Random(9L);
+        for (Tile tile : Tile.split(WIDTH, HEIGHT, 16)) {
+            Ray[] cameraRays = new Ray[tile.getWidth() * tile.getHeight() * samplesPerPixel];
+            for (int i = 0; i < cameraRays.length; i++) {
+                int pixel = i / samplesPerPixel;
+                cameraRays[i] = cameraRay.apply(new Vector2D(
+                        (tile.getX() + pixel % tile.getWidth() + random.nextDouble()) / WIDTH,
+                        (tile.getY() + pixel / tile.getWidth() + random.nextDouble()) / HEIGHT));
+            }
+            RasterizedScene rasterizedScene = new RasterizedScene(scene,
+                    RenderEngine.createFrustum(camera, WIDTH, HEIGHT, tile).get(), camera, WIDTH, HEIGHT, tile,
+                    samplesPerPixel, cameraRays);
+
+            for (int i = 0; i < cameraRays.length; i++) {
+                rasterizedScene.setCameraRay(i);
+                Optional<CollisionInformation> expected = scene.findClosestCollision(cameraRays[i]);
+                Optional<CollisionInformation> actual = rasterizedScene.findClosestCollision(cameraRays[i]);
+
+                assertEquals(expected.isPresent(), actual.isPresent());
+                if (expected.isPresent()) {
+                    assertEquals(expected.get().getShape(), actual.get().getShape());
+                    assertEquals(expected.get().getDistance(), actual.get().getDistance(), 0d);
+                }
+            }
+        }
+    }
+
+    private static void assertSameImage(final Scene scene, final Camera camera, final Integrator integrator,
+                                        final int samplesPerPixel) {
+        RenderEngine traced = new RenderEngine(integrator, 16, samplesPerPixel);
+        FrameBuffer expected = traced.render(scene, camera, WIDTH, HEIGHT);
+        FrameBuffer actual = traced.withRasterizedPrimaries(true).render(scene, camera, WIDTH, HEIGHT);
+
+        boolean lit = false;
+        for (int pixel = 0; pixel < WIDTH * HEIGHT; pixel++) {
+            assertEquals(expected.getRed()[pixel], actual.getRed()[pixel], EPSILON);
+            assertEquals(expected.getGreen()[pixel], actual.getGreen()[pixel], EPSILON);
+            assertEquals(expected.getBlue()[pixel], actual.getBlue()[pixel], EPSILON);
+            lit |= expected.getRed()[pixel] + expected.getGreen()[pixel] + expected.getBlue()[pixel] > 0f;
+        }
+        assertTrue(lit);
+    }
+
+    /**
+     * A floor, a tilted back wall, a grid of spheres and a wrapped sphere which is no {@link Sphere} and therefore
+     * tested through the shape interface.
+     */
+    static List<Shape> createShapes(final int gridSize) {
+        List<Shape> shapes = new ArrayList<>();
+        shapes.add(new Plane(new Vector3D(0d, -1d, 0d), Vector3D.PLUS_J, Color.WHITE));
+        shapes.add(new Plane(new Vector3D(0d, 0d, -gridSize), new Vector3D(.2d, -.3d, 1d), Color.GREEN));
+        for (int z = 0; z < gridSize; z++) {
+            for (int x = 0; x < gridSize; x++) {
+                shapes.add(new Sphere(new Vector3D(x - gridSize / 2d + .5d, 0d, -2d - z), .3d + .02d * (x % 5),
+                        new Color(x / (double) gridSize, z / (double) gridSize, 1d)));
+            }
+        }
+        Sphere sphere = new Sphere(new Vector3D(.2d, .5d, -3d), .4d, Color.GREEN);
+        shapes.add(new Shape() {
+            @Override
+            public Optional<Double> calculateIntersectionDistance(final Ray ray) {
+                return sphere.calculateIntersectionDistance(ray);
+            }
+
+            @Override
+            public Color getColor() {
+                return sphere.getColor();
+            }
+
+            @Override
+            public BoundingBox getBounds() {
+                return sphere.getBounds();
+            }
+        });
+        return shapes;
+    }
+
+}
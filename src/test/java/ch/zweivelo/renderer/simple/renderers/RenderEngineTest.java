@@ -0,0 +1,75 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.time.Duration;
+
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the deadline mode of the render engine.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class RenderEngineTest {
+
+    private Scene scene;
+    private Camera camera;
+    private RenderEngine renderEngine;
+
+    @Before
+    public void setUp() throws Exception {
+        scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        camera = CornellBox.createCamera(1d);
+        renderEngine = new RenderEngine(new ColorIntegrator(), 8);
+    }
+
+    @Test
+    public void testDeadlineRefinesAllPixels() throws Exception {
+        FrameBuffer frameBuffer = renderEngine.render(scene, camera, 32, 32, Duration.ofMillis(300));
+
+        int maximumSamples = 0;
+        for (int y = 0; y < frameBuffer.getHeight(); y++) {
+            for (int x = 0; x < frameBuffer.getWidth(); x++) {
+                assertTrue(frameBuffer.getSampleCount(x, y) > 0);
+                maximumSamples = Math.max(maximumSamples, frameBuffer.getSampleCount(x, y));
+            }
+        }
+        assertTrue(maximumSamples > 1);
+    }
+
+    @Test
+    public void testDeadlineIsKept() throws Exception {
+        long start = System.nanoTime();
+        renderEngine.render(scene, camera, 2000, 2000, Duration.ofMillis(100));
+        long elapsedMillis = (System.nanoTime() - start) / 1000000L;
+
+        assertTrue("Returned after " + elapsedMillis + " ms", elapsedMillis < 1000L);
+    }
+
+}
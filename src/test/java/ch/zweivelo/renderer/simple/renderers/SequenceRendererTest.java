@@ -0,0 +1,76 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.integrators.ColorIntegrator;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import ch.zweivelo.renderer.simple.shapes.Shape;
+import ch.zweivelo.renderer.simple.shapes.Sphere;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+/**
+ * Render a short animation of a sphere moving from left to right, seen along the positive z axis.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class SequenceRendererTest {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testRenderSequence() throws Exception {
+        Scene scene = new Scene(
+                Arrays.<Shape>asList(new Sphere(new Vector3D(1d, 0d, 0d), .5d)),
+                AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        PinholeCamera camera = new PinholeCamera(
+                new Vector3D(0d, 0d, -5d), Vector3D.ZERO, Vector3D.PLUS_J, 60d, 1d);
+        Path folder = temporaryFolder.getRoot().toPath();
+
+        new SequenceRenderer(new RenderEngine(new ColorIntegrator(), 8), camera, 32, 32).render(
+                scene,
+                (shape, frame) -> new Sphere(((Sphere) shape).getCenter().add(new Vector3D(-frame, 0d, 0d)), .5d),
+                3,
+                frame -> folder.resolve(String.format("frame-%03d.png", frame)));
+
+        BufferedImage first = ImageIO.read(folder.resolve("frame-000.png").toFile());
+        BufferedImage last = ImageIO.read(folder.resolve("frame-002.png").toFile());
+
+        assertEquals(3, folder.toFile().listFiles((File file) -> file.getName().endsWith(".png")).length);
+        assertNotEquals(0, first.getRGB(10, 16) & 0xffffff);
+        assertEquals(0, first.getRGB(22, 16) & 0xffffff);
+        assertEquals(0, last.getRGB(10, 16) & 0xffffff);
+        assertNotEquals(0, last.getRGB(22, 16) & 0xffffff);
+    }
+
+}
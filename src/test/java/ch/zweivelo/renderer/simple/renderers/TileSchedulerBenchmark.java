@@ -0,0 +1,74 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static ch.zweivelo.renderer.simple.renderers.TileSchedulerTest.HEIGHT;
+import static ch.zweivelo.renderer.simple.renderers.TileSchedulerTest.SAMPLES_PER_PIXEL;
+import static ch.zweivelo.renderer.simple.renderers.TileSchedulerTest.TILE_SIZE;
+import static ch.zweivelo.renderer.simple.renderers.TileSchedulerTest.WIDTH;
+
+/**
+ * Report the render times of the image of the {@link TileSchedulerTest} with every tile scheduler, to pick a
+ * scheduler per machine. Only runs with the benchmarks profile.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TileSchedulerBenchmark {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(TileSchedulerBenchmark.class);
+
+    private static final int ROUNDS = 3;
+
+    @Test
+    public void benchmarkSchedulers() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(new Color(.8d, .9d, 1d)), TILE_SIZE,
+                SAMPLES_PER_PIXEL);
+
+        for (TileSchedulerType type : TileSchedulerType.values()) {
+            try (TileScheduler scheduler = type.create(0, 8)) {
+                RenderEngine scheduled = renderEngine.withTileScheduler(scheduler);
+                FrameBuffer frameBuffer = new FrameBuffer(WIDTH, HEIGHT);
+
+                long fastest = Long.MAX_VALUE;
+                for (int round = 0; round < ROUNDS; round++) {
+                    long start = System.nanoTime();
+                    scheduled.render(scene, camera, frameBuffer);
+                    fastest = Math.min(fastest, System.nanoTime() - start);
+                }
+                LOGGER.info("{} with {} threads renders {}x{} pixels in {} ms", type, scheduler.getParallelism(),
+                        WIDTH, HEIGHT, fastest / 1000000L);
+            }
+        }
+    }
+
+}
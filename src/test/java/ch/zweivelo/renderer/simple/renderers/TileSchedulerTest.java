@@ -0,0 +1,102 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.renderers;
+
+import ch.zweivelo.renderer.simple.accelerators.AcceleratorType;
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.scenes.CornellBox;
+import ch.zweivelo.renderer.simple.scenes.Scene;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Render the same image with every tile scheduler and check that the images are identical, and check the error
+ * handling of the schedulers.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TileSchedulerTest {
+
+    static final int WIDTH = 160;
+    static final int HEIGHT = 120;
+    static final int TILE_SIZE = 16;
+    static final int SAMPLES_PER_PIXEL = 4;
+
+    @Test
+    public void testSchedulersRenderSameImage() throws Exception {
+        Scene scene = CornellBox.createScene(AcceleratorType.BOUNDING_VOLUME_HIERARCHY);
+        Camera camera = CornellBox.createCamera((double) WIDTH / HEIGHT);
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(new Color(.8d, .9d, 1d)), TILE_SIZE,
+                SAMPLES_PER_PIXEL);
+
+        FrameBuffer expected = renderEngine.withTileScheduler(TileSchedulerType.CALLER_RUNS.create(0, 0))
+                .render(scene, camera, WIDTH, HEIGHT);
+
+        for (TileSchedulerType type : TileSchedulerType.values()) {
+            try (TileScheduler scheduler = type.create(0, 8)) {
+                FrameBuffer frameBuffer = renderEngine.withTileScheduler(scheduler).render(scene, camera, WIDTH,
+                        HEIGHT);
+
+                assertArrayEquals(type.name(), expected.getRed(), frameBuffer.getRed(), 0f);
+                assertArrayEquals(type.name(), expected.getGreen(), frameBuffer.getGreen(), 0f);
+                assertArrayEquals(type.name(), expected.getBlue(), frameBuffer.getBlue(), 0f);
+            }
+        }
+    }
+
+    @Test
+    public void testFixedPoolRunsAllItemsThroughSmallQueue() throws Exception {
+        try (TileScheduler scheduler = TileSchedulerType.FIXED_POOL.create(2, 1)) {
+            AtomicInteger sum = new AtomicInteger();
+
+            scheduler.execute(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), sum::addAndGet);
+
+            assertEquals(55, sum.get());
+            assertEquals(2, scheduler.getParallelism());
+        }
+    }
+
+    @Test
+    public void testExceptionsReachCaller() throws Exception {
+        for (TileSchedulerType type : TileSchedulerType.values()) {
+            try (TileScheduler scheduler = type.create(2, 4)) {
+                scheduler.execute(Arrays.asList(1, 2, 3), item -> {
+                    if (item == 2) {
+                        throw new IllegalArgumentException("tile " + item);
+                    }
+                });
+                fail(type + " swallowed the exception");
+            } catch (IllegalArgumentException e) {
+                assertTrue(type.name(), e.getMessage().contains("tile 2"));
+            }
+        }
+    }
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.samplers;
+
+import org.junit.Test;
+
+import static ch.zweivelo.renderer.simple.math.MathUtils.EPSILON;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the stratification of the low discrepancy samplers, see {@link SamplerBenchmark} for their convergence.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class SamplerTest {
+
+    @Test
+    public void testSobolPairsAreStratified() throws Exception {
+        Sampler sampler = SamplerType.SOBOL.create(42L);
+
+        for (int dimension = 0; dimension < 16; dimension += 2) {
+            boolean[] strata = new boolean[64];
+            for (int sample = 0; sample < 64; sample++) {
+                int u = (int) (sampler.get(7L, sample, dimension) * 8d);
+                int v = (int) (sampler.get(7L, sample, dimension + 1) * 8d);
+                assertTrue("Dimension " + dimension + " sample " + sample, !strata[8 * v + u]);
+                strata[8 * v + u] = true;
+            }
+        }
+    }
+
+    @Test
+    public void testRadicalInverse() throws Exception {
+        int[] identity = {0, 1, 2};
+
+        assertEquals(0d, HaltonSampler.scrambledRadicalInverse(3, identity, 0), EPSILON);
+        assertEquals(1d / 3d, HaltonSampler.scrambledRadicalInverse(3, identity, 1), EPSILON);
+        assertEquals(1d / 9d, HaltonSampler.scrambledRadicalInverse(3, identity, 3), EPSILON);
+        assertEquals(7d / 9d, HaltonSampler.scrambledRadicalInverse(3, identity, 5), EPSILON);
+    }
+
+}
@@ -16,8 +16,18 @@
 
 package ch.zweivelo.renderer.simple.shapes;
 
+import ch.zweivelo.renderer.simple.cameras.Camera;
+import ch.zweivelo.renderer.simple.cameras.PinholeCamera;
+import ch.zweivelo.renderer.simple.images.Aov;
+import ch.zweivelo.renderer.simple.images.AovBuffer;
+import ch.zweivelo.renderer.simple.images.FrameBuffer;
+import ch.zweivelo.renderer.simple.images.GuideBuffer;
+import ch.zweivelo.renderer.simple.integrators.PathTracer;
 import ch.zweivelo.renderer.simple.math.CollisionInformation;
+import ch.zweivelo.renderer.simple.math.Color;
 import ch.zweivelo.renderer.simple.math.Ray;
+import ch.zweivelo.renderer.simple.renderers.RenderEngine;
+import ch.zweivelo.renderer.simple.scenes.Scene;
 import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
 import org.junit.Before;
 import org.junit.Test;
@@ -25,16 +35,19 @@ import org.junit.runner.RunWith;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
+import java.util.Collections;
+import java.util.EnumSet;
 import java.util.Optional;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.anyDouble;
 import static org.mockito.Mockito.when;
 
 /**
- * Test the default implementation of the Shape#intersect method.
+ * Test the default implementation of the Shape#intersect method and the sphere intersection around the ray origin.
  *
  * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
  * @version 0.1
@@ -69,4 +82,41 @@ public class ShapeTest {
         assertEquals(Vector3D.PLUS_I, collisionInformation.getPoint());
     }
 
+    @Test
+    public void testShapeWithoutNormals() throws Exception {
+        Shape shape = ray1 -> Optional.of(1d);
+        assertEquals(Vector3D.ZERO, shape.getNormal(Vector3D.PLUS_I));
+
+        Scene scene = new Scene(Collections.singletonList(shape));
+        Camera camera = new PinholeCamera(Vector3D.ZERO, Vector3D.MINUS_K, Vector3D.PLUS_J, 60d, 1d);
+        RenderEngine renderEngine = new RenderEngine(new PathTracer(Color.WHITE), 4);
+        AovBuffer aovs = new AovBuffer(4, 4, EnumSet.of(Aov.NORMAL));
+        renderEngine.render(scene, camera, new FrameBuffer(4, 4), aovs);
+        GuideBuffer guides = renderEngine.renderGuides(scene, camera, 4, 4);
+
+        for (int i = 0; i < 16; i++) {
+            assertEquals(0f, aovs.getNormalX()[i], 0f);
+            assertEquals(0f, guides.getNormalZ()[i], 0f);
+        }
+    }
+
+    @Test
+    public void testSphereFromInside() throws Exception {
+        Sphere sphere = new Sphere(Vector3D.ZERO, 2d);
+
+        Optional<Double> distance = sphere.calculateIntersectionDistance(new Ray(Vector3D.ZERO, Vector3D.PLUS_K));
+
+        assertTrue(distance.isPresent());
+        assertEquals(2d, distance.get(), 1e-12);
+    }
+
+    @Test
+    public void testSphereBehindRay() throws Exception {
+        Sphere sphere = new Sphere(new Vector3D(0d, 0d, -5d), 1d);
+
+        Optional<Double> distance = sphere.calculateIntersectionDistance(new Ray(Vector3D.ZERO, Vector3D.PLUS_K));
+
+        assertEquals(Optional.empty(), distance);
+    }
+
 }
\ No newline at end of file
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.spring;
+
+import ch.zweivelo.renderer.simple.SimpleRenderer;
+import ch.zweivelo.renderer.simple.renderers.TileScheduler;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+/**
+ * Start the application context and render through the configured beans.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class SimpleRendererConfigurationTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testRenderJobUsesConfiguredScheduler() throws Exception {
+        File output = new File(folder.getRoot(), "cornell-box.png");
+
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(SimpleRenderer.class)
+                .web(false)
+                .run("--renderer.scheduler.type=FIXED_POOL", "--renderer.scheduler.threads=3",
+                        "--renderer.width=24", "--renderer.height=18", "--renderer.output=" + output)) {
+            RenderJob renderJob = context.getBean(RenderJob.class);
+
+            assertSame(context.getBean(TileScheduler.class), renderJob.getRenderEngine().getTileScheduler());
+            assertEquals(3, renderJob.getRenderEngine().getTileScheduler().getParallelism());
+            assertFalse(renderJob.isPreviewed());
+            assertFalse(renderJob.isDenoised());
+
+            renderJob.render();
+        }
+
+        BufferedImage image = ImageIO.read(output);
+        assertEquals(24, image.getWidth());
+        assertEquals(18, image.getHeight());
+    }
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2015 Michael Bieri
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package ch.zweivelo.renderer.simple.textures;
+
+import ch.zweivelo.renderer.simple.materials.Material;
+import ch.zweivelo.renderer.simple.math.Color;
+import ch.zweivelo.renderer.simple.shapes.Plane;
+import org.apache.commons.math3.geometry.euclidean.threed.Vector3D;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.awt.image.BufferedImage;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Test the mip map file format, the level selection and the bounded tile cache.
+ *
+ * @author <a href="mailto:m.bieri@gmx.net">Michael Bieri</a>
+ * @version 0.1
+ * @since 19.10.2026
+ */
+public class TextureTest {
+
+    private static final double DELTA = 1e-2d;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void testTexelsRoundTrip() throws Exception {
+        BufferedImage image = new BufferedImage(37, 21, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                image.setRGB(x, y, x * 7 << 16 | y * 11 << 8 | (x + y) * 3);
+            }
+        }
+
+        try (MipMapTexture texture = write(image, 8, new TileCache(1L << 20))) {
+            assertEquals(MipMapWriter.levelCount(37, 21), texture.getLevels());
+            for (int y = 0; y < image.getHeight(); y++) {
+                for (int x = 0; x < image.getWidth(); x++) {
+                    assertEquals(image.getRGB(x, y) & 0xffffff, texture.getTexel(0, x, y));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFootprintSelectsCoarseLevel() throws Exception {
+        try (MipMapTexture texture = write(checkerboard(64), 16, new TileCache(1L << 20))) {
+            /* at the finest level the texel colors are reproduced exactly */
+            Color white = texture.lookup(.5d / 64d, .5d / 64d, 0d);
+            assertEquals(1d, white.getR(), DELTA);
+            Color black = texture.lookup(1.5d / 64d, .5d / 64d, 0d);
+            assertEquals(0d, black.getR(), DELTA);
+
+            /* a footprint covering the whole texture averages all texels */
+            Color average = texture.lookup(.3d, .7d, 1d);
+            assertEquals(.5d, average.getR(), DELTA);
+            assertEquals(.5d, average.getG(), DELTA);
+        }
+    }
+
+    @Test
+    public void testCacheStaysBounded() throws Exception {
+        TileCache cache = new TileCache(16L * 4L * 8L * 8L);
+        try (MipMapTexture texture = write(checkerboard(256), 8, cache)) {
+            for (int i = 0; i < 10000; i++) {
+                texture.lookup(i * .618034d, i * .754878d, 0d);
+                assertTrue(cache.getSize() <= 2L * 16L * 4L * 8L * 8L);
+            }
+        }
+        assertTrue(cache.getMisses() > 0L);
+        assertTrue(cache.getHits() > 0L);
+    }
+
+    @Test
+    public void testParallelLookupsAreConsistent() throws Exception {
+        try (MipMapTexture texture = write(checkerboard(128), 8, new TileCache(1L << 14))) {
+            double[] sequential = IntStream.range(0, 4096)
+                    .mapToDouble(i -> texture.lookup(i * .618034d, i * .754878d, (i % 7) / 128d).getR())
+                    .toArray();
+            double[] parallel = IntStream.range(0, 4096).parallel()
+                    .mapToDouble(i -> texture.lookup(i * .618034d, i * .754878d, (i % 7) / 128d).getR())
+                    .toArray();
+            for (int i = 0; i < sequential.length; i++) {
+                assertEquals(sequential[i], parallel[i], 0d);
+            }
+        }
+    }
+
+    @Test
+    public void testPlaneShowsTexture() throws Exception {
+        BufferedImage image = new BufferedImage(4, 4, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < 4; y++) {
+            for (int x = 0; x < 4; x++) {
+                image.setRGB(x, y, 0xbc8040);
+            }
+        }
+
+        try (MipMapTexture texture = write(image, 2, new TileCache(1L << 10))) {
+            Plane plane = new Plane(Vector3D.ZERO, Vector3D.PLUS_J, Color.WHITE.scale(.5d), Material.DIFFUSE,
+                    texture);
+            Color color = plane.getColor(new Vector3D(3.25d, 0d, -1.75d), .1d);
+            assertEquals(.25d, color.getR(), DELTA);
+            assertEquals(.11d, color.getG(), DELTA);
+            assertEquals(.026d, color.getB(), DELTA);
+        }
+    }
+
+    private MipMapTexture write(final BufferedImage image, final int tileSize, final TileCache cache)
+            throws Exception {
+        Path path = folder.newFile().toPath();
+        MipMapWriter.write(image, path, tileSize);
+        return MipMapTexture.open(path, cache);
+    }
+
+    private static BufferedImage checkerboard(final int size) {
+        BufferedImage image = new BufferedImage(size, size, BufferedImage.TYPE_INT_RGB);
+        for (int y = 0; y < size; y++) {
+            for (int x = 0; x < size; x++) {
+                image.setRGB(x, y, (x + y) % 2 == 0 ? 0xffffff : 0x000000);
+            }
+        }
+        return image;
+    }
+
+}